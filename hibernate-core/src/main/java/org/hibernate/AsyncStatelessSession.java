@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.query.SelectionQuery;
+
+/**
+ * An asynchronous facade over {@link StatelessSession}, whose operations
+ * return a {@link CompletionStage} instead of blocking the calling thread.
+ * <p>
+ * Each operation is performed by a new stateless session, opened on a thread
+ * obtained from the {@link java.util.concurrent.Executor} passed to
+ * {@link SessionFactory#createAsyncStatelessSession}, and closed as soon as
+ * the operation completes. A JDBC connection is therefore held only for the
+ * duration of a single operation, and independent operations, for example,
+ * loads of unrelated entities, may be performed concurrently, each using its
+ * own connection. On Java 21 or above, an executor which starts a virtual
+ * thread per task is a natural fit:
+ * <pre>
+ * AsyncStatelessSession session =
+ *         factory.createAsyncStatelessSession( Executors.newVirtualThreadPerTaskExecutor() );
+ * CompletionStage&lt;Book&gt; book = session.get( Book.class, isbn );
+ * CompletionStage&lt;List&lt;Author&gt;&gt; authors =
+ *         session.getResultList( s -&gt; s.createSelectionQuery( "from Author where name like :name", Author.class )
+ *                 .setParameter( "name", name ) );
+ * </pre>
+ * <p>
+ * Since the stateless session is closed when the operation completes, the
+ * entities it returns are detached, and their unfetched associations cannot
+ * be {@linkplain StatelessSession#fetch fetched} later. An operation which
+ * needs to fetch associations, or to execute several statements on the same
+ * connection, may be performed via {@link #fromStatelessSession}.
+ * <p>
+ * An {@code AsyncStatelessSession} holds no resources of its own, and may be
+ * shared between threads.
+ *
+ * @see SessionFactory#createAsyncStatelessSession
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface AsyncStatelessSession {
+
+	/**
+	 * Asynchronously retrieve a record, as by {@link StatelessSession#get(Class, Object)}.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param id The id of the entity to retrieve
+	 *
+	 * @return a stage completed with the detached entity instance, or {@code null}
+	 */
+	<T> CompletionStage<T> get(Class<T> entityClass, Object id);
+
+	/**
+	 * Asynchronously retrieve multiple rows, as by {@link StatelessSession#getMultiple}.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a stage completed with a list of detached entity instances, in the
+	 *         same order as the given ids, with {@code null} elements for ids
+	 *         which have no matching row
+	 */
+	<T> CompletionStage<List<T>> getMultiple(Class<T> entityClass, List<Object> ids);
+
+	/**
+	 * Asynchronously insert multiple records, as by {@link StatelessSession#insertMultiple},
+	 * within the bounds of a new transaction.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @return a stage completed when the transaction has committed
+	 */
+	CompletionStage<Void> insertMultiple(List<?> entities);
+
+	/**
+	 * Asynchronously execute a selection query, as by
+	 * {@link SelectionQuery#getResultList()}. The query is created, and its
+	 * parameters bound, by the given function, which is called with the new
+	 * stateless session on a thread obtained from the executor.
+	 *
+	 * @param query A function which creates the query, using the given session,
+	 *              and binds its arguments, without executing it
+	 *
+	 * @return a stage completed with the query results
+	 */
+	<R> CompletionStage<List<R>> getResultList(Function<? super StatelessSession, ? extends SelectionQuery<R>> query);
+
+	/**
+	 * Asynchronously open a {@link StatelessSession}, and use it to obtain a value.
+	 *
+	 * @see SessionFactory#fromStatelessSession
+	 */
+	<R> CompletionStage<R> fromStatelessSession(Function<? super StatelessSession, R> action);
+
+	/**
+	 * Asynchronously open a {@link StatelessSession}, and use it to obtain a value
+	 * within the bounds of a transaction.
+	 *
+	 * @see SessionFactory#fromStatelessTransaction
+	 */
+	<R> CompletionStage<R> fromStatelessTransaction(Function<? super StatelessSession, R> action);
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -1329,6 +1330,32 @@ public interface Session extends SharedSessionContract, EntityManager {
 	@Override
 	<T> List<EntityGraph<? super T>> getEntityGraphs(Class<T> entityClass);
 
+	/**
+	 * Fetch the associations described by the given {@link EntityGraph} for all
+	 * the given managed instances, one level of the graph at a time.
+	 * <p>
+	 * Each unfetched association at a given level of the graph is fetched for all
+	 * the instances at that level using a single batch fetch, that is, a single
+	 * query with the identifiers passed as a SQL array, or a few queries with
+	 * {@code in} lists on databases with no array support. The number of queries
+	 * therefore depends on the depth of the graph, and not on the number of
+	 * instances or on the order in which the associations are later accessed,
+	 * while avoiding the Cartesian products resulting from join fetching several
+	 * collections.
+	 * <pre>
+	 * var graph = session.createEntityGraph(Order.class);
+	 * graph.addElementSubgraph(Order_.lines).addAttributeNode(OrderLine_.product);
+	 * session.prefetch(orders, graph);
+	 * </pre>
+	 *
+	 * @param entities managed instances of the root type of the graph, or proxies
+	 * @param graph the associations to fetch
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<T> void prefetch(Collection<? extends T> entities, EntityGraph<T> graph);
+
 	// The following overrides should not be necessary,
 	// and are only needed to work around a bug in IntelliJ
 
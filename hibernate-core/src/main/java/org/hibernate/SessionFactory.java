@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.naming.Referenceable;
@@ -302,6 +303,19 @@ default <R> R fromStatelessTransaction(Function<? super StatelessSession,R> acti
 		return fromStatelessSession( session -> manageTransaction( session, session.beginTransaction(), action ) );
 	}
 
+	/**
+	 * Obtain an {@link AsyncStatelessSession} which performs each operation
+	 * by a new {@link StatelessSession}, on a thread obtained from the given
+	 * {@link Executor}.
+	 *
+	 * @param executor The executor, for example, an executor which starts a
+	 *                 virtual thread per task
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	AsyncStatelessSession createAsyncStatelessSession(Executor executor);
+
 	/**
 	 * Create a new {@link Session}.
 	 */
@@ -4,11 +4,12 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.event.spi.PostCollectionUpdateEvent;
@@ -47,7 +48,83 @@ public CollectionUpdateAction(
 
 	@Override
 	public void execute() throws HibernateException {
-		final Object key = getKey();
+		execute( List.of( this ) );
+	}
+
+	/**
+	 * Execute updates of collections of the same role together: the collections to
+	 * recreate are removed first, then the rows removed from the other collections
+	 * are deleted, their modified rows updated, and finally the rows of all the
+	 * collections inserted. Each kind of row mutation is thus executed in the same
+	 * JDBC batch for all the owners, instead of switching batches for every owner.
+	 * <p>
+	 * The rows of the collections of different owners never overlap, so the row
+	 * mutations of each collection happen in the same order as when the updates are
+	 * {@linkplain #execute() executed} one by one.
+	 *
+	 * @param actions updates of collections of the same role
+	 */
+	public static void execute(List<CollectionUpdateAction> actions) throws HibernateException {
+		final int size = actions.size();
+		final RowMutations[] rowMutations = new RowMutations[size];
+		final DiagnosticEvent[] events = new DiagnosticEvent[size];
+		boolean success = false;
+		try {
+			for ( int i = 0; i < size; i++ ) {
+				final CollectionUpdateAction action = actions.get( i );
+				rowMutations[i] = action.beginUpdate();
+				if ( rowMutations[i] != RowMutations.NONE ) {
+					events[i] = action.getSession().getEventMonitor().beginCollectionUpdateEvent();
+				}
+			}
+			for ( int i = 0; i < size; i++ ) {
+				if ( rowMutations[i] == RowMutations.REMOVE || rowMutations[i] == RowMutations.RECREATE ) {
+					actions.get( i ).removeRows();
+				}
+			}
+			for ( int i = 0; i < size; i++ ) {
+				if ( rowMutations[i] == RowMutations.DIFF ) {
+					actions.get( i ).deleteRows();
+				}
+			}
+			for ( int i = 0; i < size; i++ ) {
+				if ( rowMutations[i] == RowMutations.DIFF ) {
+					actions.get( i ).updateRows();
+				}
+			}
+			for ( int i = 0; i < size; i++ ) {
+				if ( rowMutations[i] == RowMutations.RECREATE ) {
+					actions.get( i ).recreateRows();
+				}
+				else if ( rowMutations[i] == RowMutations.DIFF ) {
+					actions.get( i ).insertRows();
+				}
+			}
+			success = true;
+		}
+		finally {
+			for ( int i = 0; i < size; i++ ) {
+				if ( events[i] != null ) {
+					actions.get( i ).completeEvent( events[i], success );
+				}
+			}
+		}
+		for ( CollectionUpdateAction action : actions ) {
+			action.endUpdate();
+		}
+	}
+
+	/**
+	 * The row mutations needed to update the collection.
+	 */
+	private enum RowMutations {
+		NONE,
+		REMOVE,
+		RECREATE,
+		DIFF
+	}
+
+	private RowMutations beginUpdate() {
 		final SharedSessionContractImplementor session = getSession();
 		final CollectionPersister persister = getPersister();
 		final PersistentCollection<?> collection = getCollection();
@@ -63,47 +140,61 @@ public void execute() throws HibernateException {
 				throw new AssertionFailure( "collection is not dirty" );
 			}
 			// Do nothing - we only need to notify the cache
+			return RowMutations.NONE;
 		}
-		else {
-			final EventMonitor eventMonitor = session.getEventMonitor();
-			final DiagnosticEvent event = eventMonitor.beginCollectionUpdateEvent();
-			boolean success = false;
-			try {
-				if ( !affectedByFilters && collection.empty() ) {
-					if ( !emptySnapshot ) {
-						persister.remove( key, session );
-					}
-					//TODO: else we really shouldn't have sent an update event to JFR
-				}
-				else if ( collection.needsRecreate( persister ) ) {
-					if ( affectedByFilters ) {
-						throw new HibernateException( "cannot recreate collection while filter is enabled: "
-												+ collectionInfoString( persister, collection, key, session ) );
-					}
-					if ( !emptySnapshot ) {
-						persister.remove( key, session );
-					}
-					persister.recreate( collection, key, session );
-				}
-				else {
-					persister.deleteRows( collection, key, session );
-					persister.updateRows( collection, key, session );
-					persister.insertRows( collection, key, session );
-				}
-				success = true;
-			}
-			finally {
-				eventMonitor.completeCollectionUpdateEvent( event, key, persister.getRole(), success, session );
+		else if ( !affectedByFilters && collection.empty() ) {
+			//TODO: if the snapshot is empty we really shouldn't have sent an update event to JFR
+			return RowMutations.REMOVE;
+		}
+		else if ( collection.needsRecreate( persister ) ) {
+			if ( affectedByFilters ) {
+				throw new HibernateException( "cannot recreate collection while filter is enabled: "
+						+ collectionInfoString( persister, collection, getKey(), session ) );
 			}
+			return RowMutations.RECREATE;
 		}
+		else {
+			return RowMutations.DIFF;
+		}
+	}
+
+	private void removeRows() {
+		if ( !emptySnapshot ) {
+			getPersister().remove( getKey(), getSession() );
+		}
+	}
 
+	private void recreateRows() {
+		getPersister().recreate( getCollection(), getKey(), getSession() );
+	}
+
+	private void deleteRows() {
+		getPersister().deleteRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void updateRows() {
+		getPersister().updateRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void insertRows() {
+		getPersister().insertRows( getCollection(), getKey(), getSession() );
+	}
+
+	private void completeEvent(DiagnosticEvent event, boolean success) {
+		getSession().getEventMonitor()
+				.completeCollectionUpdateEvent( event, getKey(), getPersister().getRole(), success, getSession() );
+	}
+
+	private void endUpdate() {
+		final SharedSessionContractImplementor session = getSession();
+		final PersistentCollection<?> collection = getCollection();
 		session.getPersistenceContextInternal().getCollectionEntry( collection ).afterAction( collection );
 		evict();
 		postUpdate();
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.updateCollection( persister.getRole() );
+			statistics.updateCollection( getPersister().getRole() );
 		}
 	}
 
@@ -4,6 +4,8 @@
  */
 package org.hibernate.annotations;
 
+import org.hibernate.Incubating;
+
 /**
  * Enumerates methods for fetching an association from the database.
  * <p>
@@ -82,7 +84,37 @@ public enum FetchMode {
 	 *     re-execution of the initial query within a SQL subselect.
 	 * </ul>
 	 */
-	SUBSELECT;
+	SUBSELECT,
+
+	/**
+	 * Use a subquery in the select list of the initial query to
+	 * aggregate all elements of the collection into a single JSON
+	 * array, using {@code json_arrayagg()}, and populate the
+	 * collection from this array. No subsequent queries are
+	 * executed, and, unlike {@link #JOIN}, the rows of the initial
+	 * query are not duplicated, so several collections belonging
+	 * to the same entity may be fetched this way at once.
+	 * <p>
+	 * This fetching strategy is currently only available for
+	 * {@linkplain jakarta.persistence.ElementCollection collections}
+	 * of basic values which are sets or bags, and have no
+	 * {@linkplain jakarta.persistence.Convert converter}. For any
+	 * other collection, or if the {@linkplain org.hibernate.dialect.Dialect
+	 * dialect} does not support {@code json_arrayagg()}, the
+	 * collection is fetched {@linkplain jakarta.persistence.FetchType#EAGER
+	 * eagerly} using a secondary select, as for {@link #SELECT}.
+	 * The {@linkplain jakarta.persistence.OrderBy order} of the collection
+	 * is applied to the elements of the array.
+	 * <p>
+	 * This fetching strategy is incompatible with
+	 * {@linkplain  jakarta.persistence.FetchType#LAZY lazy fetching}
+	 * since the associated data is retrieved as part of the initial
+	 * query.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	JSON;
 
 	public org.hibernate.FetchMode getHibernateFetchMode() {
 		return this == JOIN
@@ -487,9 +487,11 @@ public MetadataSources addCacheableFile(String path, File cacheDirectory) {
 	 * as a file with the name {@code {xmlFile}.bin} where {@code {xmlFile}} is the
 	 * name of the original mapping file.
 	 * <p>
-	 * If a cached {@code {xmlFile}.bin} exists and is newer than {@code {xmlFile}},
-	 * the {@code {xmlFile}.bin} file will be read directly. Otherwise {@code {xmlFile}}
-	 * is read and then serialized to {@code {xmlFile}.bin} for use the next time.
+	 * If a cached {@code {xmlFile}.bin} exists and is up to date, the {@code {xmlFile}.bin}
+	 * file will be read directly. Otherwise {@code {xmlFile}} is read and then serialized
+	 * to {@code {xmlFile}.bin} for use the next time. The cached file is up to date if
+	 * {@code {xmlFile}} still has the SHA-256 digest recorded in {@code {xmlFile}.bin.sha256}
+	 * or, in the absence of a digest file, if it is newer than {@code {xmlFile}}.
 	 *
 	 * @param file The cacheable mapping file to be added, {@code {xmlFile}} in above discussion.
 	 *
@@ -505,9 +507,11 @@ public MetadataSources addCacheableFile(File file) {
 	 * as a file with the name {@code {xmlFile}.bin} where {@code {xmlFile}} is the
 	 * name of the original mapping file.
 	 * <p>
-	 * If a cached {@code {xmlFile}.bin} exists and is newer than {@code {xmlFile}},
-	 * the {@code {xmlFile}.bin} file will be read directly. Otherwise {@code {xmlFile}}
-	 * is read and then serialized to {@code {xmlFile}.bin} for use the next time.
+	 * If a cached {@code {xmlFile}.bin} exists and is up to date, the {@code {xmlFile}.bin}
+	 * file will be read directly. Otherwise {@code {xmlFile}} is read and then serialized
+	 * to {@code {xmlFile}.bin} for use the next time. The cached file is up to date if
+	 * {@code {xmlFile}} still has the SHA-256 digest recorded in {@code {xmlFile}.bin.sha256}
+	 * or, in the absence of a digest file, if it is newer than {@code {xmlFile}}.
 	 *
 	 * @param file The cacheable mapping file to be added, {@code {xmlFile}} in above discussion.
 	 *
@@ -171,6 +171,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private int maxAdaptiveBatchFetchSize;
+	private int maxParallelFetches;
+	private int statelessIdentityCacheSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
@@ -224,6 +227,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int jdbcStatementCacheSize;
+	private boolean bagDiffUpdatesEnabled;
+	private boolean untrackedReadOnlyCollectionsEnabled;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -365,6 +371,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		maxAdaptiveBatchFetchSize = getInt( MAX_ADAPTIVE_BATCH_FETCH_SIZE, settings, 0 );
+		maxParallelFetches = getInt( MAX_PARALLEL_FETCHES, settings, 1 );
+		statelessIdentityCacheSize = getInt( STATELESS_IDENTITY_CACHE_SIZE, settings, 0 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
@@ -473,6 +482,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, settings, 0 );
+		bagDiffUpdatesEnabled = getBoolean( BAG_DIFF_UPDATES, settings, false );
+		untrackedReadOnlyCollectionsEnabled = getBoolean( UNTRACKED_READ_ONLY_COLLECTIONS, settings, false );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -954,6 +966,21 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public int getMaxAdaptiveBatchFetchSize() {
+		return maxAdaptiveBatchFetchSize;
+	}
+
+	@Override
+	public int getMaxParallelFetches() {
+		return maxParallelFetches;
+	}
+
+	@Override
+	public int getStatelessIdentityCacheSize() {
+		return statelessIdentityCacheSize;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1074,6 +1101,21 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
+	@Override
+	public boolean isBagDiffUpdatesEnabled() {
+		return bagDiffUpdatesEnabled;
+	}
+
+	@Override
+	public boolean isUntrackedReadOnlyCollectionsEnabled() {
+		return untrackedReadOnlyCollectionsEnabled;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -8,7 +8,12 @@
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.jaxb.Origin;
@@ -22,6 +27,14 @@
 import org.hibernate.type.SerializationException;
 
 /**
+ * An XML mapping file whose binding is cached as a serialized file, named {@code {xmlFile}.bin}.
+ * <p>
+ * Along with the serialized binding, the SHA-256 digest of the XML content it was bound from is
+ * written as {@code {xmlFile}.bin.sha256}. When the digest file exists, the cached binding is
+ * used only if the XML file still has the same digest, whatever the timestamps of the files,
+ * which may not survive copying them around, for example in a build. Otherwise, the cached
+ * binding is used if the XML file is not newer than it.
+ *
  * @author Steve Ebersole
  */
 public class CacheableFileXmlSource extends XmlSource {
@@ -47,7 +60,7 @@ public CacheableFileXmlSource(Origin origin, File xmlFile, File cachedFileDir, b
 			}
 			if ( isSerfileObsolete() ) {
 				throw new MappingException(
-						String.format( "Cached file [%s] could not be used as the mapping file is newer", origin.getName() ),
+						String.format( "Cached file [%s] could not be used as the mapping file has changed", origin.getName() ),
 						origin
 				);
 			}
@@ -127,6 +140,7 @@ private static void writeSerFile(Serializable binding, File xmlFile, File serFil
 			if ( !success ) {
 				log.warn( "Could not update cacheable hbm.xml bin file timestamp" );
 			}
+			Files.writeString( determineDigestFile( serFile ).toPath(), digest( xmlFile ) );
 		}
 		catch ( Exception e ) {
 			log.unableToWriteCachedFile( serFile.getAbsolutePath(), e.getMessage() );
@@ -147,7 +161,38 @@ public static void createSerFile(File xmlFile, File outputFile, Binder binder) {
 	}
 
 	private boolean isSerfileObsolete() {
-		return xmlFile.exists() && serFile.exists() && xmlFile.lastModified() > serFile.lastModified();
+		if ( !xmlFile.exists() || !serFile.exists() ) {
+			return false;
+		}
+		final File digestFile = determineDigestFile( serFile );
+		if ( digestFile.exists() ) {
+			try {
+				return !Files.readString( digestFile.toPath() ).equals( digest( xmlFile ) );
+			}
+			catch (IOException e) {
+				log.debugf( "Unable to read the digest file %s: %s", digestFile, e.getMessage() );
+				return true;
+			}
+		}
+		else {
+			return xmlFile.lastModified() > serFile.lastModified();
+		}
+	}
+
+	private static File determineDigestFile(File serFile) {
+		return new File( serFile.getPath() + ".sha256" );
+	}
+
+	private static String digest(File xmlFile) throws IOException {
+		try {
+			return HexFormat.of().formatHex(
+					MessageDigest.getInstance( "SHA-256" ).digest( Files.readAllBytes( xmlFile.toPath() ) )
+			);
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
 	}
 
 }
@@ -1500,6 +1500,11 @@ private void setHibernateFetchMode(org.hibernate.annotations.FetchMode fetchMode
 				collection.setSubselectLoadable( true );
 				collection.getOwner().setSubselectLoadableCollections( true );
 				break;
+			case JSON:
+				collection.setFetchMode( FetchMode.SELECT );
+				collection.setLazy( false );
+				collection.setJsonFetched( true );
+				break;
 			default:
 				throw new AssertionFailure( "unknown fetch type" );
 		}
@@ -362,8 +362,9 @@ private static void setHibernateFetchMode(ToOne toOne, MemberDetails property, o
 				toOne.setFetchMode( FetchMode.SELECT );
 				break;
 			case SUBSELECT:
+			case JSON:
 				throw new AnnotationException( "Association '" + property.getName()
-						+ "' is annotated '@Fetch(SUBSELECT)' but is not many-valued");
+						+ "' is annotated '@Fetch(" + fetchMode + ")' but is not many-valued");
 			default:
 				throw new AssertionFailure("unknown fetch type");
 		}
@@ -189,6 +189,21 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getMaxAdaptiveBatchFetchSize() {
+		return delegate.getMaxAdaptiveBatchFetchSize();
+	}
+
+	@Override
+	public int getMaxParallelFetches() {
+		return delegate.getMaxParallelFetches();
+	}
+
+	@Override
+	public int getStatelessIdentityCacheSize() {
+		return delegate.getStatelessIdentityCacheSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -324,6 +339,21 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
+	@Override
+	public boolean isBagDiffUpdatesEnabled() {
+		return delegate.isBagDiffUpdatesEnabled();
+	}
+
+	@Override
+	public boolean isUntrackedReadOnlyCollectionsEnabled() {
+		return delegate.isUntrackedReadOnlyCollectionsEnabled();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -202,6 +202,30 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	@Incubating
+	default int getMaxAdaptiveBatchFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+	 */
+	@Incubating
+	default int getMaxParallelFetches() {
+		return 1;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#STATELESS_IDENTITY_CACHE_SIZE
+	 */
+	@Incubating
+	default int getStatelessIdentityCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -317,6 +341,30 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#BAG_DIFF_UPDATES
+	 */
+	@Incubating
+	default boolean isBagDiffUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#UNTRACKED_READ_ONLY_COLLECTIONS
+	 */
+	@Incubating
+	default boolean isUntrackedReadOnlyCollectionsEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 */
@@ -36,6 +36,10 @@ public interface BatchSettings {
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
+	 * <p>
+	 * Collection updates are also ordered by role and owner, and the updates of all the
+	 * collections of a given role are executed together, so that the rows deleted, updated,
+	 * and inserted for all the owners are batched.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfUpdates
 	 *
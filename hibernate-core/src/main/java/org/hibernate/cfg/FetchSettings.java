@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,94 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the maximum size up to which Hibernate may raise the batch size of
+	 * an entity or collection when it detects the "N+1 selects" problem, that is,
+	 * when unfetched instances of the same entity or collection role are repeatedly
+	 * fetched a few at a time within a session.
+	 * <p/>
+	 * A fetch is a miss when more instances of the entity or collection role are
+	 * waiting to be fetched than the batch loads. Every second miss within the same
+	 * session doubles the batch size used in this session, starting from its
+	 * {@linkplain BatchSize static batch size}, up to the given maximum. The increases
+	 * are reported by {@link org.hibernate.stat.EntityStatistics#getBatchSizeIncreaseCount()}
+	 * and {@link org.hibernate.stat.CollectionStatistics#getBatchSizeIncreaseCount()}.
+	 * <p/>
+	 * When enabled, every unfetched entity and collection is registered for batch
+	 * fetching, even if it has no static batch size.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MAX_ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.max_adaptive_batch_fetch_size";
+
+	/**
+	 * Specifies the maximum number of follow-up fetches of a query which Hibernate may
+	 * execute concurrently, each on an additional JDBC connection obtained from the
+	 * connection provider.
+	 * <p/>
+	 * When set to a value greater than 1, the {@linkplain jakarta.persistence.FetchType#EAGER
+	 * eager} collections of distinct roles which remain unfetched after a query are fetched
+	 * in parallel, using one query per role, instead of one after the other. Only the JDBC
+	 * execution happens concurrently: the results are always read into the persistence
+	 * context by the thread which owns the session.
+	 * <p/>
+	 * Since the additional connections do not participate in the transaction of the session,
+	 * and cannot see its uncommitted changes, collections are only fetched in parallel when
+	 * the entities being loaded are {@linkplain org.hibernate.Session#setDefaultReadOnly
+	 * read-only}, the session has not yet modified the database in its current transaction,
+	 * and never when JTA transactions are used. The additional connections are themselves
+	 * {@linkplain java.sql.Connection#setReadOnly read-only}, and see the data committed
+	 * when their query executes, as under {@code READ_COMMITTED} isolation.
+	 * <p/>
+	 * The queries run on a pool of at most this many threads, shared by all the sessions
+	 * of the {@code SessionFactory}, and at most this many additional connections are used
+	 * at once. When they are all in use, collections are fetched one after the other, on
+	 * the connection of the session.
+	 *
+	 * @settingDefault 1 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MAX_PARALLEL_FETCHES = "hibernate.max_parallel_fetches";
+
+	/**
+	 * Specifies the maximum number of entity instances a {@link org.hibernate.StatelessSession}
+	 * remembers between operations, in order to reuse them as the targets of associations
+	 * fetched by later operations.
+	 * <p/>
+	 * By default, a stateless session forgets every entity it loads as soon as the operation
+	 * which loaded it completes, and so the association targets shared by the results of
+	 * distinct queries, or distinct {@link org.hibernate.StatelessSession#fetch} calls, are
+	 * fetched, and instantiated, once per operation. When set to a positive value, the
+	 * instances loaded by an operation are remembered, up to the given number, with the
+	 * least recently used instances forgotten first. An association which a later operation
+	 * of the same transaction would fetch using a separate select, or a batch fetch, then
+	 * resolves to the remembered instance, instead of being fetched again. Explicit calls to
+	 * {@link org.hibernate.StatelessSession#get} always read the database, and the instances
+	 * they return, or which are passed to {@link org.hibernate.StatelessSession#refresh}, are
+	 * never remembered.
+	 * <p/>
+	 * The remembered instances are shared: the results of distinct operations may reference
+	 * the very same instance, so that a change made to it by the application through one of
+	 * them is visible through the others, even though it was never written to the database.
+	 * <p/>
+	 * The remembered instances are forgotten when the transaction completes, at the end of
+	 * every operation executed outside a transaction, or when they are updated, deleted, or
+	 * refreshed via the stateless session. They are all forgotten after the execution of a
+	 * mutation query, a native query, or a stored procedure call, any of which might have
+	 * modified them. They are not affected by changes made by other sessions.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATELESS_IDENTITY_CACHE_SIZE = "hibernate.stateless.identity_cache_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
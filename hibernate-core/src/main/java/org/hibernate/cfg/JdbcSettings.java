@@ -404,6 +404,29 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Specifies the maximum number of {@link java.sql.PreparedStatement}s kept open,
+	 * per JDBC connection held by a session, for reuse when the same SQL is executed
+	 * again. The least recently used statement is closed when the limit is reached,
+	 * and all statements are closed when the session releases the connection.
+	 * <p>
+	 * This is useful when neither the connection pool nor the JDBC driver caches
+	 * prepared statements, as is the case with the built-in connection pool. Only
+	 * plain queries and DML statements are cached, not calls to stored procedures,
+	 * nor statements returning generated keys.
+	 * <p>
+	 * If {@code 0}, the default, prepared statements are closed as soon as they are
+	 * no longer needed.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPrepareStatementCacheHitCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -532,6 +555,25 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String ALLOW_METADATA_ON_BOOT = "hibernate.boot.allow_jdbc_metadata_access";
 
+	/**
+	 * Specifies a directory in which the database and driver information read from JDBC
+	 * {@linkplain java.sql.DatabaseMetaData metadata} during bootstrap is stored, for the
+	 * {@linkplain #JAKARTA_JDBC_URL JDBC URL} in use.
+	 * <p>
+	 * When a snapshot for the JDBC URL exists, the Dialect is determined from it, without
+	 * obtaining a connection, as if {@value #ALLOW_METADATA_ON_BOOT} were disabled and the
+	 * database name and version were specified explicitly. The snapshot is then verified
+	 * in the background, and replaced if the database or driver changed.
+	 * <p>
+	 * The snapshot does not contain the JDBC URL itself, only a hash of it.
+	 * <p>
+	 * By default, no snapshot is stored.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String JDBC_METADATA_CACHE_DIRECTORY = "hibernate.boot.jdbc_metadata_cache_directory";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Deprecated Hibernate settings
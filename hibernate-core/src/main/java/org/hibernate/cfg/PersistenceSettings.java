@@ -176,6 +176,79 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the loaders of the entity and collection persisters are prepared
+	 * in parallel, once the mapping model is complete, by a pool of threads, one per
+	 * available processor, dedicated to the bootstrap. These threads use the context
+	 * class loader of the thread building the {@link SessionFactory}. This can reduce the time needed to build the
+	 * {@link SessionFactory} for a large domain model on a machine with many cores.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_INITIALIZATION = "hibernate.session_factory.parallel_persister_initialization";
+
+	/**
+	 * When enabled, the loaders and mutation coordinators of an entity persister, along
+	 * with their SQL, are not created when the {@link SessionFactory} is built, but the
+	 * first time the entity is loaded or written. This can reduce the time needed to
+	 * build the {@link SessionFactory} for a large domain model of which only some
+	 * entities are used by a given application.
+	 * <p>
+	 * When the {@link SessionFactory} is closed, the entities whose loaders and
+	 * coordinators were never created are reported in the log.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.session_factory.lazy_persister_initialization";
+
+	/**
+	 * When enabled, a modified bag of basic values, embeddables, or many-to-many
+	 * associations is updated by deleting and inserting only the rows of the elements
+	 * whose number of occurrences changed, instead of deleting every row of the bag
+	 * and inserting all its elements again.
+	 * <p>
+	 * Since the rows of a bag have no identifier, all the rows holding a given element
+	 * are deleted at once, using the columns of the element in the {@code where} clause.
+	 * The element must therefore be comparable in SQL, which is not the case for
+	 * {@linkplain java.sql.Clob LOBs} on most databases.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BAG_DIFF_UPDATES = "hibernate.collection.bag_diff_updates";
+
+	/**
+	 * When enabled, the collections belonging to a {@linkplain org.hibernate.Session#setReadOnly
+	 * read-only} entity are loaded without taking a snapshot of their elements. Like the
+	 * changes to the other attributes of a read-only entity, changes to these collections
+	 * are never persisted. This avoids holding a copy of every such collection in the
+	 * persistence context, which matters to sessions loading large numbers of read-only
+	 * entities, for example, for reporting purposes.
+	 * <p>
+	 * A snapshot of the current elements is taken when the entity is made modifiable.
+	 * Collections mapped with {@linkplain jakarta.persistence.OneToMany#orphanRemoval
+	 * orphan removal} are always snapshotted, since the snapshot is used to determine
+	 * the orphans of the collection.
+	 * <p>
+	 * Disabled by default, since the changes to the collections of read-only entities
+	 * are otherwise persisted.
+	 *
+	 * @see org.hibernate.Session#setDefaultReadOnly(boolean)
+	 * @see org.hibernate.query.SelectionQuery#setReadOnly(boolean)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String UNTRACKED_READ_ONLY_COLLECTIONS = "hibernate.collection.untracked_read_only";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
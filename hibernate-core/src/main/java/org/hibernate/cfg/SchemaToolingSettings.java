@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.PersistentTableStrategy;
@@ -237,6 +238,20 @@ public interface SchemaToolingSettings {
 	 */
 	String HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY = "hibernate.hbm2ddl.jdbc_metadata_extraction_strategy";
 
+	/**
+	 * The number of JDBC connections used concurrently by schema migration to read the
+	 * indexes and foreign keys of existing tables, which requires several calls to
+	 * {@link java.sql.DatabaseMetaData} for each table. Only applies with the
+	 * {@link org.hibernate.tool.schema.JdbcMetadaAccessStrategy#GROUPED grouped} strategy,
+	 * and when the connections are not provided by the application.
+	 *
+	 * @settingDefault {@code 1}, that is, all metadata is read on a single connection
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM = "hibernate.hbm2ddl.jdbc_metadata_extraction_parallelism";
+
 	/**
 	 * Identifies the delimiter to use to separate schema management statements in script
 	 * outputs.
@@ -10,6 +10,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -51,6 +52,13 @@
 	 */
 	protected Collection<E> collection;
 
+	/**
+	 * The rows to delete and insert to update this bag, when
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#BAG_DIFF_UPDATES diff updates}
+	 * are enabled, computed from the current snapshot.
+	 */
+	private transient BagDiff diff;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -287,7 +295,26 @@ public void initializeFromCache(CollectionPersister collectionDescriptor, Object
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		return !persister.isOneToMany()
+			&& ( !isDiffUpdateEnabled() || super.needsRecreate( persister ) );
+	}
+
+	private boolean isDiffUpdateEnabled() {
+		return getSession().getFactory().getSessionFactoryOptions().isBagDiffUpdatesEnabled();
+	}
+
+	private BagDiff diff(Type elementType) {
+		final Serializable snapshot = getSnapshot();
+		if ( diff == null || diff.snapshot != snapshot ) {
+			diff = new BagDiff( (List<?>) snapshot, collection, elementType );
+		}
+		return diff;
+	}
+
+	@Override
+	public void postAction() {
+		super.postAction();
+		diff = null;
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -301,6 +328,11 @@ public boolean needsRecreate(CollectionPersister persister) {
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
 		final Type elementType = persister.getElementType();
+		if ( !persister.isOneToMany() && isDiffUpdateEnabled() ) {
+			// the deletions always come first, compute the changes from scratch
+			diff = null;
+			return diff( elementType ).deletes.iterator();
+		}
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
 		final Iterator<?> olditer = sn.iterator();
@@ -333,6 +365,10 @@ public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsForm
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( isDiffUpdateEnabled()
+				&& !getSession().getFactory().getMappingMetamodel().getCollectionDescriptor( getRole() ).isOneToMany() ) {
+			return diff( elemType ).inserts[i];
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -666,4 +702,80 @@ public void operate() {
 			collection.remove( getOrphan() );
 		}
 	}
+
+	/**
+	 * The changes to the number of occurrences of each element of a bag since its
+	 * snapshot. Since the rows of a bag are identified only by the element they hold,
+	 * all the rows of an element with fewer occurrences are deleted, and its remaining
+	 * occurrences inserted again, while only the additional occurrences of an element
+	 * are inserted.
+	 */
+	private final class BagDiff {
+		private final Serializable snapshot;
+		private final List<Object> deletes = new ArrayList<>();
+		private final boolean[] inserts;
+
+		private BagDiff(List<?> snapshot, Collection<?> collection, Type elementType) {
+			this.snapshot = (Serializable) snapshot;
+
+			// group by Type.getHashCode(), as in equalsSnapshot()
+			final Map<Integer, List<Occurrences>> occurrencesByHash = new LinkedHashMap<>();
+			for ( Object element : snapshot ) {
+				if ( element != null ) {
+					occurrences( element, occurrencesByHash, elementType ).inSnapshot++;
+				}
+			}
+			final Occurrences[] occurrencesByPosition = new Occurrences[collection.size()];
+			int position = 0;
+			for ( Object element : collection ) {
+				if ( element != null ) {
+					final Occurrences occurrences = occurrences( element, occurrencesByHash, elementType );
+					occurrences.inCollection++;
+					occurrencesByPosition[position] = occurrences;
+				}
+				position++;
+			}
+
+			for ( List<Occurrences> occurrencesList : occurrencesByHash.values() ) {
+				for ( Occurrences occurrences : occurrencesList ) {
+					if ( occurrences.inCollection < occurrences.inSnapshot ) {
+						deletes.add( occurrences.element );
+					}
+				}
+			}
+			inserts = new boolean[occurrencesByPosition.length];
+			for ( int i = 0; i < inserts.length; i++ ) {
+				final Occurrences occurrences = occurrencesByPosition[i];
+				if ( occurrences != null ) {
+					inserts[i] = occurrences.inCollection < occurrences.inSnapshot
+							|| ++occurrences.seen > occurrences.inSnapshot;
+				}
+			}
+		}
+
+		private Occurrences occurrences(Object element, Map<Integer, List<Occurrences>> occurrencesByHash, Type elementType) {
+			final List<Occurrences> candidates =
+					occurrencesByHash.computeIfAbsent( nullableHashCode( element, elementType ), k -> new ArrayList<>( 1 ) );
+			for ( Occurrences candidate : candidates ) {
+				if ( elementType.isSame( candidate.element, element ) ) {
+					return candidate;
+				}
+			}
+			final Occurrences occurrences = new Occurrences( element );
+			candidates.add( occurrences );
+			return occurrences;
+		}
+	}
+
+	private static final class Occurrences {
+		// the element from the snapshot, if it was already there
+		private final Object element;
+		private int inSnapshot;
+		private int inCollection;
+		private int seen;
+
+		private Occurrences(Object element) {
+			this.element = element;
+		}
+	}
 }
@@ -115,9 +115,13 @@
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.jdbc.OptionalTableUpdateOperation;
+import org.hibernate.tool.schema.extract.internal.AbstractInformationExtractorImpl;
+import org.hibernate.tool.schema.extract.internal.InformationExtractorJdbcDatabaseMetaDataImpl;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorLegacyImpl;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorNoOpImpl;
 import org.hibernate.tool.schema.extract.spi.ColumnTypeInformation;
+import org.hibernate.tool.schema.extract.spi.ExtractionContext;
+import org.hibernate.tool.schema.extract.spi.InformationExtractor;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
 import org.hibernate.tool.schema.internal.HibernateSchemaManagementTool;
 import org.hibernate.tool.schema.internal.StandardAuxiliaryDatabaseObjectExporter;
@@ -2105,6 +2109,23 @@ public SequenceInformationExtractor getSequenceInformationExtractor() {
 				: SequenceInformationExtractorLegacyImpl.INSTANCE;
 	}
 
+	/**
+	 * An {@link InformationExtractor} which is able to extract information
+	 * about existing tables, columns, indexes, and foreign keys during schema
+	 * validation and migration.
+	 * <p>
+	 * By default, the information is obtained from {@link java.sql.DatabaseMetaData}.
+	 * A dialect may return a subclass of {@link AbstractInformationExtractorImpl}
+	 * which reads the catalog using bulk queries, for example against
+	 * {@code information_schema}, instead.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public InformationExtractor getInformationExtractor(ExtractionContext extractionContext) {
+		return new InformationExtractorJdbcDatabaseMetaDataImpl( extractionContext );
+	}
+
 	// GUID support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
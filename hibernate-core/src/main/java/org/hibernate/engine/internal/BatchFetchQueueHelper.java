@@ -12,10 +12,15 @@
 
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -93,4 +98,66 @@ public static void removeBatchLoadableEntityKey(
 			SharedSessionContractImplementor session) {
 		removeBatchLoadableEntityKey( id, entityMappingType.getEntityPersister(), session );
 	}
+
+	/**
+	 * Record that an instance of the given entity is being fetched from the
+	 * database, raising the batch size of the entity for the rest of the
+	 * session if the fetches repeatedly leave queued instances behind.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	public static void registerSingleFetch(EntityPersister persister, SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final int batchSize = influencers.effectiveBatchSize( persister );
+		final int queuedCount = session.getPersistenceContextInternal().getBatchFetchQueue()
+				.countBatchLoadableEntityKeys( persister.getEntityName() );
+		final int increasedBatchSize =
+				influencers.registerSingleFetch( persister.getNavigableRole(), batchSize, queuedCount );
+		if ( increasedBatchSize > 0 ) {
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent batchSizeIncreaseEvent = eventMonitor.beginBatchSizeIncreaseEvent();
+			eventMonitor.completeBatchSizeIncreaseEvent(
+					batchSizeIncreaseEvent,
+					session,
+					persister.getEntityName(),
+					batchSize,
+					increasedBatchSize
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.increaseEntityBatchSize( persister.getEntityName() );
+			}
+		}
+	}
+
+	/**
+	 * Record that a collection of the given role is being fetched from the
+	 * database, raising the batch size of the role for the rest of the
+	 * session if the fetches repeatedly leave queued collections behind.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	public static void registerSingleFetch(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final int batchSize = influencers.effectiveBatchSize( persister );
+		final int queuedCount = session.getPersistenceContextInternal().getBatchFetchQueue()
+				.countBatchLoadableCollections( persister.getRole() );
+		final int increasedBatchSize =
+				influencers.registerSingleFetch( persister.getNavigableRole(), batchSize, queuedCount );
+		if ( increasedBatchSize > 0 ) {
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent batchSizeIncreaseEvent = eventMonitor.beginBatchSizeIncreaseEvent();
+			eventMonitor.completeBatchSizeIncreaseEvent(
+					batchSizeIncreaseEvent,
+					session,
+					persister.getRole(),
+					batchSize,
+					increasedBatchSize
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.increaseCollectionBatchSize( persister.getRole() );
+			}
+		}
+	}
 }
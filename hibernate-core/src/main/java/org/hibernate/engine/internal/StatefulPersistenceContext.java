@@ -17,6 +17,7 @@
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
@@ -56,6 +57,8 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.loader.ast.internal.ParallelCollectionFetcher;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -1181,7 +1184,43 @@ public void addNonLazyCollection(PersistentCollection<?> collection) {
 
 	@Override
 	public void initializeNonLazyCollections() throws HibernateException {
-		initializeNonLazyCollections( PersistentCollection::forceInitialization );
+		if ( ParallelCollectionFetcher.isEnabled( session ) ) {
+			initializeNonLazyCollectionsInParallel();
+		}
+		else {
+			initializeNonLazyCollections( PersistentCollection::forceInitialization );
+		}
+	}
+
+	/**
+	 * Initialize the non-lazy collections in rounds, fetching the collections
+	 * of distinct roles of each round in parallel.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+	 */
+	private void initializeNonLazyCollectionsInParallel() {
+		if ( loadCounter == 0 ) {
+			LOG.trace( "Initializing non-lazy collections in parallel" );
+
+			loadCounter++;
+			try {
+				final ParallelCollectionFetcher fetcher = new ParallelCollectionFetcher( session );
+				while ( nonlazyCollections != null && !nonlazyCollections.isEmpty() ) {
+					//collections added while initializing this round belong to the next one
+					final List<PersistentCollection<?>> collections = nonlazyCollections;
+					nonlazyCollections = null;
+					fetcher.fetch( collections );
+					for ( int i = collections.size() - 1; i >= 0; i-- ) {
+						//the collections which couldn't be fetched in parallel are fetched here
+						collections.get( i ).forceInitialization();
+					}
+				}
+			}
+			finally {
+				loadCounter--;
+				clearNullProperties();
+			}
+		}
 	}
 
 	@Override
@@ -1808,6 +1847,34 @@ private void setEntityReadOnly(Object entity, boolean readOnly) {
 		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
+		if ( !readOnly && collectionEntries != null
+				&& session.getFactory().getSessionFactoryOptions().isUntrackedReadOnlyCollectionsEnabled() ) {
+			trackCollections( entity, entry.getPersister() );
+		}
+	}
+
+	/**
+	 * Snapshot the collections of an entity which was just made modifiable,
+	 * if they were loaded without a snapshot.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#UNTRACKED_READ_ONLY_COLLECTIONS
+	 */
+	private void trackCollections(Object entity, EntityPersister persister) {
+		persister.forEachAttributeMapping( attributeMapping -> {
+			final PluralAttributeMapping pluralAttributeMapping = attributeMapping.asPluralAttributeMapping();
+			if ( pluralAttributeMapping != null ) {
+				final CollectionPersister collectionPersister = pluralAttributeMapping.getCollectionDescriptor();
+				final Object key = collectionPersister.getCollectionType().getKeyOfOwner( entity, session );
+				final PersistentCollection<?> collection =
+						key == null ? null : getCollection( new CollectionKey( collectionPersister, key ) );
+				if ( collection != null ) {
+					final CollectionEntry collectionEntry = getCollectionEntry( collection );
+					if ( collectionEntry != null && collectionEntry.isUntracked() ) {
+						collectionEntry.track( collection );
+					}
+				}
+			}
+		} );
 	}
 
 	@Override
@@ -286,6 +286,26 @@ public Builder setSqlStateType(SQLStateType sqlStateType) {
 			return this;
 		}
 
+		public Builder setUrl(String url) {
+			this.url = url;
+			return this;
+		}
+
+		public Builder setDriver(String driver) {
+			this.driver = driver;
+			return this;
+		}
+
+		public Builder setDefaultTransactionIsolation(int defaultTransactionIsolation) {
+			this.defaultTransactionIsolation = defaultTransactionIsolation;
+			return this;
+		}
+
+		public Builder setTransactionIsolation(int transactionIsolation) {
+			this.transactionIsolation = transactionIsolation;
+			return this;
+		}
+
 		public ExtractedDatabaseMetaDataImpl build() {
 			return new ExtractedDatabaseMetaDataImpl(
 					jdbcEnvironment,
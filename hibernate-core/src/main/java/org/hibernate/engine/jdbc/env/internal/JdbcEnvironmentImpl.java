@@ -6,6 +6,10 @@
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
@@ -30,6 +34,7 @@
 import org.hibernate.exception.spi.SQLExceptionConversionDelegate;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 
@@ -40,7 +45,7 @@
 /**
  * @author Steve Ebersole
  */
-public class JdbcEnvironmentImpl implements JdbcEnvironment {
+public class JdbcEnvironmentImpl implements JdbcEnvironment, Stoppable {
 	private static final Logger log = Logger.getLogger( JdbcEnvironmentImpl.class );
 
 	public static boolean isMultiTenancyEnabled(ServiceRegistry serviceRegistry) {
@@ -61,6 +66,8 @@ public static boolean isMultiTenancyEnabled(ServiceRegistry serviceRegistry) {
 
 	private final NameQualifierSupport nameQualifierSupport;
 
+	private ExecutorService backgroundTask;
+
 	/**
 	 * Constructor form used when the JDBC {@link DatabaseMetaData} is not available.
 	 *
@@ -229,7 +236,7 @@ private NameQualifierSupport nameQualifierSupport(DatabaseMetaData databaseMetaD
 		return nameQualifierSupport == null ? determineNameQualifierSupport( databaseMetaData ) : nameQualifierSupport;
 	}
 
-	private NameQualifierSupport determineNameQualifierSupport(DatabaseMetaData databaseMetaData) throws SQLException {
+	static NameQualifierSupport determineNameQualifierSupport(DatabaseMetaData databaseMetaData) throws SQLException {
 		final boolean supportsCatalogs = databaseMetaData.supportsCatalogsInTableDefinitions();
 		final boolean supportsSchemas = databaseMetaData.supportsSchemasInTableDefinitions();
 
@@ -314,6 +321,73 @@ public JdbcEnvironmentImpl(
 		);
 	}
 
+	/**
+	 * Constructor form used when booting from a {@link JdbcMetadataSnapshot}, which
+	 * records everything the {@linkplain #JdbcEnvironmentImpl(ServiceRegistryImplementor,
+	 * Dialect, DatabaseMetaData, JdbcConnectionAccess) main constructor} reads from the
+	 * {@link DatabaseMetaData}, except for the sequence information, which is still read
+	 * lazily using the given {@link JdbcConnectionAccess}.
+	 *
+	 * @param serviceRegistry The service registry
+	 * @param dialect The dialect resolved from the snapshot
+	 * @param snapshot The snapshot of the JDBC metadata
+	 * @param url The JDBC URL
+	 */
+	JdbcEnvironmentImpl(
+			ServiceRegistryImplementor serviceRegistry,
+			Dialect dialect,
+			JdbcMetadataSnapshot snapshot,
+			String url,
+			JdbcConnectionAccess jdbcConnectionAccess) {
+		this.dialect = dialect;
+
+		this.sqlAstTranslatorFactory = resolveSqlAstTranslatorFactory( dialect );
+
+		final ConfigurationService cfgService = serviceRegistry.requireService( ConfigurationService.class );
+
+		this.sqlExceptionHelper = buildSqlExceptionHelper( dialect, logWarnings( cfgService, dialect ) );
+
+		final NameQualifierSupport dialectNameQualifierSupport = dialect.getNameQualifierSupport();
+		this.nameQualifierSupport = dialectNameQualifierSupport == null
+				? snapshot.nameQualifierSupport()
+				: dialectNameQualifierSupport;
+
+		final IdentifierHelperBuilder identifierHelperBuilder =
+				identifierHelperBuilder( cfgService, nameQualifierSupport );
+		this.identifierHelper =
+				identifierHelper( dialect, snapshot.identifierCasingMetaData(), identifierHelperBuilder );
+
+		this.extractedMetaDataSupport =
+				new ExtractedDatabaseMetaDataImpl.Builder( this, true, jdbcConnectionAccess )
+						.setConnectionCatalogName( snapshot.connectionCatalogName() )
+						.setConnectionSchemaName( snapshot.connectionSchemaName() )
+						.setSupportsRefCursors( snapshot.supportsRefCursors() )
+						.setSupportsNamedParameters( snapshot.supportsNamedParameters() )
+						.setSupportsScrollableResults( snapshot.supportsScrollableResults() )
+						.setSupportsGetGeneratedKeys( snapshot.supportsGetGeneratedKeys() )
+						.setSupportsBatchUpdates( snapshot.supportsBatchUpdates() )
+						.setSupportsDataDefinitionInTransaction( snapshot.supportsDataDefinitionInTransaction() )
+						.setDoesDataDefinitionCauseTransactionCommit( snapshot.doesDataDefinitionCauseTransactionCommit() )
+						.setSqlStateType( snapshot.sqlStateType() )
+						.setUrl( url )
+						.setDriver( snapshot.driverName() )
+						.setDefaultTransactionIsolation( snapshot.defaultTransactionIsolation() )
+						.setTransactionIsolation( snapshot.transactionIsolation() )
+						.build();
+
+		this.currentCatalog = identifierHelper.toIdentifier( extractedMetaDataSupport.getConnectionCatalogName() );
+		this.currentSchema = identifierHelper.toIdentifier( extractedMetaDataSupport.getConnectionSchemaName() );
+
+		this.qualifiedObjectNameFormatter = new QualifiedObjectNameFormatterStandardImpl(
+				nameQualifierSupport,
+				snapshot.catalogSeparator(),
+				!snapshot.catalogAtStart()
+		);
+
+		this.lobCreatorBuilder =
+				new LobCreatorBuilderImpl( dialect.useConnectionToCreateLob(), snapshot.contextualLobTypes() );
+	}
+
 	private static IdentifierHelper identifierHelper(
 			Dialect dialect, DatabaseMetaData databaseMetaData, IdentifierHelperBuilder identifierHelperBuilder) {
 		try {
@@ -415,4 +489,38 @@ public LobCreatorBuilder getLobCreatorBuilder() {
 		return lobCreatorBuilder;
 	}
 
+	EnumSet<LobTypes> getSupportedContextualLobTypes() {
+		return lobCreatorBuilder.supportedContextualLobTypes();
+	}
+
+	/**
+	 * Run the given task on a daemon thread, which is interrupted, and waited for,
+	 * when the service registry is destroyed.
+	 */
+	void runInBackground(String threadName, Runnable task) {
+		backgroundTask = Executors.newSingleThreadExecutor( runnable -> {
+			final Thread thread = new Thread( runnable, threadName );
+			thread.setDaemon( true );
+			return thread;
+		} );
+		backgroundTask.execute( task );
+		backgroundTask.shutdown();
+	}
+
+	@Override
+	public void stop() {
+		if ( backgroundTask != null ) {
+			backgroundTask.shutdownNow();
+			try {
+				if ( !backgroundTask.awaitTermination( 10, TimeUnit.SECONDS ) ) {
+					log.debug( "Background task did not terminate before the service registry was destroyed" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			backgroundTask = null;
+		}
+	}
+
 }
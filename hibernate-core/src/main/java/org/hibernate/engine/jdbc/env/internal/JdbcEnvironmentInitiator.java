@@ -25,6 +25,7 @@
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.dialect.spi.DialectFactory;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.internal.JdbcServicesImpl;
@@ -144,16 +145,38 @@ private JdbcEnvironment getJdbcEnvironment(
 		final JdbcEnvironment jdbcEnvironment;
 		final DatabaseConnectionInfo databaseConnectionInfo;
 		if ( allowJdbcMetadataAccess( configurationValues ) ) {
-			jdbcEnvironment = getJdbcEnvironmentUsingJdbcMetadata(
-					configurationValues,
-					registry,
-					dialectFactory,
-					explicitDatabaseName,
-					explicitDatabaseMajorVersion,
-					explicitDatabaseMinorVersion,
-					explicitDatabaseVersion
-			);
-			databaseConnectionInfo = buildInfo( registry, jdbcEnvironment );
+			final String snapshotUrl = JdbcMetadataSnapshot.jdbcUrl( configurationValues );
+			final JdbcMetadataSnapshot snapshot =
+					snapshotUrl == null ? null : JdbcMetadataSnapshot.read( configurationValues, snapshotUrl );
+			if ( snapshot != null ) {
+				final JdbcEnvironmentImpl snapshotJdbcEnvironment = getJdbcEnvironmentUsingSnapshot(
+						configurationValues,
+						registry,
+						dialectFactory,
+						snapshot,
+						snapshotUrl,
+						explicitDatabaseName,
+						explicitDatabaseMajorVersion,
+						explicitDatabaseMinorVersion,
+						explicitDatabaseVersion
+				);
+				verifySnapshotInBackground( configurationValues, registry, snapshotJdbcEnvironment, snapshotUrl, snapshot );
+				jdbcEnvironment = snapshotJdbcEnvironment;
+				databaseConnectionInfo = buildInfo( configurationValues, jdbcEnvironment );
+			}
+			else {
+				jdbcEnvironment = getJdbcEnvironmentUsingJdbcMetadata(
+						configurationValues,
+						registry,
+						dialectFactory,
+						explicitDatabaseName,
+						explicitDatabaseMajorVersion,
+						explicitDatabaseMinorVersion,
+						explicitDatabaseVersion,
+						snapshotUrl
+				);
+				databaseConnectionInfo = buildInfo( registry, jdbcEnvironment );
+			}
 		}
 		else if ( explicitDialectConfiguration( explicitDatabaseName, configurationValues ) ) {
 			jdbcEnvironment = getJdbcEnvironmentWithExplicitConfiguration(
@@ -225,6 +248,164 @@ private static JdbcEnvironmentImpl getJdbcEnvironmentWithExplicitConfiguration(
 		return new JdbcEnvironmentImpl( registry, dialect );
 	}
 
+	private static JdbcEnvironmentImpl getJdbcEnvironmentUsingSnapshot(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry,
+			DialectFactory dialectFactory,
+			JdbcMetadataSnapshot snapshot,
+			String snapshotUrl,
+			String explicitDatabaseName,
+			Integer explicitDatabaseMajorVersion,
+			Integer explicitDatabaseMinorVersion,
+			String explicitDatabaseVersion) {
+		final DialectResolutionInfo dialectResolutionInfo = new DialectResolutionInfoImpl(
+				null,
+				explicitDatabaseName == null ? snapshot.databaseName() : explicitDatabaseName,
+				explicitDatabaseVersion == null ? snapshot.databaseVersion() : explicitDatabaseVersion,
+				explicitDatabaseMajorVersion == null ? snapshot.databaseMajorVersion() : explicitDatabaseMajorVersion,
+				explicitDatabaseMinorVersion == null ? snapshot.databaseMinorVersion() : explicitDatabaseMinorVersion,
+				databaseMicroVersion(
+						explicitDatabaseMajorVersion,
+						explicitDatabaseMinorVersion,
+						snapshot.databaseMajorVersion(),
+						snapshot.databaseMinorVersion(),
+						snapshot.databaseMicroVersion()
+				),
+				snapshot.driverName(),
+				snapshot.driverMajorVersion(),
+				snapshot.driverMinorVersion(),
+				snapshot.sqlKeywords(),
+				configurationValues
+		);
+		final Dialect dialect = dialectFactory.buildDialect( configurationValues, () -> dialectResolutionInfo );
+		return new JdbcEnvironmentImpl(
+				registry,
+				dialect,
+				snapshot,
+				snapshotUrl,
+				buildBootstrapJdbcConnectionAccess( registry )
+		);
+	}
+
+	/**
+	 * The micro version reported by the database only makes sense along with the major
+	 * and minor versions reported by the database, so it is ignored when an explicitly
+	 * configured major or minor version differs.
+	 */
+	private static int databaseMicroVersion(
+			Integer explicitDatabaseMajorVersion,
+			Integer explicitDatabaseMinorVersion,
+			int databaseMajorVersion,
+			int databaseMinorVersion,
+			int databaseMicroVersion) {
+		return ( explicitDatabaseMajorVersion == null || explicitDatabaseMajorVersion == databaseMajorVersion )
+				&& ( explicitDatabaseMinorVersion == null || explicitDatabaseMinorVersion == databaseMinorVersion )
+				? databaseMicroVersion
+				: 0;
+	}
+
+	/**
+	 * Compare the snapshot used to boot with the current JDBC metadata, without delaying
+	 * the bootstrap, and replace the snapshot for the next boot if it is out of date.
+	 * The verification is stopped along with the service registry.
+	 */
+	private static void verifySnapshotInBackground(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry,
+			JdbcEnvironmentImpl jdbcEnvironment,
+			String snapshotUrl,
+			JdbcMetadataSnapshot snapshot) {
+		final JdbcConnectionAccess jdbcConnectionAccess = buildBootstrapJdbcConnectionAccess( registry );
+		jdbcEnvironment.runInBackground(
+				"Hibernate JDBC metadata snapshot verification",
+				() -> {
+					try {
+						final Connection connection = jdbcConnectionAccess.obtainConnection();
+						try {
+							final DatabaseMetaData metadata = connection.getMetaData();
+							final JdbcEnvironmentImpl currentJdbcEnvironment = new JdbcEnvironmentImpl(
+									registry,
+									jdbcEnvironment.getDialect(),
+									metadata,
+									jdbcConnectionAccess
+							);
+							final JdbcMetadataSnapshot currentSnapshot = snapshot( metadata, currentJdbcEnvironment );
+							if ( !currentSnapshot.equals( snapshot ) ) {
+								log.warn( "JDBC metadata snapshot was out of date, and was replaced for the next bootstrap" );
+								currentSnapshot.write( configurationValues, snapshotUrl );
+							}
+						}
+						finally {
+							jdbcConnectionAccess.releaseConnection( connection );
+						}
+					}
+					catch (Exception e) {
+						log.warn( "Unable to verify JDBC metadata snapshot against the database", e );
+					}
+				}
+		);
+	}
+
+	/**
+	 * Record the given metadata, along with the values the given environment derived from it.
+	 */
+	private static JdbcMetadataSnapshot snapshot(DatabaseMetaData metadata, JdbcEnvironmentImpl jdbcEnvironment)
+			throws SQLException {
+		final ExtractedDatabaseMetaData extractedMetaData = jdbcEnvironment.getExtractedDatabaseMetaData();
+		return new JdbcMetadataSnapshot(
+				metadata.getDatabaseProductName(),
+				metadata.getDatabaseProductVersion(),
+				metadata.getDatabaseMajorVersion(),
+				metadata.getDatabaseMinorVersion(),
+				databaseMicroVersion( metadata ),
+				metadata.getDriverName(),
+				metadata.getDriverMajorVersion(),
+				metadata.getDriverMinorVersion(),
+				metadata.getSQLKeywords(),
+				metadata.storesLowerCaseIdentifiers(),
+				metadata.storesUpperCaseIdentifiers(),
+				metadata.storesMixedCaseIdentifiers(),
+				metadata.storesLowerCaseQuotedIdentifiers(),
+				metadata.storesUpperCaseQuotedIdentifiers(),
+				metadata.storesMixedCaseQuotedIdentifiers(),
+				JdbcEnvironmentImpl.determineNameQualifierSupport( metadata ),
+				metadata.getCatalogSeparator(),
+				metadata.isCatalogAtStart(),
+				extractedMetaData.getConnectionCatalogName(),
+				extractedMetaData.getConnectionSchemaName(),
+				extractedMetaData.supportsRefCursors(),
+				extractedMetaData.supportsNamedParameters(),
+				extractedMetaData.supportsScrollableResults(),
+				extractedMetaData.supportsGetGeneratedKeys(),
+				extractedMetaData.supportsBatchUpdates(),
+				extractedMetaData.supportsDataDefinitionInTransaction(),
+				extractedMetaData.doesDataDefinitionCauseTransactionCommit(),
+				extractedMetaData.getSqlStateType(),
+				extractedMetaData.getDefaultTransactionIsolation(),
+				extractedMetaData.getTransactionIsolation(),
+				jdbcEnvironment.getSupportedContextualLobTypes()
+		);
+	}
+
+	private static int databaseMicroVersion(DatabaseMetaData metadata) throws SQLException {
+		final String version = metadata.getDatabaseProductVersion();
+		final String prefix =
+				metadata.getDatabaseMajorVersion() + "." + metadata.getDatabaseMinorVersion() + ".";
+		if ( version.startsWith(prefix) ) {
+			try {
+				final String substring = version.substring( prefix.length() );
+				final String micro = new StringTokenizer(substring," .,-:;/()[]").nextToken();
+				return parseInt(micro);
+			}
+			catch (NumberFormatException nfe) {
+				return 0;
+			}
+		}
+		else {
+			return 0;
+		}
+	}
+
 	/**
 	 * Determine whether we can access JDBC {@linkplain DatabaseMetaData metadata} based on
 	 * the {@value JdbcSettings#ALLOW_METADATA_ON_BOOT} setting. The default is to allow access.
@@ -319,7 +500,8 @@ private JdbcEnvironmentImpl getJdbcEnvironmentUsingJdbcMetadata(
 			DialectFactory dialectFactory, String explicitDatabaseName,
 			Integer explicitDatabaseMajorVersion,
 			Integer explicitDatabaseMinorVersion,
-			String explicitDatabaseVersion) {
+			String explicitDatabaseVersion,
+			String snapshotUrl) {
 		final JdbcConnectionAccess jdbcConnectionAccess = buildJdbcConnectionAccess( registry );
 		final JdbcServicesImpl jdbcServices = new JdbcServicesImpl( registry );
 		final TemporaryJdbcSessionOwner temporaryJdbcSessionOwner = new TemporaryJdbcSessionOwner(
@@ -357,21 +539,29 @@ public JdbcEnvironmentImpl execute(Connection connection) {
 										explicitDatabaseMinorVersion == null
 												? metadata.getDatabaseMinorVersion()
 												: explicitDatabaseMinorVersion,
-										explicitDatabaseMinorVersion == null
-												? databaseMicroVersion( metadata )
-												: 0,
+										databaseMicroVersion(
+												explicitDatabaseMajorVersion,
+												explicitDatabaseMinorVersion,
+												metadata.getDatabaseMajorVersion(),
+												metadata.getDatabaseMinorVersion(),
+												databaseMicroVersion( metadata )
+										),
 										metadata.getDriverName(),
 										metadata.getDriverMajorVersion(),
 										metadata.getDriverMinorVersion(),
 										metadata.getSQLKeywords(),
 										configurationValues
 								);
-								return new JdbcEnvironmentImpl(
+								final JdbcEnvironmentImpl jdbcEnvironment = new JdbcEnvironmentImpl(
 										registry,
 										dialectFactory.buildDialect( configurationValues, () -> dialectResolutionInfo ),
 										metadata,
 										jdbcConnectionAccess
 								);
+								if ( snapshotUrl != null ) {
+									snapshot( metadata, jdbcEnvironment ).write( configurationValues, snapshotUrl );
+								}
+								return jdbcEnvironment;
 							}
 							catch (SQLException e) {
 								log.unableToObtainConnectionMetadata( e );
@@ -380,25 +570,6 @@ public JdbcEnvironmentImpl execute(Connection connection) {
 							// accessing the JDBC metadata failed
 							return getJdbcEnvironmentWithDefaults( configurationValues, registry, dialectFactory );
 						}
-
-						private int databaseMicroVersion(DatabaseMetaData metadata) throws SQLException {
-							final String version = metadata.getDatabaseProductVersion();
-							final String prefix =
-									metadata.getDatabaseMajorVersion() + "." + metadata.getDatabaseMinorVersion() + ".";
-							if ( version.startsWith(prefix) ) {
-								try {
-									final String substring = version.substring( prefix.length() );
-									final String micro = new StringTokenizer(substring," .,-:;/()[]").nextToken();
-									return parseInt(micro);
-								}
-								catch (NumberFormatException nfe) {
-									return 0;
-								}
-							}
-							else {
-								return 0;
-							}
-						}
 					},
 					false
 			);
@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.env.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.hibernate.engine.jdbc.env.spi.NameQualifierSupport;
+import org.hibernate.engine.jdbc.env.spi.SQLStateType;
+
+import org.jboss.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_URL;
+import static org.hibernate.cfg.JdbcSettings.JDBC_METADATA_CACHE_DIRECTORY;
+import static org.hibernate.cfg.JdbcSettings.URL;
+import static org.hibernate.internal.util.NullnessHelper.coalesce;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * The information read from JDBC metadata during bootstrap, as stored in the
+ * {@value org.hibernate.cfg.JdbcSettings#JDBC_METADATA_CACHE_DIRECTORY} for a
+ * given JDBC URL: the database and driver information used to resolve the
+ * {@link org.hibernate.dialect.Dialect}, along with everything else a
+ * {@link JdbcEnvironmentImpl} is built from, so that a bootstrap from the
+ * snapshot is equivalent to a bootstrap which reads the metadata. The URL itself,
+ * which might contain credentials, is never written, only its SHA-256 hash.
+ * <p>
+ * The {@linkplain org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData#getSequenceInformationList
+ * sequence information} is not part of the snapshot, since it changes along with
+ * the schema. It is still read lazily from the database, when first needed.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#JDBC_METADATA_CACHE_DIRECTORY
+ */
+record JdbcMetadataSnapshot(
+		// used to resolve the Dialect
+		String databaseName,
+		String databaseVersion,
+		int databaseMajorVersion,
+		int databaseMinorVersion,
+		int databaseMicroVersion,
+		String driverName,
+		int driverMajorVersion,
+		int driverMinorVersion,
+		String sqlKeywords,
+		// how the database stores and qualifies identifiers
+		boolean storesLowerCaseIdentifiers,
+		boolean storesUpperCaseIdentifiers,
+		boolean storesMixedCaseIdentifiers,
+		boolean storesLowerCaseQuotedIdentifiers,
+		boolean storesUpperCaseQuotedIdentifiers,
+		boolean storesMixedCaseQuotedIdentifiers,
+		NameQualifierSupport nameQualifierSupport,
+		String catalogSeparator,
+		boolean catalogAtStart,
+		// the ExtractedDatabaseMetaData, and LOB support
+		String connectionCatalogName,
+		String connectionSchemaName,
+		boolean supportsRefCursors,
+		boolean supportsNamedParameters,
+		boolean supportsScrollableResults,
+		boolean supportsGetGeneratedKeys,
+		boolean supportsBatchUpdates,
+		boolean supportsDataDefinitionInTransaction,
+		boolean doesDataDefinitionCauseTransactionCommit,
+		SQLStateType sqlStateType,
+		int defaultTransactionIsolation,
+		int transactionIsolation,
+		EnumSet<LobTypes> contextualLobTypes) {
+
+	private static final Logger log = Logger.getLogger( JdbcMetadataSnapshot.class );
+
+	/**
+	 * Incremented whenever the content of the snapshot changes, so that a
+	 * snapshot written by an older version is ignored, and replaced.
+	 */
+	private static final String FORMAT_VERSION = "2";
+
+	/**
+	 * The JDBC URL the snapshot applies to, or {@code null} if snapshots are disabled,
+	 * or the JDBC URL is unknown, for example because connections come from a
+	 * {@link javax.sql.DataSource}.
+	 */
+	static String jdbcUrl(Map<String, Object> configurationValues) {
+		return getString( JDBC_METADATA_CACHE_DIRECTORY, configurationValues ) == null
+				? null
+				: coalesce( getString( JAKARTA_JDBC_URL, configurationValues ), getString( URL, configurationValues ) );
+	}
+
+	private static String hash(String jdbcUrl) {
+		try {
+			return HexFormat.of().formatHex( MessageDigest.getInstance( "SHA-256" ).digest( jdbcUrl.getBytes( UTF_8 ) ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static Path file(Map<String, Object> configurationValues, String urlHash) {
+		return Paths.get( getString( JDBC_METADATA_CACHE_DIRECTORY, configurationValues ) )
+				.resolve( "jdbc-metadata-" + urlHash + ".properties" );
+	}
+
+	/**
+	 * Read the snapshot for the given JDBC URL.
+	 *
+	 * @return the snapshot, or {@code null} if there is none, or it cannot be read
+	 */
+	static JdbcMetadataSnapshot read(Map<String, Object> configurationValues, String jdbcUrl) {
+		final String urlHash = hash( jdbcUrl );
+		final Path file = file( configurationValues, urlHash );
+		if ( !Files.isRegularFile( file ) ) {
+			return null;
+		}
+		final Properties properties = new Properties();
+		try ( Reader reader = Files.newBufferedReader( file, UTF_8 ) ) {
+			properties.load( reader );
+			if ( !urlHash.equals( properties.getProperty( "urlHash" ) )
+					|| !FORMAT_VERSION.equals( properties.getProperty( "formatVersion" ) ) ) {
+				return null;
+			}
+			return new JdbcMetadataSnapshot(
+					properties.getProperty( "databaseName" ),
+					properties.getProperty( "databaseVersion" ),
+					intProperty( properties, "databaseMajorVersion" ),
+					intProperty( properties, "databaseMinorVersion" ),
+					intProperty( properties, "databaseMicroVersion" ),
+					properties.getProperty( "driverName" ),
+					intProperty( properties, "driverMajorVersion" ),
+					intProperty( properties, "driverMinorVersion" ),
+					properties.getProperty( "sqlKeywords", "" ),
+					booleanProperty( properties, "storesLowerCaseIdentifiers" ),
+					booleanProperty( properties, "storesUpperCaseIdentifiers" ),
+					booleanProperty( properties, "storesMixedCaseIdentifiers" ),
+					booleanProperty( properties, "storesLowerCaseQuotedIdentifiers" ),
+					booleanProperty( properties, "storesUpperCaseQuotedIdentifiers" ),
+					booleanProperty( properties, "storesMixedCaseQuotedIdentifiers" ),
+					NameQualifierSupport.valueOf( properties.getProperty( "nameQualifierSupport" ) ),
+					properties.getProperty( "catalogSeparator" ),
+					booleanProperty( properties, "catalogAtStart" ),
+					properties.getProperty( "connectionCatalogName" ),
+					properties.getProperty( "connectionSchemaName" ),
+					booleanProperty( properties, "supportsRefCursors" ),
+					booleanProperty( properties, "supportsNamedParameters" ),
+					booleanProperty( properties, "supportsScrollableResults" ),
+					booleanProperty( properties, "supportsGetGeneratedKeys" ),
+					booleanProperty( properties, "supportsBatchUpdates" ),
+					booleanProperty( properties, "supportsDataDefinitionInTransaction" ),
+					booleanProperty( properties, "doesDataDefinitionCauseTransactionCommit" ),
+					SQLStateType.valueOf( properties.getProperty( "sqlStateType" ) ),
+					intProperty( properties, "defaultTransactionIsolation" ),
+					intProperty( properties, "transactionIsolation" ),
+					lobTypesProperty( properties, "contextualLobTypes" )
+			);
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read JDBC metadata snapshot '%s'", file );
+			return null;
+		}
+	}
+
+	/**
+	 * Store this snapshot for the given JDBC URL, replacing any previous snapshot.
+	 */
+	void write(Map<String, Object> configurationValues, String jdbcUrl) {
+		final String urlHash = hash( jdbcUrl );
+		final Path file = file( configurationValues, urlHash );
+		final Properties properties = new Properties();
+		properties.setProperty( "urlHash", urlHash );
+		properties.setProperty( "formatVersion", FORMAT_VERSION );
+		properties.setProperty( "databaseName", Objects.toString( databaseName, "" ) );
+		properties.setProperty( "databaseVersion", Objects.toString( databaseVersion, "" ) );
+		properties.setProperty( "databaseMajorVersion", Integer.toString( databaseMajorVersion ) );
+		properties.setProperty( "databaseMinorVersion", Integer.toString( databaseMinorVersion ) );
+		properties.setProperty( "databaseMicroVersion", Integer.toString( databaseMicroVersion ) );
+		properties.setProperty( "driverName", Objects.toString( driverName, "" ) );
+		properties.setProperty( "driverMajorVersion", Integer.toString( driverMajorVersion ) );
+		properties.setProperty( "driverMinorVersion", Integer.toString( driverMinorVersion ) );
+		properties.setProperty( "sqlKeywords", Objects.toString( sqlKeywords, "" ) );
+		properties.setProperty( "storesLowerCaseIdentifiers", Boolean.toString( storesLowerCaseIdentifiers ) );
+		properties.setProperty( "storesUpperCaseIdentifiers", Boolean.toString( storesUpperCaseIdentifiers ) );
+		properties.setProperty( "storesMixedCaseIdentifiers", Boolean.toString( storesMixedCaseIdentifiers ) );
+		properties.setProperty( "storesLowerCaseQuotedIdentifiers", Boolean.toString( storesLowerCaseQuotedIdentifiers ) );
+		properties.setProperty( "storesUpperCaseQuotedIdentifiers", Boolean.toString( storesUpperCaseQuotedIdentifiers ) );
+		properties.setProperty( "storesMixedCaseQuotedIdentifiers", Boolean.toString( storesMixedCaseQuotedIdentifiers ) );
+		properties.setProperty( "nameQualifierSupport", nameQualifierSupport.name() );
+		setNullableProperty( properties, "catalogSeparator", catalogSeparator );
+		properties.setProperty( "catalogAtStart", Boolean.toString( catalogAtStart ) );
+		setNullableProperty( properties, "connectionCatalogName", connectionCatalogName );
+		setNullableProperty( properties, "connectionSchemaName", connectionSchemaName );
+		properties.setProperty( "supportsRefCursors", Boolean.toString( supportsRefCursors ) );
+		properties.setProperty( "supportsNamedParameters", Boolean.toString( supportsNamedParameters ) );
+		properties.setProperty( "supportsScrollableResults", Boolean.toString( supportsScrollableResults ) );
+		properties.setProperty( "supportsGetGeneratedKeys", Boolean.toString( supportsGetGeneratedKeys ) );
+		properties.setProperty( "supportsBatchUpdates", Boolean.toString( supportsBatchUpdates ) );
+		properties.setProperty( "supportsDataDefinitionInTransaction", Boolean.toString( supportsDataDefinitionInTransaction ) );
+		properties.setProperty( "doesDataDefinitionCauseTransactionCommit", Boolean.toString( doesDataDefinitionCauseTransactionCommit ) );
+		properties.setProperty( "sqlStateType", sqlStateType.name() );
+		properties.setProperty( "defaultTransactionIsolation", Integer.toString( defaultTransactionIsolation ) );
+		properties.setProperty( "transactionIsolation", Integer.toString( transactionIsolation ) );
+		properties.setProperty( "contextualLobTypes", String.join( ",", contextualLobTypes.stream().map( LobTypes::name ).toList() ) );
+		try {
+			Files.createDirectories( file.getParent() );
+			// write to a temporary file first, so that a concurrent boot never reads a partial snapshot
+			final Path temporaryFile = Files.createTempFile( file.getParent(), "jdbc-metadata-", ".tmp" );
+			try ( Writer writer = Files.newBufferedWriter( temporaryFile, UTF_8 ) ) {
+				properties.store( writer, "JDBC metadata snapshot, written by Hibernate ORM" );
+			}
+			Files.move( temporaryFile, file, REPLACE_EXISTING );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to write JDBC metadata snapshot '%s'", file );
+		}
+	}
+
+	/**
+	 * A {@link DatabaseMetaData} reporting the identifier casing recorded in this
+	 * snapshot, for {@link org.hibernate.dialect.Dialect#buildIdentifierHelper}.
+	 * Every other method throws {@link SQLFeatureNotSupportedException}.
+	 */
+	DatabaseMetaData identifierCasingMetaData() {
+		return (DatabaseMetaData) Proxy.newProxyInstance(
+				DatabaseMetaData.class.getClassLoader(),
+				new Class<?>[] { DatabaseMetaData.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "storesLowerCaseIdentifiers" -> storesLowerCaseIdentifiers;
+					case "storesUpperCaseIdentifiers" -> storesUpperCaseIdentifiers;
+					case "storesMixedCaseIdentifiers" -> storesMixedCaseIdentifiers;
+					case "storesLowerCaseQuotedIdentifiers" -> storesLowerCaseQuotedIdentifiers;
+					case "storesUpperCaseQuotedIdentifiers" -> storesUpperCaseQuotedIdentifiers;
+					case "storesMixedCaseQuotedIdentifiers" -> storesMixedCaseQuotedIdentifiers;
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					case "toString" -> "DatabaseMetaData snapshot";
+					default -> throw new SQLFeatureNotSupportedException( method.getName() );
+				}
+		);
+	}
+
+	private static int intProperty(Properties properties, String name) {
+		return Integer.parseInt( properties.getProperty( name ) );
+	}
+
+	private static boolean booleanProperty(Properties properties, String name) {
+		return Boolean.parseBoolean( properties.getProperty( name ) );
+	}
+
+	private static EnumSet<LobTypes> lobTypesProperty(Properties properties, String name) {
+		final EnumSet<LobTypes> lobTypes = EnumSet.noneOf( LobTypes.class );
+		for ( String lobType : properties.getProperty( name ).split( "," ) ) {
+			if ( !lobType.isEmpty() ) {
+				lobTypes.add( LobTypes.valueOf( lobType ) );
+			}
+		}
+		return lobTypes;
+	}
+
+	private static void setNullableProperty(Properties properties, String name, String value) {
+		// a missing property is read back as null
+		if ( value != null ) {
+			properties.setProperty( name, value );
+		}
+	}
+}
@@ -32,6 +32,10 @@ public LobCreatorBuilderImpl(boolean useConnectionToCreateLob, EnumSet<LobTypes>
 		this.supportedContextualLobTypes = supportedContextualLobTypes;
 	}
 
+	EnumSet<LobTypes> supportedContextualLobTypes() {
+		return supportedContextualLobTypes;
+	}
+
 	// factory methods ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
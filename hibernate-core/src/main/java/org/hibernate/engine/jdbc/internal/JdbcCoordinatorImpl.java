@@ -26,6 +26,7 @@
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
@@ -67,6 +68,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	 */
 	private boolean releasesEnabled = true;
 
+	/**
+	 * If true, a statement which may have modified the database was executed
+	 * since the end of the last transaction.
+	 */
+	private transient boolean mutationsExecuted;
+
 	/**
 	 * Constructs a {@code JdbcCoordinatorImpl}
 	 *
@@ -78,8 +85,12 @@ public JdbcCoordinatorImpl(
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry =
-				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+		final JdbcSessionContext jdbcSessionContext = owner.getJdbcSessionContext();
+		// statements are only cached on connections obtained and released by Hibernate
+		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
+				jdbcSessionContext.getEventHandler(),
+				isUserSuppliedConnection ? 0 : jdbcSessionContext.getStatementCacheSize()
+		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
@@ -284,6 +295,7 @@ else if ( hasRegisteredResources() ) {
 	@Override
 	public void afterTransaction() {
 		transactionTimeOutInstant = -1;
+		mutationsExecuted = false;
 		switch ( connectionReleaseMode() ) {
 			case AFTER_STATEMENT:
 			case AFTER_TRANSACTION:
@@ -292,6 +304,16 @@ public void afterTransaction() {
 		}
 	}
 
+	@Override
+	public void mutationExecuted() {
+		mutationsExecuted = true;
+	}
+
+	@Override
+	public boolean hasExecutedMutations() {
+		return mutationsExecuted;
+	}
+
 	private ConnectionReleaseMode connectionReleaseMode() {
 		return getLogicalConnection().getConnectionHandlingMode().getReleaseMode();
 	}
@@ -303,6 +325,8 @@ private boolean hasRegisteredResources() {
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
+		// we can't know what the work does with the connection
+		mutationExecuted();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
 			afterStatementExecution();
@@ -6,6 +6,7 @@
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.hibernate.AssertionFailure;
@@ -14,6 +15,7 @@
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -45,6 +47,11 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
 		};
 	}
 
@@ -91,21 +98,33 @@ protected StatementPreparationTemplate(String incomingSql) {
 
 		public PreparedStatement prepareStatement() {
 			try {
-				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
-				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
-				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
-				try {
-					jdbcEventHandler.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final ResourceRegistry resourceRegistry = logicalConnection().getResourceRegistry();
+				final boolean cacheable = isCacheable();
+				PreparedStatement preparedStatement =
+						cacheable ? resourceRegistry.reuseStatement( sql, ResultSet.TYPE_FORWARD_ONLY ) : null;
+				if ( preparedStatement != null ) {
+					jdbcEventHandler.jdbcPreparedStatementReused();
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					jdbcEventHandler.jdbcPrepareStatementEnd();
+				else {
+					final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+					final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
+					try {
+						jdbcEventHandler.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						jdbcEventHandler.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
+				if ( cacheable ) {
+					resourceRegistry.cacheOnRelease( preparedStatement, sql, ResultSet.TYPE_FORWARD_ONLY );
+				}
 				return preparedStatement;
 			}
 			catch (SQLException e) {
@@ -115,6 +134,16 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * May the statement be {@linkplain ResourceRegistry#reuseStatement reused}
+		 * when the same SQL is executed again?
+		 *
+		 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+		 */
+		protected boolean isCacheable() {
+			return false;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -127,6 +127,8 @@ public ResultSet execute(PreparedStatement statement, String sql) {
 					eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
+				// used for insert ... returning and for callable statements
+				jdbcCoordinator.mutationExecuted();
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -158,6 +160,8 @@ public ResultSet execute(Statement statement, String sql) {
 					eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
+				// used for insert ... returning and for callable statements
+				jdbcCoordinator.mutationExecuted();
 				if ( !statement.execute( sql ) ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -187,6 +191,7 @@ public int executeUpdate(PreparedStatement statement, String sql) {
 				eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			jdbcExecuteStatementStart();
+			jdbcCoordinator.mutationExecuted();
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
@@ -208,6 +213,7 @@ public int executeUpdate(Statement statement, String sql) {
 				eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			jdbcExecuteStatementStart();
+			jdbcCoordinator.mutationExecuted();
 			return statement.executeUpdate( sql );
 		}
 		catch (SQLException e) {
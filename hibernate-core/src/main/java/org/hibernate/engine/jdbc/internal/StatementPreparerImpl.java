@@ -17,6 +17,7 @@
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -93,6 +94,11 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
 		};
 	}
 
@@ -148,6 +154,16 @@ public PreparedStatement doPrepare() throws SQLException {
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
 							: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
+
+			@Override
+			protected int getResultSetType() {
+				return resultSetType;
+			}
 		}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( ps );
 		return ps;
@@ -168,21 +184,33 @@ public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
-				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
-				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final ResourceRegistry resourceRegistry = logicalConnection().getResourceRegistry();
+				final boolean cacheable = isCacheable();
+				PreparedStatement preparedStatement =
+						cacheable ? resourceRegistry.reuseStatement( sql, getResultSetType() ) : null;
+				if ( preparedStatement != null ) {
+					observer.jdbcPreparedStatementReused();
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+					final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
+				if ( cacheable ) {
+					resourceRegistry.cacheOnRelease( preparedStatement, sql, getResultSetType() );
+				}
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -192,6 +220,20 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * May the statement be {@linkplain ResourceRegistry#reuseStatement reused}
+		 * when the same SQL is executed again?
+		 *
+		 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+		 */
+		protected boolean isCacheable() {
+			return false;
+		}
+
+		protected int getResultSetType() {
+			return ResultSet.TYPE_FORWARD_ONLY;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -12,6 +12,7 @@
 import java.sql.Statement;
 import java.util.function.Supplier;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -120,6 +121,28 @@ Batch getBatch(
 	 */
 	void afterStatementExecution();
 
+	/**
+	 * Signals that a statement which may have modified the database was
+	 * executed in the current transaction.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void mutationExecuted() {
+	}
+
+	/**
+	 * Was any statement which may have modified the database executed since
+	 * the end of the last transaction? If so, other connections might not see
+	 * the state of the database as it is seen from this one.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean hasExecutedMutations() {
+		return true;
+	}
+
 	/**
 	 * Perform the requested work handling exceptions, coordinating and handling return processing.
 	 *
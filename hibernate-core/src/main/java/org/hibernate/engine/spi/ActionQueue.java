@@ -636,22 +636,16 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( ComparableExecutable e : list ) {
-				try {
-					e.execute();
-				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+			if ( list == collectionUpdates && isOrderUpdatesEnabled() ) {
+				executeCollectionUpdates( collectionUpdates );
+			}
+			else {
+				for ( ComparableExecutable e : list ) {
+					try {
+						e.execute();
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					finally {
+						registerTransactionCompletionProcesses( e );
 					}
 				}
 			}
@@ -671,6 +665,52 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(ComparableExecutable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Execute the collection updates, sorted by role, together for each role, so that
+	 * their row mutations are batched across all the owners of the collections.
+	 *
+	 * @see CollectionUpdateAction#execute(List)
+	 */
+	private void executeCollectionUpdates(ExecutableList<CollectionUpdateAction> list) {
+		final int size = list.size();
+		int start = 0;
+		while ( start < size ) {
+			final String role = list.get( start ).getPrimarySortClassifier();
+			int end = start + 1;
+			while ( end < size && role.equals( list.get( end ).getPrimarySortClassifier() ) ) {
+				end++;
+			}
+			final List<CollectionUpdateAction> actions = new ArrayList<>( end - start );
+			for ( int i = start; i < end; i++ ) {
+				actions.add( list.get( i ) );
+			}
+			try {
+				CollectionUpdateAction.execute( actions );
+			}
+			finally {
+				for ( CollectionUpdateAction action : actions ) {
+					registerTransactionCompletionProcesses( action );
+				}
+			}
+			start = end;
+		}
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
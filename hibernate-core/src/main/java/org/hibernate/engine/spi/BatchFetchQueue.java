@@ -4,10 +4,13 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -28,6 +31,8 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyList;
+
 /**
  * Keeps track of:<ul>
  *     <li>entity and collection keys that are available for batch fetching</li>
@@ -176,6 +181,45 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 		}
 	}
 
+	/**
+	 * Remove the keys of the given entity type which satisfy the given
+	 * predicate from the queue.
+	 *
+	 * @return the removed keys
+	 */
+	public List<EntityKey> removeBatchLoadableEntityKeys(String entityName, Predicate<EntityKey> predicate) {
+		if ( batchLoadableEntityKeys != null ) {
+			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityName );
+			if ( set != null ) {
+				final List<EntityKey> removed = new ArrayList<>();
+				set.removeIf( key -> {
+					if ( predicate.test( key ) ) {
+						removed.add( key );
+						return true;
+					}
+					else {
+						return false;
+					}
+				} );
+				return removed;
+			}
+		}
+		return emptyList();
+	}
+
+	/**
+	 * The number of entities of the given type queued for batch fetching.
+	 */
+	public int countBatchLoadableEntityKeys(String entityName) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		else {
+			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityName );
+			return set == null ? 0 : set.size();
+		}
+	}
+
 	/**
 	 * Intended for test usage. Really has no use-case in Hibernate proper.
 	 */
@@ -359,6 +403,19 @@ public void removeBatchLoadableCollection(CollectionEntry ce) {
 	}
 
 
+	/**
+	 * The number of collections of the given role queued for batch fetching.
+	 */
+	public int countBatchLoadableCollections(String role) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		else {
+			final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map = batchLoadableCollections.get( role );
+			return map == null ? 0 : map.size();
+		}
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -42,6 +42,9 @@ public final class CollectionEntry implements Serializable {
 	// with the current database state
 	private transient @Nullable CollectionPersister loadedPersister;
 	private @Nullable Object loadedKey;
+	// the collection belongs to a read-only entity,
+	// and its elements were not snapshotted
+	private boolean untracked;
 
 	// ATTRIBUTES USED ONLY DURING FLUSH CYCLE
 
@@ -139,10 +142,12 @@ private CollectionEntry(
 			@Nullable String role,
 			Serializable snapshot,
 			Object loadedKey,
+			boolean untracked,
 			@Nullable SessionFactoryImplementor factory) {
 		this.role = role;
 		this.snapshot = snapshot;
 		this.loadedKey = loadedKey;
+		this.untracked = untracked;
 		if ( role != null ) {
 			afterDeserialize( factory );
 		}
@@ -174,16 +179,14 @@ public void preFlush(PersistentCollection<?> collection) throws HibernateExcepti
 		}
 
 		final CollectionPersister loadedPersister = getLoadedPersister();
-		final boolean nonMutableChange =
-				collection.isDirty()
-						&& loadedPersister != null
-						&& !loadedPersister.isMutable();
-		if ( nonMutableChange ) {
-			throw new HibernateException( "changed an immutable collection instance: " +
-					collectionInfoString( castNonNull( loadedPersister ).getRole(), getLoadedKey() ) );
+		if ( untracked ) {
+			// changes to the collections of read-only entities are not persisted
+			collection.clearDirty();
+		}
+		else {
+			checkMutability( collection, loadedPersister );
+			dirty( collection );
 		}
-
-		dirty( collection );
 
 		if ( LOG.isDebugEnabled() && collection.isDirty() && loadedPersister != null ) {
 			LOG.debug( "Collection dirty: " + collectionInfoString( loadedPersister.getRole(), getLoadedKey() ) );
@@ -197,10 +200,22 @@ public void preFlush(PersistentCollection<?> collection) throws HibernateExcepti
 		setDorecreate( false );
 	}
 
+	private void checkMutability(PersistentCollection<?> collection, @Nullable CollectionPersister loadedPersister) {
+		final boolean nonMutableChange =
+				collection.isDirty()
+						&& loadedPersister != null
+						&& !loadedPersister.isMutable();
+		if ( nonMutableChange ) {
+			throw new HibernateException( "changed an immutable collection instance: " +
+					collectionInfoString( castNonNull( loadedPersister ).getRole(), getLoadedKey() ) );
+		}
+	}
+
 	public void postInitialize(PersistentCollection<?> collection, SharedSessionContractImplementor session)
 			throws HibernateException {
 		final CollectionPersister loadedPersister = getLoadedPersister();
-		snapshot = loadedPersister != null && loadedPersister.isMutable()
+		untracked = loadedPersister != null && isUntracked( collection, loadedPersister, session );
+		snapshot = loadedPersister != null && loadedPersister.isMutable() && !untracked
 				? collection.getSnapshot( loadedPersister )
 				: null;
 		collection.setSnapshot( loadedKey, role, snapshot );
@@ -211,6 +226,54 @@ public void postInitialize(PersistentCollection<?> collection, SharedSessionCont
 		}
 	}
 
+	/**
+	 * Should the given collection, just loaded, be left without a snapshot?
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#UNTRACKED_READ_ONLY_COLLECTIONS
+	 */
+	private static boolean isUntracked(
+			PersistentCollection<?> collection,
+			CollectionPersister loadedPersister,
+			SharedSessionContractImplementor session) {
+		if ( session.getFactory().getSessionFactoryOptions().isUntrackedReadOnlyCollectionsEnabled()
+				&& loadedPersister.isMutable()
+				// the snapshot is needed to determine the orphans
+				&& !loadedPersister.hasOrphanDelete() ) {
+			final Object owner = collection.getOwner();
+			final EntityEntry ownerEntry =
+					owner == null ? null : session.getPersistenceContextInternal().getEntry( owner );
+			return ownerEntry != null && ownerEntry.isReadOnly();
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Take a snapshot of a collection which was loaded without one, because it
+	 * belongs to a read-only entity, when the entity is made modifiable.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#UNTRACKED_READ_ONLY_COLLECTIONS
+	 */
+	public void track(PersistentCollection<?> collection) {
+		if ( untracked ) {
+			untracked = false;
+			final CollectionPersister loadedPersister = getLoadedPersister();
+			snapshot = loadedPersister != null && collection.wasInitialized()
+					? collection.getSnapshot( loadedPersister )
+					: null;
+			collection.setSnapshot( loadedKey, role, snapshot );
+		}
+	}
+
+	/**
+	 * Was the collection loaded without a snapshot, because it belongs to a
+	 * read-only entity?
+	 */
+	public boolean isUntracked() {
+		return untracked;
+	}
+
 	/**
 	 * Called after a successful flush
 	 */
@@ -399,6 +462,8 @@ public boolean isSnapshotEmpty(PersistentCollection<?> collection) {
 		final Serializable snapshot = getSnapshot();
 		return collection.wasInitialized()
 			&& ( loadedPersister == null || loadedPersister.isMutable() )
+			// the rows of an untracked collection must still be deleted
+			&& !untracked
 			&& ( snapshot == null || collection.isSnapshotEmpty(snapshot) );
 	}
 
@@ -414,6 +479,7 @@ public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeObject( role );
 		oos.writeObject( snapshot );
 		oos.writeObject( loadedKey );
+		oos.writeBoolean( untracked );
 	}
 
 	/**
@@ -431,6 +497,7 @@ public static CollectionEntry deserialize(ObjectInputStream ois, SessionImplemen
 				(String) ois.readObject(),
 				(Serializable) ois.readObject(),
 				ois.readObject(),
+				ois.readBoolean(),
 				session == null ? null : session.getFactory()
 		);
 	}
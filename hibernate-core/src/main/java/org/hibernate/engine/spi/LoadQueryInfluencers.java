@@ -5,6 +5,7 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +22,7 @@
 import org.hibernate.internal.FilterImpl;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -58,6 +60,16 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private int batchSize = -1;
 
+	private static final int ADAPTIVE_BATCH_MISSES_BEFORE_INCREASE = 2;
+
+	private final int maxAdaptiveBatchSize;
+
+	//Lazily initialized!
+	private @Nullable HashMap<NavigableRole,Integer> adaptiveBatchSizes;
+
+	//Lazily initialized!
+	private @Nullable HashMap<NavigableRole,Integer> adaptiveBatchMisses;
+
 	private final EffectiveEntityGraph effectiveEntityGraph;
 
 	private Boolean readOnly;
@@ -65,6 +77,7 @@ public class LoadQueryInfluencers implements Serializable {
 	public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
+		maxAdaptiveBatchSize = sessionFactory.getSessionFactoryOptions().getMaxAdaptiveBatchFetchSize();
 		subselectFetchEnabled = sessionFactory.getSessionFactoryOptions().isSubselectFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 	}
@@ -72,6 +85,7 @@ public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory) {
 	public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory, SessionCreationOptions options) {
 		this.sessionFactory = sessionFactory;
 		batchSize = options.getDefaultBatchFetchSize();
+		maxAdaptiveBatchSize = sessionFactory.getSessionFactoryOptions().getMaxAdaptiveBatchFetchSize();
 		subselectFetchEnabled = options.isSubselectFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 		for ( FilterDefinition filterDefinition : sessionFactory.getAutoEnabledFilters() ) {
@@ -311,22 +325,78 @@ public int effectiveBatchSize(CollectionPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		final int staticBatchSize = persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return Math.max( staticBatchSize, getAdaptiveBatchSize( persister.getNavigableRole() ) );
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
-		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1;
+		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1 || maxAdaptiveBatchSize > 1;
 	}
 
 	public int effectiveBatchSize(EntityPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		final int staticBatchSize = persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return Math.max( staticBatchSize, getAdaptiveBatchSize( persister.getNavigableRole() ) );
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
-		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1;
+		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1 || maxAdaptiveBatchSize > 1;
+	}
+
+	/**
+	 * The batch size to which the given entity or collection role was raised
+	 * in this session, or 0 if it was never raised.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	public int getAdaptiveBatchSize(NavigableRole role) {
+		if ( adaptiveBatchSizes == null ) {
+			return 0;
+		}
+		else {
+			final Integer adaptiveBatchSize = adaptiveBatchSizes.get( role );
+			return adaptiveBatchSize == null ? 0 : adaptiveBatchSize;
+		}
+	}
+
+	/**
+	 * Record that an instance of the given entity or collection role is being
+	 * fetched. The fetch is a miss if more instances of the role are queued for
+	 * batch fetching than the batch will load, and every second miss within the
+	 * session doubles the batch size of the role, up to the
+	 * {@linkplain org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 * configured maximum}.
+	 *
+	 * @param role the entity or collection role
+	 * @param batchSize the current effective batch size of the role
+	 * @param queuedCount the number of instances of the role queued for batch
+	 * fetching, including the one being fetched
+	 *
+	 * @return the increased batch size, or 0 if it was not increased
+	 */
+	public int registerSingleFetch(NavigableRole role, int batchSize, int queuedCount) {
+		final int currentBatchSize = Math.max( batchSize, 1 );
+		if ( currentBatchSize >= maxAdaptiveBatchSize || queuedCount <= currentBatchSize ) {
+			// the batch loads every queued instance, so a larger batch would not help
+			return 0;
+		}
+		if ( adaptiveBatchMisses == null ) {
+			adaptiveBatchMisses = new HashMap<>();
+		}
+		if ( adaptiveBatchMisses.merge( role, 1, Integer::sum ) < ADAPTIVE_BATCH_MISSES_BEFORE_INCREASE ) {
+			return 0;
+		}
+		else {
+			adaptiveBatchMisses.remove( role );
+			if ( adaptiveBatchSizes == null ) {
+				adaptiveBatchSizes = new HashMap<>();
+			}
+			final int increasedBatchSize = Math.min( currentBatchSize * 2, maxAdaptiveBatchSize );
+			adaptiveBatchSizes.put( role, increasedBatchSize );
+			return increasedBatchSize;
+		}
 	}
 
 	public boolean getSubselectFetchEnabled() {
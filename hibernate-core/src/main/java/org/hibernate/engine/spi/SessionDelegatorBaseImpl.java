@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -332,6 +333,11 @@ public void afterScrollOperation() {
 		delegate.afterScrollOperation();
 	}
 
+	@Override
+	public void afterMutationQuery() {
+		delegate.afterMutationQuery();
+	}
+
 	@Override
 	public TransactionCoordinator getTransactionCoordinator() {
 		return delegate.getTransactionCoordinator();
@@ -513,6 +519,11 @@ public <T> List<EntityGraph<? super T>> getEntityGraphs(Class<T> entityClass) {
 		return delegate.getEntityGraphs( entityClass );
 	}
 
+	@Override
+	public <T> void prefetch(Collection<? extends T> entities, EntityGraph<T> graph) {
+		delegate.prefetch( entities, graph );
+	}
+
 	private QueryProducerImplementor queryDelegate() {
 		return delegate;
 	}
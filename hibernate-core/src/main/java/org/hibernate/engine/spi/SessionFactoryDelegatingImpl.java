@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.naming.NamingException;
@@ -21,6 +22,7 @@
 import jakarta.persistence.SynchronizationType;
 import jakarta.persistence.TypedQueryReference;
 
+import org.hibernate.AsyncStatelessSession;
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
@@ -37,10 +39,12 @@
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventEngine;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.event.service.spi.EventListenerGroups;
+import org.hibernate.loader.ast.spi.ParallelFetchExecutor;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
@@ -112,6 +116,11 @@ public StatelessSession openStatelessSession(Connection connection) {
 		return delegate.openStatelessSession( connection );
 	}
 
+	@Override
+	public AsyncStatelessSession createAsyncStatelessSession(Executor executor) {
+		return delegate.createAsyncStatelessSession( executor );
+	}
+
 	@Override
 	public StatisticsImplementor getStatistics() {
 		return delegate.getStatistics();
@@ -132,6 +141,16 @@ public EventEngine getEventEngine() {
 		return delegate.getEventEngine();
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return delegate.getEventMonitor();
+	}
+
+	@Override
+	public ParallelFetchExecutor getParallelFetchExecutor() {
+		return delegate.getParallelFetchExecutor();
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
@@ -20,8 +20,10 @@
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventEngine;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.loader.ast.spi.ParallelFetchExecutor;
 import org.hibernate.event.service.spi.EventListenerGroups;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
@@ -39,6 +41,8 @@
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Defines the internal contract between the {@link SessionFactory} and the internal
  * implementation of Hibernate.
@@ -142,6 +146,27 @@ default JpaMetamodel getJpaMetamodel() {
 	 */
 	EventEngine getEventEngine();
 
+	/**
+	 * Get the {@link EventMonitor} reporting diagnostic events for this SessionFactory
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	EventMonitor getEventMonitor();
+
+	/**
+	 * Get the {@link ParallelFetchExecutor} shared by the sessions of this
+	 * SessionFactory, or {@code null} if collections are not fetched in parallel.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable ParallelFetchExecutor getParallelFetchExecutor() {
+		return null;
+	}
+
 	/**
 	 * Retrieve a {@linkplain FetchProfile fetch profile} by name.
 	 *
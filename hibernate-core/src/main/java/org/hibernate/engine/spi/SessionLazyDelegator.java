@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -451,6 +452,11 @@ public <T> List<EntityGraph<? super T>> getEntityGraphs(Class<T> entityClass) {
 		return this.lazySession.get().getEntityGraphs( entityClass );
 	}
 
+	@Override
+	public <T> void prefetch(Collection<? extends T> entities, EntityGraph<T> graph) {
+		this.lazySession.get().prefetch( entities, graph );
+	}
+
 	@Override
 	public <C> void runWithConnection(ConnectionConsumer<C> action) {
 		this.lazySession.get().runWithConnection( action );
@@ -451,6 +451,20 @@ default EventSource asEventSource() {
 	 */
 	void afterScrollOperation();
 
+	/**
+	 * Called after the execution of a mutation query, native query, or
+	 * stored procedure call, any of which might have modified data in
+	 * the database, providing an opportunity for a stateless session to
+	 * forget the entities it remembers between operations. For a stateful
+	 * session, this method does nothing.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#STATELESS_IDENTITY_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default void afterMutationQuery() {
+	}
+
 	/**
 	 * Should this session be automatically closed after the current
 	 * transaction completes?
@@ -533,6 +533,11 @@ public void afterScrollOperation() {
 		delegate.afterScrollOperation();
 	}
 
+	@Override
+	public void afterMutationQuery() {
+		delegate.afterMutationQuery();
+	}
+
 	@Override
 	public boolean shouldAutoClose() {
 		return delegate.shouldAutoClose();
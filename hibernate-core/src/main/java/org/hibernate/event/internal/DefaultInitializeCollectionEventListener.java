@@ -17,6 +17,7 @@
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.engine.internal.BatchFetchQueueHelper.registerSingleFetch;
 import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
 
@@ -53,6 +54,9 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				LOG.trace( "Collection not cached" );
+				if ( source.getFactory().getSessionFactoryOptions().getMaxAdaptiveBatchFetchSize() > 0 ) {
+					registerSingleFetch( loadedPersister, source );
+				}
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				LOG.trace( "Collection initialized" );
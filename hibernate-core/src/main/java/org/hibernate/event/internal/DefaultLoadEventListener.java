@@ -36,6 +36,7 @@
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.engine.internal.BatchFetchQueueHelper.registerSingleFetch;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSecondLevelCache;
@@ -591,6 +592,11 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 						+ infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		if ( event.isAssociationFetch()
+				&& event.getFactory().getSessionFactoryOptions().getMaxAdaptiveBatchFetchSize() > 0 ) {
+			registerSingleFetch( persister, event.getSession() );
+		}
+
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -103,6 +103,20 @@ public void completeJdbcBatchExecutionEvent(DiagnosticEvent jdbcBatchExecutionEv
 
 	}
 
+	@Override
+	public DiagnosticEvent beginSqlAstTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqlAstTranslationEvent(
+			DiagnosticEvent sqlAstTranslationEvent,
+			String sql,
+			int initialBufferCapacity,
+			int bufferCapacity) {
+
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		return null;
@@ -227,6 +241,21 @@ public void completeDirtyCalculationEvent(
 
 	}
 
+	@Override
+	public DiagnosticEvent beginBatchSizeIncreaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeBatchSizeIncreaseEvent(
+			DiagnosticEvent batchSizeIncreaseEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int previousBatchSize,
+			int batchSize) {
+
+	}
+
 	@Override
 	public DiagnosticEvent beginPrePartialFlush() {
 		return null;
@@ -79,6 +79,22 @@ void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	default DiagnosticEvent beginSqlAstTranslationEvent() {
+		return null;
+	}
+
+	/**
+	 * @param initialBufferCapacity the capacity, in characters, of the buffer the SQL
+	 * was rendered into, as estimated from previous translations
+	 * @param bufferCapacity the capacity, in characters, of the buffer after rendering
+	 */
+	default void completeSqlAstTranslationEvent(
+			DiagnosticEvent sqlAstTranslationEvent,
+			String sql,
+			int initialBufferCapacity,
+			int bufferCapacity) {
+	}
+
 	DiagnosticEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -162,6 +178,23 @@ void completeDirtyCalculationEvent(
 			EntityEntry entry,
 			int[] dirtyProperties);
 
+	default DiagnosticEvent beginBatchSizeIncreaseEvent() {
+		return null;
+	}
+
+	/**
+	 * @param role the name of the entity or the role of the collection
+	 * @param previousBatchSize the batch size before the increase
+	 * @param batchSize the increased batch size
+	 */
+	default void completeBatchSizeIncreaseEvent(
+			DiagnosticEvent batchSizeIncreaseEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int previousBatchSize,
+			int batchSize) {
+	}
+
 	DiagnosticEvent beginPrePartialFlush();
 
 	void completePrePartialFlush(
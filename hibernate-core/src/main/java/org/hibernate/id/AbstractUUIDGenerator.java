@@ -5,6 +5,7 @@
 package org.hibernate.id;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.internal.util.BytesHelper;
 
@@ -33,7 +34,7 @@ public abstract class AbstractUUIDGenerator implements IdentifierGenerator {
 		IP = ipadd;
 	}
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger COUNTER = new AtomicInteger();
 	private static final int JVM = (int) ( System.currentTimeMillis() >>> 8 );
 
 	public AbstractUUIDGenerator() {
@@ -53,12 +54,8 @@ protected int getJVM() {
 	 * a millisecond)
 	 */
 	protected short getCount() {
-		synchronized(AbstractUUIDGenerator.class) {
-			if ( counter < 0 ) {
-				counter=0;
-			}
-			return counter++;
-		}
+		// counts from 0 to Short.MAX_VALUE, and then starts again at 0
+		return (short) ( COUNTER.getAndIncrement() & Short.MAX_VALUE );
 	}
 
 	/**
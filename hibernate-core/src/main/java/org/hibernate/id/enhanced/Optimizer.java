@@ -25,8 +25,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * @implNote All known implementors are synchronized. Consider carefully
-	 *           if a new implementation could drop this requirement.
+	 * @implNote All known implementors guard their state with a
+	 *           {@link java.util.concurrent.locks.Lock}, rather than by
+	 *           synchronizing, to avoid pinning virtual threads. Consider
+	 *           carefully if a new implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
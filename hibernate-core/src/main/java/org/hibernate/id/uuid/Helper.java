@@ -5,6 +5,7 @@
 package org.hibernate.id.uuid;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.internal.util.BytesHelper;
 
@@ -74,7 +75,7 @@ public static String getJvmIdentifierHexString() {
 
 	// counter ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger COUNTER = new AtomicInteger();
 
 	/**
 	 * Unique in a millisecond for this JVM instance
@@ -82,12 +83,8 @@ public static String getJvmIdentifierHexString() {
 	 * instances created in a millisecond)
 	 */
 	public static short getCountShort() {
-		synchronized ( Helper.class ) {
-			if ( counter < 0 ) {
-				counter = 0;
-			}
-			return counter++;
-		}
+		// counts from 0 to Short.MAX_VALUE, and then starts again at 0
+		return (short) ( COUNTER.getAndIncrement() & Short.MAX_VALUE );
 	}
 
 	public static byte[] getCountBytes() {
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.hibernate.AsyncStatelessSession;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+
+/**
+ * Standard implementation of {@link AsyncStatelessSession}, which performs
+ * each operation by a new {@link StatelessSession} on a thread obtained from
+ * the given {@link Executor}.
+ *
+ * @since 7.0
+ */
+public class AsyncStatelessSessionImpl implements AsyncStatelessSession {
+	private final SessionFactory factory;
+	private final Executor executor;
+
+	public AsyncStatelessSessionImpl(SessionFactory factory, Executor executor) {
+		this.factory = factory;
+		this.executor = executor;
+	}
+
+	@Override
+	public <T> CompletionStage<T> get(Class<T> entityClass, Object id) {
+		return fromStatelessSession( session -> session.get( entityClass, id ) );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> getMultiple(Class<T> entityClass, List<Object> ids) {
+		return fromStatelessSession( session -> session.getMultiple( entityClass, ids ) );
+	}
+
+	@Override
+	public CompletionStage<Void> insertMultiple(List<?> entities) {
+		return fromStatelessTransaction( session -> {
+			session.insertMultiple( entities );
+			return null;
+		} );
+	}
+
+	@Override
+	public <R> CompletionStage<List<R>> getResultList(
+			Function<? super StatelessSession, ? extends SelectionQuery<R>> query) {
+		return fromStatelessSession( session -> query.apply( session ).getResultList() );
+	}
+
+	@Override
+	public <R> CompletionStage<R> fromStatelessSession(Function<? super StatelessSession, R> action) {
+		return CompletableFuture.supplyAsync( () -> factory.fromStatelessSession( action ), executor );
+	}
+
+	@Override
+	public <R> CompletionStage<R> fromStatelessTransaction(Function<? super StatelessSession, R> action) {
+		return CompletableFuture.supplyAsync( () -> factory.fromStatelessTransaction( action ), executor );
+	}
+}
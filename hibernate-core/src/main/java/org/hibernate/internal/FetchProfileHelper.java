@@ -87,6 +87,8 @@ private static FetchStyle fetchStyle(FetchMode fetchMode) {
 			case JOIN -> FetchStyle.JOIN;
 			case SELECT -> FetchStyle.SELECT;
 			case SUBSELECT -> FetchStyle.SUBSELECT;
+			// JSON aggregation is not supported by fetch profiles
+			case JSON -> FetchStyle.SELECT;
 		};
 	}
 
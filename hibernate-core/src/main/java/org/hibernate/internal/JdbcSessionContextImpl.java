@@ -61,6 +61,11 @@ public Integer getFetchSizeOrNull() {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return settings().getJpaCompliance();
@@ -19,12 +19,14 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
 
+import org.hibernate.AsyncStatelessSession;
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.FlushMode;
@@ -83,6 +85,7 @@
 import org.hibernate.mapping.GeneratorSettings;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.RootClass;
+import org.hibernate.loader.ast.spi.ParallelFetchExecutor;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.RepresentationMode;
 import org.hibernate.metamodel.internal.RuntimeMetamodelsImpl;
@@ -93,6 +96,7 @@
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.internal.QueryEngineImpl;
@@ -134,12 +138,14 @@
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.hibernate.cfg.AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.internal.FetchProfileHelper.addFetchProfiles;
 import static org.hibernate.internal.SessionFactorySettings.deprecationCheck;
 import static org.hibernate.internal.SessionFactorySettings.determineJndiName;
 import static org.hibernate.internal.SessionFactorySettings.getSessionFactoryName;
 import static org.hibernate.internal.SessionFactorySettings.getSettings;
 import static org.hibernate.internal.SessionFactorySettings.maskOutSensitiveInformation;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.jpa.HibernateHints.HINT_TENANT_ID;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT;
@@ -213,6 +219,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	final transient ManagedBeanRegistry managedBeanRegistry;
 	final transient BatchBuilder batchBuilder;
 	final transient EventMonitor eventMonitor;
+	final transient ParallelFetchExecutor parallelFetchExecutor;
 	final transient EntityCopyObserverFactory entityCopyObserverFactory;
 	final transient ParameterMarkerStrategy parameterMarkerStrategy;
 	final transient JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
@@ -291,6 +298,12 @@ public SessionFactoryImpl(
 			final RuntimeMetamodelsImpl runtimeMetamodelsImpl = new RuntimeMetamodelsImpl( typeConfiguration );
 			runtimeMetamodels = runtimeMetamodelsImpl;
 
+			// SQL is translated while creating the runtime metamodels
+			eventMonitor = loadEventMonitor();
+
+			final int maxParallelFetches = options.getMaxParallelFetches();
+			parallelFetchExecutor = maxParallelFetches > 1 ? new ParallelFetchExecutor( maxParallelFetches ) : null;
+
 			// we build this before creating the runtime metamodels
 			// because the SqlAstTranslators (unnecessarily, perhaps)
 			// use the SqmFunctionRegistry when rendering SQL for Loaders
@@ -330,8 +343,6 @@ public SessionFactoryImpl(
 			multiTenantConnectionProvider =
 					multiTenancyEnabled ? serviceRegistry.requireService( MultiTenantConnectionProvider.class ) : null;
 
-			eventMonitor = loadEventMonitor();
-
 			eventListenerGroups = new EventListenerGroups( serviceRegistry );
 
 			// re-scope the TypeConfiguration to this SessionFactory,
@@ -576,6 +587,11 @@ public StatelessSession openStatelessSession(Connection connection) {
 		return withStatelessOptions().connection( connection ).openStatelessSession();
 	}
 
+	@Override
+	public AsyncStatelessSession createAsyncStatelessSession(Executor executor) {
+		return new AsyncStatelessSessionImpl( this, executor );
+	}
+
 	@Override
 	public void addObserver(SessionFactoryObserver observer) {
 		this.observer.addObserver( observer );
@@ -623,6 +639,16 @@ public SqlTranslationEngine getSqlTranslationEngine() {
 		return sqlTranslationEngine;
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return eventMonitor;
+	}
+
+	@Override
+	public ParallelFetchExecutor getParallelFetchExecutor() {
+		return parallelFetchExecutor;
+	}
+
 	@Override
 	public EventEngine getEventEngine() {
 		return eventEngine;
@@ -820,6 +846,9 @@ public void close() {
 			}
 
 			if ( runtimeMetamodels != null && runtimeMetamodels.getMappingMetamodel() != null ) {
+				if ( getBoolean( LAZY_PERSISTER_INITIALIZATION, settings ) ) {
+					logUninitializedPersisters();
+				}
 				final JdbcConnectionAccess jdbcConnectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
 				runtimeMetamodels.getMappingMetamodel().forEachEntityDescriptor(
 						entityPersister -> {
@@ -836,6 +865,10 @@ public void close() {
 //				runtimeMetamodels.getMappingMetamodel().close();
 			}
 
+			if ( parallelFetchExecutor != null ) {
+				parallelFetchExecutor.shutdown();
+			}
+
 			if ( queryEngine != null ) {
 				queryEngine.close();
 			}
@@ -851,6 +884,27 @@ public void close() {
 		serviceRegistry.destroy();
 	}
 
+	/**
+	 * Report the entities whose loaders and mutation coordinators were never
+	 * created, since they were never loaded or written.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	private void logUninitializedPersisters() {
+		final List<String> entityNames = new ArrayList<>();
+		runtimeMetamodels.getMappingMetamodel().forEachEntityDescriptor(
+				entityPersister -> {
+					if ( entityPersister instanceof AbstractEntityPersister abstractEntityPersister
+							&& abstractEntityPersister.isDeferredInitializationPending() ) {
+						entityNames.add( entityPersister.getEntityName() );
+					}
+				}
+		);
+		if ( !entityNames.isEmpty() ) {
+			LOG.infof( "Entities never loaded or written during the lifetime of the SessionFactory: %s", entityNames );
+		}
+	}
+
 	@Override
 	public CacheImplementor getCache() {
 		validateNotClosed();
@@ -16,6 +16,7 @@
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -106,6 +107,7 @@
 import org.hibernate.event.spi.ReplicateEvent;
 import org.hibernate.event.spi.ReplicateEventListener;
 import org.hibernate.loader.internal.CacheLoadHelper;
+import org.hibernate.loader.internal.GraphPrefetcher;
 import org.hibernate.metamodel.model.domain.ManagedDomainType;
 import org.hibernate.resource.transaction.spi.TransactionObserver;
 import org.hibernate.event.monitor.spi.EventMonitor;
@@ -113,6 +115,7 @@
 import org.hibernate.event.spi.LoadEventListener.LoadType;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.graph.spi.GraphImplementor;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.util.ExceptionHelper;
 import org.hibernate.jpa.internal.LegacySpecHelper;
@@ -2559,6 +2562,12 @@ public <T> T find(EntityGraph<T> entityGraph, Object primaryKey, FindOption... o
 		return loadAccess.withLoadGraph( graph ).load( primaryKey );
 	}
 
+	@Override
+	public <T> void prefetch(Collection<? extends T> entities, EntityGraph<T> graph) {
+		checkOpen();
+		new GraphPrefetcher( this ).prefetch( entities, (GraphImplementor<T>) graph );
+	}
+
 	private void checkTransactionNeededForLock(LockMode lockMode) {
 		if ( !LockMode.PESSIMISTIC_READ.greaterThan( lockMode ) ) {
 			checkTransactionNeededForUpdateOperation();
@@ -5,7 +5,9 @@
 package org.hibernate.internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -126,6 +128,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
+	private final IdentityCache identityCache;
 	private final boolean connectionProvided;
 	private final List<Runnable> afterCompletions = new ArrayList<>();
 
@@ -135,6 +138,8 @@ public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions o
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
 		temporaryPersistenceContext = PersistenceContexts.createPersistenceContext( this );
+		final int identityCacheSize = factory.getSessionFactoryOptions().getStatelessIdentityCacheSize();
+		identityCache = identityCacheSize > 0 ? new IdentityCache( identityCacheSize ) : null;
 		influencers = new LoadQueryInfluencers( getFactory() );
 		eventListenerGroups = factory.getEventListenerGroups();
 		setUpMultitenancy( factory, influencers );
@@ -308,6 +313,7 @@ public void delete(String entityName, Object entity) {
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = persister.getIdentifier( entity, this );
 		final Object version = persister.getVersion( entity );
+		forgetEntity( id, persister );
 		if ( !firePreDelete(entity, id, persister) ) {
 			getInterceptor().onDelete( entity, id, persister.getPropertyNames(), persister.getPropertyTypes() );
 			removeCollections( entity, id, persister );
@@ -381,6 +387,7 @@ public void update(String entityName, Object entity) {
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = persister.getIdentifier( entity, this );
 		final Object[] state = persister.getValues( entity );
+		forgetEntity( id, persister );
 		final Object oldVersion;
 		if ( persister.isVersioned() ) {
 			oldVersion = persister.getVersion( entity );
@@ -463,6 +470,7 @@ public void upsert(String entityName, Object entity) {
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = idToUpsert( entity, persister );
 		final Object[] state = persister.getValues( entity );
+		forgetEntity( id, persister );
 		if ( !firePreUpsert(entity, id, state, persister) ) {
 			getInterceptor().onUpsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
 			final Object oldVersion = versionToUpsert( entity, persister, state );
@@ -715,13 +723,13 @@ public Object get(String entityName, Object id, LockMode lockMode) {
 					loadFromSecondLevelCache( this, null, lockMode, persister,
 							generateEntityKey( id, persister ) );
 			if ( cachedEntity != null ) {
-				temporaryPersistenceContext.clear();
+				clearTemporaryPersistenceContext( id, persister );
 				return cachedEntity;
 			}
 		}
 		final Object result = persister.load( id, null, getNullSafeLockMode( lockMode ), this );
 		if ( temporaryPersistenceContext.isLoadFinished() ) {
-			temporaryPersistenceContext.clear();
+			clearTemporaryPersistenceContext( id, persister );
 		}
 		return result;
 	}
@@ -801,6 +809,7 @@ public void refresh(String entityName, Object entity, LockMode lockMode) {
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Refreshing transient {0}", infoString( persister, id, getFactory() ) );
 		}
+		forgetEntity( id, persister );
 
 		if ( persister.canWriteToCache() ) {
 			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
@@ -821,7 +830,7 @@ public void refresh(String entityName, Object entity, LockMode lockMode) {
 		);
 		UnresolvableObjectException.throwIfNull( result, id, persister.getEntityName() );
 		if ( temporaryPersistenceContext.isLoadFinished() ) {
-			temporaryPersistenceContext.clear();
+			clearTemporaryPersistenceContext( id, persister );
 		}
 	}
 
@@ -897,6 +906,15 @@ public Object internalLoad(
 			return holder.getEntity();
 		}
 
+		if ( identityCache != null ) {
+			// next, try the entities remembered from previous operations
+			final Object cachedEntity = identityCache.get( entityKey );
+			if ( cachedEntity != null ) {
+				persistenceContext.addEntity( entityKey, cachedEntity );
+				return cachedEntity;
+			}
+		}
+
 		if ( !eager ) {
 			// caller did not request forceful eager loading, see if we can create
 			// some form of proxy
@@ -955,6 +973,10 @@ else if ( !entityMetamodel.hasSubclasses() ) {
 
 		// IMPLEMENTATION NOTE: increment/decrement the load count before/after getting the value
 		//                      to ensure that #get does not clear the PersistenceContext.
+		if ( identityCache != null ) {
+			// don't batch fetch the remembered entities
+			addCachedBatchLoadableEntities( persister, persistenceContext );
+		}
 		persistenceContext.beforeLoad();
 		try {
 			return get( entityName, id );
@@ -964,6 +986,69 @@ else if ( !entityMetamodel.hasSubclasses() ) {
 		}
 	}
 
+	private void addCachedBatchLoadableEntities(EntityPersister persister, PersistenceContext persistenceContext) {
+		final List<EntityKey> cachedKeys =
+				persistenceContext.getBatchFetchQueue()
+						.removeBatchLoadableEntityKeys( persister.getEntityName(), identityCache::containsKey );
+		for ( EntityKey cachedKey : cachedKeys ) {
+			persistenceContext.addEntity( cachedKey, identityCache.get( cachedKey ) );
+		}
+	}
+
+	/**
+	 * Clear the temporary persistence context at the end of an operation, first
+	 * remembering the entities it holds, if the identity cache is enabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#STATELESS_IDENTITY_CACHE_SIZE
+	 */
+	private void clearTemporaryPersistenceContext() {
+		if ( identityCache != null ) {
+			final Map<EntityKey, EntityHolder> holders = temporaryPersistenceContext.getEntityHoldersByKey();
+			if ( holders != null ) {
+				holders.forEach( (key, holder) -> {
+					if ( holder.isInitialized() && holder.getEntity() != null ) {
+						identityCache.put( key, holder.getEntity() );
+					}
+				} );
+			}
+		}
+		temporaryPersistenceContext.clear();
+	}
+
+	/**
+	 * Clear the temporary persistence context at the end of {@link #get} or
+	 * {@link #refresh}, without remembering the instance handed to the caller,
+	 * which the caller may go on to modify.
+	 */
+	private void clearTemporaryPersistenceContext(Object id, EntityPersister persister) {
+		clearTemporaryPersistenceContext();
+		forgetEntity( id, persister );
+	}
+
+	private void forgetEntity(Object id, EntityPersister persister) {
+		if ( identityCache != null && id != null ) {
+			identityCache.remove( generateEntityKey( id, persister ) );
+		}
+	}
+
+	/**
+	 * The entities remembered between operations, with the least recently used
+	 * entity forgotten first when the cache is full.
+	 */
+	private static class IdentityCache extends LinkedHashMap<EntityKey, Object> {
+		private final int maxSize;
+
+		private IdentityCache(int maxSize) {
+			super( 16, 0.75f, true );
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<EntityKey, Object> eldest) {
+			return size() > maxSize;
+		}
+	}
+
 	private Object createProxy(EntityKey entityKey) {
 		final Object proxy = entityKey.getPersister().createProxy( entityKey.getIdentifier(), this );
 		getPersistenceContext().addProxy( entityKey, proxy );
@@ -992,7 +1077,7 @@ public void fetch(Object association) {
 					initializer.unsetSession();
 					persistenceContext.afterLoad();
 					if ( persistenceContext.isLoadFinished() ) {
-						persistenceContext.clear();
+						clearTemporaryPersistenceContext();
 					}
 				}
 			}
@@ -1008,7 +1093,7 @@ else if ( isPersistentAttributeInterceptable( association ) ) {
 				finally {
 					proxyInterceptor.unsetSession();
 					if ( persistenceContext.isLoadFinished() ) {
-						persistenceContext.clear();
+						clearTemporaryPersistenceContext();
 					}
 				}
 			}
@@ -1040,7 +1125,7 @@ else if ( association instanceof PersistentCollection<?> collection ) {
 				finally {
 					collection.unsetSession( this );
 					if ( persistenceContext.isLoadFinished() ) {
-						persistenceContext.clear();
+						clearTemporaryPersistenceContext();
 					}
 				}
 			}
@@ -1158,15 +1243,27 @@ public void setDefaultReadOnly(boolean readOnly) {
 
 
 	public void afterOperation(boolean success) {
-		temporaryPersistenceContext.clear();
+		clearTemporaryPersistenceContext();
 		if ( !isTransactionInProgress() ) {
+			if ( identityCache != null ) {
+				// without a transaction, nothing bounds the lifetime of the remembered entities
+				identityCache.clear();
+			}
 			getJdbcCoordinator().afterTransaction();
 		}
 	}
 
 	@Override
 	public void afterScrollOperation() {
-		temporaryPersistenceContext.clear();
+		clearTemporaryPersistenceContext();
+	}
+
+	@Override
+	public void afterMutationQuery() {
+		if ( identityCache != null ) {
+			// the query might have modified any of the remembered entities
+			identityCache.clear();
+		}
 	}
 
 	@Override
@@ -1202,6 +1299,9 @@ public void beforeTransactionCompletion() {
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		if ( identityCache != null ) {
+			identityCache.clear();
+		}
 		processAfterCompletions();
 		afterTransactionCompletionEvents( successful );
 		if ( shouldAutoClose() && !isClosed() ) {
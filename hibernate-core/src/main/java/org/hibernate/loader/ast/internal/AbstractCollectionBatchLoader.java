@@ -20,6 +20,7 @@
 import org.hibernate.sql.results.internal.ResultsHelper;
 
 import java.lang.reflect.Array;
+import java.util.Collection;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
@@ -100,6 +101,22 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 
 	abstract void finishInitializingKeys(Object[] key, SharedSessionContractImplementor session);
 
+	/**
+	 * Initialize the collections with the given keys, rather than the keys collected
+	 * from the {@link org.hibernate.engine.spi.BatchFetchQueue}, whatever their number.
+	 */
+	@AllowReflection
+	public void loadKeys(Collection<?> keys, SharedSessionContractImplementor session) {
+		if ( !keys.isEmpty() ) {
+			final Object[] keysToInitialize = keys.toArray( (Object[]) Array.newInstance(
+					getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
+					keys.size()
+			) );
+			initializeKeys( keysToInitialize[0], keysToInitialize, session );
+			finishInitializingKeys( keysToInitialize, session );
+		}
+	}
+
 	protected void finishInitializingKey(Object key, SharedSessionContractImplementor session) {
 		if ( key == null ) {
 			return;
@@ -4,6 +4,8 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -37,6 +39,25 @@ protected abstract void initializeEntities(
 
 	protected abstract Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session);
 
+	/**
+	 * Initialize the entities with the given ids, rather than the ids collected from
+	 * the {@link org.hibernate.engine.spi.BatchFetchQueue}, whatever their number.
+	 */
+	public void loadIds(
+			Collection<?> ids,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		if ( !ids.isEmpty() ) {
+			final Object[] idsToInitialize = toIdArray( ids );
+			initializeEntities( idsToInitialize, idsToInitialize[0], null, lockOptions, readOnly, session );
+		}
+	}
+
+	protected Object[] toIdArray(Collection<?> ids) {
+		return ids.toArray();
+	}
+
 	@Override
 	public final T load(
 			Object id,
@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.lang.reflect.Array;
+import java.util.Collection;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -165,6 +166,41 @@ private PersistentCollection<?> loadEmbeddable(
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	@Override
+	@AllowReflection
+	public void loadKeys(Collection<?> keys, SharedSessionContractImplementor session) {
+		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
+		if ( keyDescriptor.isEmbedded() && !keys.isEmpty() ) {
+			assert keyDescriptor.getJdbcTypeCount() == 1;
+			final Object[] keysToInitialize = (Object[]) Array.newInstance(
+					jdbcParameter.getExpressionType()
+							.getSingleJdbcMapping()
+							.getJdbcJavaType()
+							.getJavaTypeClass()
+							.getComponentType(),
+					keys.size()
+			);
+			int index = 0;
+			for ( Object key : keys ) {
+				final int position = index++;
+				keyDescriptor.forEachJdbcValue(
+						key,
+						(i, value, jdbcMapping) -> keysToInitialize[position] = value,
+						session
+				);
+			}
+
+			initializeKeys( keysToInitialize[0], keysToInitialize, session );
+
+			for ( Object initializedKey : keys ) {
+				finishInitializingKey( initializedKey, session );
+			}
+		}
+		else {
+			super.loadKeys( keys, session );
+		}
+	}
+
 	@Override
 	void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContractImplementor session) {
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
@@ -6,6 +6,7 @@
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Locale;
 
 import org.hibernate.LockOptions;
@@ -120,6 +121,13 @@ protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractI
 		return trimIdBatch( domainBatchSize, idsToLoad );
 	}
 
+	@Override
+	@AllowReflection
+	protected Object[] toIdArray(Collection<?> ids) {
+		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
+		return ids.toArray( (Object[]) Array.newInstance( idType, ids.size() ) );
+	}
+
 	@Override
 	protected void initializeEntities(
 			Object[] idsToInitialize,
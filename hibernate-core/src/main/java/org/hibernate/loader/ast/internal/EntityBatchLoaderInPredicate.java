@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Locale;
 
 import org.hibernate.LockOptions;
@@ -23,6 +24,7 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -118,6 +120,27 @@ protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplem
 				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
 	}
 
+	@Override
+	public void loadIds(
+			Collection<?> ids,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		if ( !ids.isEmpty() ) {
+			final Object[] idsToInitialize = toIdArray( ids );
+			// process all the given ids, as many chunks as needed
+			initializeEntities(
+					idsToInitialize,
+					countIds( idsToInitialize ),
+					idsToInitialize[0],
+					null,
+					lockOptions,
+					readOnly,
+					session
+			);
+		}
+	}
+
 	@Override
 	protected void initializeEntities(
 			Object[] idsToInitialize,
@@ -126,6 +149,17 @@ protected void initializeEntities(
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
+		initializeEntities( idsToInitialize, sqlBatchSize, pkValue, entityInstance, lockOptions, readOnly, session );
+	}
+
+	private void initializeEntities(
+			Object[] idsToInitialize,
+			int idCount,
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf( "Ids to batch-fetch initialize (`%s#%s`) %s",
 					getLoadable().getEntityName(), pkValue, Arrays.toString(idsToInitialize) );
@@ -143,7 +177,7 @@ protected void initializeEntities(
 
 		chunker.processChunks(
 				idsToInitialize,
-				sqlBatchSize,
+				idCount,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
@@ -57,7 +57,7 @@ public static JdbcMapping resolveArrayJdbcMapping(
 
 	static int countIds(Object[] ids) {
 		int count = 0;
-		for ( int i=1; i<ids.length; i++ ) {
+		for ( int i=0; i<ids.length; i++ ) {
 			if ( ids[i] != null ) {
 				count++;
 			}
@@ -0,0 +1,611 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Internal;
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.loader.ast.spi.ParallelFetchExecutor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.format.FormatMapper;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Fetches the unfetched collections of distinct roles concurrently, using one
+ * query per role, each executed on an additional connection obtained from the
+ * {@linkplain JdbcConnectionAccess connection provider}.
+ * <p>
+ * Only the execution of the queries, and the extraction of the JDBC values of
+ * their results, happen on the threads of the {@link ParallelFetchExecutor} of
+ * the factory, which never touch the session. The rows are read into the
+ * persistence context by the thread which owns the session, one role after the
+ * other, exactly as if the queries had been executed on the connection of the
+ * session.
+ * <p>
+ * If not enough additional connections are available right away, the collections
+ * are left to be loaded one after the other, on the connection of the session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+ *
+ * @since 7.0
+ */
+@Internal
+public class ParallelCollectionFetcher {
+	private final SharedSessionContractImplementor session;
+	private final ParallelFetchExecutor executor;
+	private final int maxParallelFetches;
+
+	public ParallelCollectionFetcher(SharedSessionContractImplementor session) {
+		this.session = session;
+		this.executor = session.getFactory().getParallelFetchExecutor();
+		this.maxParallelFetches = session.getFactory().getSessionFactoryOptions().getMaxParallelFetches();
+	}
+
+	/**
+	 * Are collections fetched in parallel in the given session? This requires
+	 * {@value org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES} to be greater
+	 * than 1, the entities being loaded to be read-only, the session to use
+	 * resource-local transactions, and the session to have executed no statement
+	 * which might have modified the database in the current transaction.
+	 * <p>
+	 * The additional connections only see committed data, so they would miss the
+	 * changes flushed by the session. They might, on the other hand, see changes
+	 * committed by other transactions since the current transaction started, as
+	 * under the {@code READ_COMMITTED} isolation level, even if the connection of
+	 * the session uses a stricter isolation level.
+	 */
+	public static boolean isEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getParallelFetchExecutor() != null
+				&& session.getPersistenceContextInternal().isDefaultReadOnly()
+				&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+				&& !session.getJdbcCoordinator().hasExecutedMutations();
+	}
+
+	/**
+	 * Fetch the unfetched collections among the given collections, if they belong
+	 * to more than one role. Collections which can't be fetched in parallel are left
+	 * unfetched.
+	 */
+	public void fetch(List<PersistentCollection<?>> collections) {
+		final Map<CollectionPersister, Set<Object>> keysByRole = collectKeys( collections );
+		if ( keysByRole.size() > 1 ) {
+			final List<RoleFetch> fetches = new ArrayList<>( keysByRole.size() );
+			keysByRole.forEach( (persister, keys) -> {
+				final RoleFetch fetch = createFetch( persister.getAttributeMapping(), keys );
+				if ( fetch != null ) {
+					fetches.add( fetch );
+				}
+			} );
+			if ( fetches.size() > 1 ) {
+				execute( fetches );
+			}
+		}
+	}
+
+	private Map<CollectionPersister, Set<Object>> collectKeys(List<PersistentCollection<?>> collections) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<CollectionPersister, Set<Object>> keysByRole = new LinkedHashMap<>();
+		for ( PersistentCollection<?> collection : collections ) {
+			if ( !collection.wasInitialized() && collection.getKey() != null ) {
+				final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+				final CollectionPersister persister = entry == null ? null : entry.getLoadedPersister();
+				if ( persister != null && isFetchable( persister ) ) {
+					keysByRole.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( collection.getKey() );
+				}
+			}
+		}
+		return keysByRole;
+	}
+
+	private boolean isFetchable(CollectionPersister persister) {
+		// collections with a custom loader are loaded by their named query,
+		// and cached collections are better read from the second-level cache
+		return !persister.hasCache()
+				&& !( persister instanceof AbstractCollectionPersister abstractCollectionPersister
+						&& abstractCollectionPersister.getCollectionLoader() instanceof CollectionLoaderNamedQuery );
+	}
+
+	private RoleFetch createFetch(PluralAttributeMapping attributeMapping, Set<Object> keys) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int keyColumnCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
+		final int inExpressionCountLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 && keys.size() * keyColumnCount > inExpressionCountLimit ) {
+			// too many keys for a single query
+			return null;
+		}
+
+		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder();
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				keys.size(),
+				session.getLoadQueryInfluencers(),
+				LockOptions.NONE,
+				jdbcParametersBuilder::add,
+				factory
+		);
+		final QuerySpec querySpec = sqlAst.getQueryPart().getFirstQuerySpec();
+		attributeMapping.applySoftDeleteRestrictions(
+				querySpec.getFromClause().getRoots().get( 0 ),
+				querySpec::applyPredicate
+		);
+
+		final List<SqlSelection> sqlSelections = querySpec.getSelectClause().getSqlSelections();
+		if ( hasLobs( sqlSelections ) ) {
+			// LOB locators can't be read once the additional connection is released
+			return null;
+		}
+
+		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		int offset = 0;
+		for ( Object key : keys ) {
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					key,
+					offset,
+					attributeMapping.getKeyDescriptor(),
+					jdbcParameters,
+					session
+			);
+		}
+		assert offset == jdbcParameters.size();
+
+		final JdbcOperationQuerySelect jdbcSelect = factory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( factory, sqlAst )
+				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final List<JdbcParameterBinding> orderedBindings = orderedBindings( jdbcSelect, jdbcParameterBindings );
+		if ( orderedBindings == null ) {
+			// the worker threads can only bind plain parameter values
+			return null;
+		}
+		final String inspectedSql = session.getJdbcSessionContext()
+				.getStatementInspector()
+				.inspect( jdbcSelect.getSqlString() );
+		return new RoleFetch(
+				attributeMapping,
+				keys,
+				sqlAst,
+				jdbcParameters,
+				jdbcParameterBindings,
+				jdbcSelect,
+				inspectedSql == null ? jdbcSelect.getSqlString() : inspectedSql,
+				sqlSelections,
+				orderedBindings
+		);
+	}
+
+	/**
+	 * The bindings of the parameters of the given query, in the order in which
+	 * they occur in its SQL, or {@code null} if some parameter is not a plain
+	 * {@link JdbcParameter} bound to a value of a known type.
+	 */
+	private static List<JdbcParameterBinding> orderedBindings(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings) {
+		final List<JdbcParameterBinder> parameterBinders = jdbcSelect.getParameterBinders();
+		final List<JdbcParameterBinding> bindings = new ArrayList<>( parameterBinders.size() );
+		for ( JdbcParameterBinder parameterBinder : parameterBinders ) {
+			if ( !( parameterBinder instanceof JdbcParameter jdbcParameter ) ) {
+				return null;
+			}
+			final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( jdbcParameter );
+			if ( binding == null || binding.getBindType() == null ) {
+				return null;
+			}
+			bindings.add( binding );
+		}
+		return bindings;
+	}
+
+	private static boolean hasLobs(List<SqlSelection> sqlSelections) {
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			if ( expressionType != null
+					&& expressionType.getJdbcTypeCount() == 1
+					&& expressionType.getSingleJdbcMapping().getJdbcType().isLob() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void execute(List<RoleFetch> fetches) {
+		final int parallelism =
+				executor.tryAcquireConnections( Math.min( fetches.size(), maxParallelFetches ) );
+		if ( parallelism < 2 ) {
+			// too many parallel fetches in progress, don't wait for them
+			executor.releaseConnections( parallelism );
+			MULTI_KEY_LOAD_LOGGER.debug( "No additional connections available, fetching collections sequentially" );
+			return;
+		}
+
+		final SqlExceptionHelper sqlExceptionHelper = session.getJdbcServices().getSqlExceptionHelper();
+		final JdbcConnectionAccess connectionAccess = session.getJdbcConnectionAccess();
+		final List<BorrowedConnection> borrowedConnections = new ArrayList<>( parallelism );
+		try {
+			// the connections are obtained, and later released, by the thread which
+			// owns the session, since the session event listeners are not thread-safe
+			for ( int i = 0; i < parallelism; i++ ) {
+				borrowedConnections.add( BorrowedConnection.borrow( connectionAccess ) );
+			}
+		}
+		catch (SQLException e) {
+			sqlExceptionHelper.logExceptions( e, "Unable to obtain a connection for a parallel fetch" );
+			release( borrowedConnections, connectionAccess, sqlExceptionHelper );
+			executor.releaseConnections( parallelism );
+			MULTI_KEY_LOAD_LOGGER.debug( "Could not obtain additional connections, fetching collections sequentially" );
+			return;
+		}
+
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf(
+					"Fetching collections of %s roles on %s additional connections",
+					fetches.size(),
+					parallelism
+			);
+		}
+
+		final BlockingQueue<Connection> connections = new ArrayBlockingQueue<>( parallelism );
+		for ( BorrowedConnection borrowedConnection : borrowedConnections ) {
+			connections.add( borrowedConnection.connection() );
+		}
+		// the workers must not touch the session
+		final WrapperOptions wrapperOptions = new DetachedWrapperOptions( session );
+		final SqlStatementLogger sqlStatementLogger = session.getJdbcServices().getSqlStatementLogger();
+		final AtomicBoolean aborted = new AtomicBoolean();
+		final List<Future<List<Object[]>>> results = new ArrayList<>( fetches.size() );
+		try {
+			for ( RoleFetch fetch : fetches ) {
+				results.add( executor.submit(
+						() -> fetch.execute( connections, aborted, wrapperOptions, sqlStatementLogger )
+				) );
+			}
+			for ( int i = 0; i < fetches.size(); i++ ) {
+				final RoleFetch fetch = fetches.get( i );
+				fetch.initializeCollections( awaitRows( results.get( i ), fetch, sqlExceptionHelper ) );
+			}
+		}
+		finally {
+			aborted.set( true );
+			// the running queries must complete before their connections are released
+			awaitCompletion( results );
+			release( borrowedConnections, connectionAccess, sqlExceptionHelper );
+			executor.releaseConnections( parallelism );
+		}
+	}
+
+	private static void release(
+			List<BorrowedConnection> borrowedConnections,
+			JdbcConnectionAccess connectionAccess,
+			SqlExceptionHelper sqlExceptionHelper) {
+		for ( BorrowedConnection borrowedConnection : borrowedConnections ) {
+			borrowedConnection.release( connectionAccess, sqlExceptionHelper );
+		}
+	}
+
+	private static List<Object[]> awaitRows(
+			Future<List<Object[]>> result,
+			RoleFetch fetch,
+			SqlExceptionHelper sqlExceptionHelper) {
+		try {
+			return result.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for a parallel fetch", e );
+		}
+		catch (CancellationException e) {
+			throw new HibernateException( "Parallel fetch cancelled since the SessionFactory was closed", e );
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException sqlException ) {
+				throw sqlExceptionHelper.convert( sqlException, "Could not fetch collections in parallel", fetch.sql );
+			}
+			else if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( cause instanceof Error error ) {
+				throw error;
+			}
+			else {
+				throw new HibernateException( "Could not fetch collections in parallel", cause );
+			}
+		}
+	}
+
+	private static void awaitCompletion(List<Future<List<Object[]>>> results) {
+		boolean interrupted = false;
+		for ( Future<List<Object[]>> result : results ) {
+			while ( !result.isDone() ) {
+				try {
+					result.get();
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+				catch (ExecutionException | CancellationException e) {
+					// already reported, or superseded by the failure being propagated
+				}
+			}
+		}
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * The query fetching the collections of one role.
+	 */
+	private class RoleFetch {
+		private final PluralAttributeMapping attributeMapping;
+		private final Set<Object> keys;
+		private final SelectStatement sqlAst;
+		private final JdbcParametersList jdbcParameters;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final String sql;
+		private final List<SqlSelection> sqlSelections;
+		private final List<JdbcParameterBinding> orderedBindings;
+
+		RoleFetch(
+				PluralAttributeMapping attributeMapping,
+				Set<Object> keys,
+				SelectStatement sqlAst,
+				JdbcParametersList jdbcParameters,
+				JdbcParameterBindings jdbcParameterBindings,
+				JdbcOperationQuerySelect jdbcSelect,
+				String sql,
+				List<SqlSelection> sqlSelections,
+				List<JdbcParameterBinding> orderedBindings) {
+			this.attributeMapping = attributeMapping;
+			this.keys = keys;
+			this.sqlAst = sqlAst;
+			this.jdbcParameters = jdbcParameters;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.jdbcSelect = jdbcSelect;
+			this.sql = sql;
+			this.sqlSelections = sqlSelections;
+			this.orderedBindings = orderedBindings;
+		}
+
+		/**
+		 * Execute the query, on a connection taken from the given queue, and
+		 * extract the JDBC values of its result. Called by a worker thread,
+		 * which must not touch the session or its persistence context.
+		 */
+		List<Object[]> execute(
+				BlockingQueue<Connection> connections,
+				AtomicBoolean aborted,
+				WrapperOptions wrapperOptions,
+				SqlStatementLogger sqlStatementLogger)
+						throws SQLException, InterruptedException {
+			if ( aborted.get() ) {
+				// another fetch failed
+				return List.of();
+			}
+			final Connection connection = connections.take();
+			try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+				int position = 1;
+				for ( JdbcParameterBinding binding : orderedBindings ) {
+					//noinspection unchecked
+					binding.getBindType().getJdbcValueBinder()
+							.bind( statement, binding.getBindValue(), position++, wrapperOptions );
+				}
+				sqlStatementLogger.logStatement( sql );
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					final List<Object[]> rows = new ArrayList<>();
+					while ( resultSet.next() ) {
+						final Object[] row = new Object[sqlSelections.size()];
+						for ( SqlSelection sqlSelection : sqlSelections ) {
+							row[sqlSelection.getValuesArrayPosition()] = sqlSelection.getJdbcValueExtractor()
+									.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), wrapperOptions );
+						}
+						rows.add( row );
+					}
+					return rows;
+				}
+			}
+			finally {
+				connections.add( connection );
+			}
+		}
+
+		/**
+		 * Read the rows into the persistence context, and initialize the collections
+		 * which had no rows as empty. Called by the thread which owns the session.
+		 */
+		void initializeCollections(List<Object[]> rows) {
+			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler =
+					SubselectFetch.createRegistrationHandler(
+							session.getPersistenceContextInternal().getBatchFetchQueue(),
+							sqlAst,
+							jdbcParameters,
+							jdbcParameterBindings
+					);
+			session.getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new PrefetchedRowsExecutionContext( session, subSelectFetchableKeysHandler, rows ),
+					RowTransformerStandardImpl.instance(),
+					ListResultsConsumer.UniqueSemantic.FILTER
+			);
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final CollectionPersister persister = attributeMapping.getCollectionDescriptor();
+			for ( Object key : keys ) {
+				final PersistentCollection<?> collection =
+						persistenceContext.getCollection( new CollectionKey( persister, key ) );
+				if ( collection != null && !collection.wasInitialized() ) {
+					collection.initializeEmptyCollection( persister );
+					ResultsHelper.finalizeCollectionLoading( persistenceContext, persister, collection, key, true );
+				}
+			}
+		}
+	}
+
+	private static class PrefetchedRowsExecutionContext extends ExecutionContextWithSubselectFetchHandler {
+		private final List<Object[]> rows;
+
+		PrefetchedRowsExecutionContext(
+				SharedSessionContractImplementor session,
+				SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+				List<Object[]> rows) {
+			super( session, subSelectFetchableKeysHandler );
+			this.rows = rows;
+		}
+
+		@Override
+		public List<Object[]> getPrefetchedRows() {
+			return rows;
+		}
+	}
+
+	/**
+	 * The options needed to bind and extract JDBC values, captured from the
+	 * session by the thread which owns it.
+	 */
+	private static class DetachedWrapperOptions implements WrapperOptions {
+		private final SessionFactoryImplementor factory;
+		private final boolean useStreamForLobBinding;
+		private final int preferredSqlTypeCodeForBoolean;
+		private final TimeZone jdbcTimeZone;
+		private final FormatMapper xmlFormatMapper;
+		private final FormatMapper jsonFormatMapper;
+
+		DetachedWrapperOptions(SharedSessionContractImplementor session) {
+			factory = session.getFactory();
+			useStreamForLobBinding = session.useStreamForLobBinding();
+			preferredSqlTypeCodeForBoolean = session.getPreferredSqlTypeCodeForBoolean();
+			jdbcTimeZone = session.getJdbcTimeZone();
+			xmlFormatMapper = session.getXmlFormatMapper();
+			jsonFormatMapper = session.getJsonFormatMapper();
+		}
+
+		@Override
+		public SharedSessionContractImplementor getSession() {
+			throw new UnsupportedOperationException( "No session" );
+		}
+
+		@Override
+		public SessionFactoryImplementor getSessionFactory() {
+			return factory;
+		}
+
+		@Override
+		public boolean useStreamForLobBinding() {
+			return useStreamForLobBinding;
+		}
+
+		@Override
+		public int getPreferredSqlTypeCodeForBoolean() {
+			return preferredSqlTypeCodeForBoolean;
+		}
+
+		@Override
+		public LobCreator getLobCreator() {
+			// LOBs are never fetched in parallel
+			throw new UnsupportedOperationException( "No session" );
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return jdbcTimeZone;
+		}
+
+		@Override
+		public FormatMapper getXmlFormatMapper() {
+			return xmlFormatMapper;
+		}
+
+		@Override
+		public FormatMapper getJsonFormatMapper() {
+			return jsonFormatMapper;
+		}
+	}
+
+	/**
+	 * An additional connection, made read-only for the duration of the fetch.
+	 */
+	private record BorrowedConnection(Connection connection, boolean wasReadOnly) {
+		static BorrowedConnection borrow(JdbcConnectionAccess connectionAccess) throws SQLException {
+			final Connection connection = connectionAccess.obtainConnection();
+			final boolean wasReadOnly = connection.isReadOnly();
+			if ( !wasReadOnly ) {
+				connection.setReadOnly( true );
+			}
+			return new BorrowedConnection( connection, wasReadOnly );
+		}
+
+		void release(JdbcConnectionAccess connectionAccess, SqlExceptionHelper sqlExceptionHelper) {
+			try {
+				if ( !connection.getAutoCommit() ) {
+					// end the read-only transaction
+					connection.rollback();
+				}
+				if ( !wasReadOnly ) {
+					connection.setReadOnly( false );
+				}
+				connectionAccess.releaseConnection( connection );
+			}
+			catch (SQLException e) {
+				// don't hide the outcome of the fetch
+				sqlExceptionHelper.logExceptions( e, "Unable to release a connection used for a parallel fetch" );
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.spi;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Incubating;
+
+/**
+ * Executes the queries of {@linkplain org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+ * parallel fetches} for all the sessions of a {@link org.hibernate.SessionFactory}.
+ * <p>
+ * The queries run on at most {@code maxParallelFetches} daemon threads, which are
+ * discarded when idle, and at most {@code maxParallelFetches} additional connections
+ * may be borrowed at once. A session which can't obtain at least two of them falls
+ * back to loading its collections one after the other, instead of waiting.
+ *
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getParallelFetchExecutor()
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ParallelFetchExecutor {
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private final ThreadPoolExecutor executor;
+	private final Semaphore connectionPermits;
+
+	public ParallelFetchExecutor(int maxParallelFetches) {
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(
+				maxParallelFetches,
+				maxParallelFetches,
+				KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-parallel-fetch-" + threadNumber.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut( true );
+		connectionPermits = new Semaphore( maxParallelFetches );
+	}
+
+	/**
+	 * Reserve up to the given number of additional connections, without waiting.
+	 *
+	 * @return the number of connections actually reserved, which must be
+	 *         {@linkplain #releaseConnections released} after the fetch
+	 */
+	public int tryAcquireConnections(int count) {
+		int acquired = 0;
+		while ( acquired < count && connectionPermits.tryAcquire() ) {
+			acquired++;
+		}
+		return acquired;
+	}
+
+	/**
+	 * Release connections reserved by {@link #tryAcquireConnections}.
+	 */
+	public void releaseConnections(int count) {
+		if ( count > 0 ) {
+			connectionPermits.release( count );
+		}
+	}
+
+	/**
+	 * Execute the given query on one of the shared threads.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException if the
+	 *         {@code SessionFactory} is closed
+	 */
+	public <T> Future<T> submit(Callable<T> query) {
+		return executor.submit( query );
+	}
+
+	/**
+	 * Interrupt the running queries, cancel the waiting ones, and discard the
+	 * threads. Called when the {@code SessionFactory} is closed.
+	 */
+	public void shutdown() {
+		for ( Runnable waiting : executor.shutdownNow() ) {
+			if ( waiting instanceof Future<?> future ) {
+				// don't leave the sessions waiting for it
+				future.cancel( false );
+			}
+		}
+	}
+}
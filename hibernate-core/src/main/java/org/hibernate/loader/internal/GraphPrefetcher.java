@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Internal;
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.loader.ast.internal.AbstractCollectionBatchLoader;
+import org.hibernate.loader.ast.internal.AbstractEntityBatchLoader;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static java.util.Collections.newSetFromMap;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Initializes the associations of a group of entities described by an
+ * {@linkplain GraphImplementor entity graph}, one level of the graph at a time.
+ * Each lazy association of a level is loaded for all the entities of the level
+ * at once, using a single batch loader execution, so that the number of queries
+ * depends on the depth of the graph, and not on the number of entities or on the
+ * order in which the associations happen to be accessed.
+ *
+ * @see org.hibernate.Session#prefetch(Collection, jakarta.persistence.EntityGraph)
+ *
+ * @since 7.0
+ */
+@Internal
+public class GraphPrefetcher {
+	private final SessionImplementor session;
+	private final BatchLoaderFactory batchLoaderFactory;
+	// the graphs already applied to each entity, by identity
+	private final Map<Object, Set<GraphImplementor<?>>> visited = new IdentityHashMap<>();
+
+	public GraphPrefetcher(SessionImplementor session) {
+		this.session = session;
+		this.batchLoaderFactory = session.getFactory().getServiceRegistry()
+				.requireService( BatchLoaderFactory.class );
+	}
+
+	public void prefetch(Collection<?> roots, GraphImplementor<?> graph) {
+		List<Node> level = new ArrayList<>( roots.size() );
+		for ( Object root : roots ) {
+			if ( root != null ) {
+				level.add( new Node( root, graph ) );
+			}
+		}
+		// an entity is visited at most once per graph, so this always terminates
+		while ( !level.isEmpty() ) {
+			level = fetchAssociations( initializeEntities( level ) );
+		}
+	}
+
+	/**
+	 * Initialize the uninitialized proxies of the level, using one
+	 * batch load per entity type.
+	 */
+	private List<Node> initializeEntities(List<Node> level) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, Set<Object>> idsToLoad = new LinkedHashMap<>();
+		for ( Node node : level ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( node.value() );
+			if ( lazyInitializer != null && lazyInitializer.isUninitialized() ) {
+				final EntityPersister persister = session.getFactory().getMappingMetamodel()
+						.getEntityDescriptor( lazyInitializer.getEntityName() );
+				final Object id = lazyInitializer.getInternalIdentifier();
+				if ( persistenceContext.getEntity( session.generateEntityKey( id, persister ) ) == null ) {
+					idsToLoad.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+				}
+			}
+		}
+
+		idsToLoad.forEach( (persister, ids) -> {
+			if ( ids.size() > 1
+					&& entityBatchLoader( persister, ids.size() ) instanceof AbstractEntityBatchLoader<?> loader ) {
+				loader.loadIds( ids, LockOptions.NONE, null, session );
+			}
+			// otherwise the proxies are initialized one at a time below
+		} );
+
+		final List<Node> initialized = new ArrayList<>( level.size() );
+		for ( Node node : level ) {
+			// the entity is now in the persistence context, so this doesn't hit the database
+			Hibernate.initialize( node.value() );
+			if ( node.graph() != null ) {
+				final LazyInitializer lazyInitializer = extractLazyInitializer( node.value() );
+				final Node entityNode = lazyInitializer == null
+						? node
+						: new Node( lazyInitializer.getImplementation(), node.graph() );
+				// an entity shared by several parents is only traversed once
+				if ( visit( entityNode ) ) {
+					initialized.add( entityNode );
+				}
+			}
+		}
+		return initialized;
+	}
+
+	/**
+	 * Initialize the collections belonging to the entities of the level, using
+	 * one batch load per collection role, and return the next level of the graph.
+	 */
+	private List<Node> fetchAssociations(List<Node> level) {
+		final List<Node> nextLevel = new ArrayList<>();
+		final List<Node> collections = new ArrayList<>();
+		final Map<CollectionPersister, Set<Object>> keysToLoad = new LinkedHashMap<>();
+		for ( Node node : level ) {
+			final Object entity = node.value();
+			final EntityPersister persister = session.getEntityPersister( null, entity );
+			for ( AttributeNodeImplementor<?, ?, ?> attributeNode : attributeNodes( node.graph(), entity ) ) {
+				final AttributeMapping attributeMapping =
+						persister.findAttributeMapping( attributeNode.getAttributeName() );
+				if ( attributeMapping == null ) {
+					continue;
+				}
+				final Object value = attributeMapping.getValue( entity );
+				if ( attributeMapping instanceof PluralAttributeMapping pluralAttributeMapping
+						&& value instanceof PersistentCollection<?> collection ) {
+					if ( !collection.wasInitialized() ) {
+						keysToLoad.computeIfAbsent(
+								pluralAttributeMapping.getCollectionDescriptor(),
+								p -> new LinkedHashSet<>()
+						).add( collection.getKey() );
+					}
+					collections.add( new Node( collection, attributeNode.getValueSubgraph() ) );
+				}
+				else if ( attributeMapping instanceof ToOneAttributeMapping && value != null ) {
+					nextLevel.add( new Node( value, attributeNode.getValueSubgraph() ) );
+				}
+			}
+		}
+
+		keysToLoad.forEach( (persister, keys) -> {
+			if ( keys.size() > 1
+					&& collectionBatchLoader( persister, keys.size() ) instanceof AbstractCollectionBatchLoader loader ) {
+				loader.loadKeys( keys, session );
+			}
+			// otherwise the collections are initialized one at a time below
+		} );
+
+		for ( Node node : collections ) {
+			Hibernate.initialize( node.value() );
+			final GraphImplementor<?> elementGraph = node.graph();
+			if ( elementGraph != null ) {
+				final Object collection = node.value();
+				final Collection<?> elements = collection instanceof Map<?, ?> map
+						? map.values()
+						: (Collection<?>) collection;
+				for ( Object element : elements ) {
+					if ( element != null ) {
+						nextLevel.add( new Node( element, elementGraph ) );
+					}
+				}
+			}
+		}
+		return nextLevel;
+	}
+
+	/**
+	 * A batch loader for at least the given number of ids. The batch size is rounded
+	 * up to a power of two, so that the loaders built once by the persister, and shared
+	 * by all sessions, can be reused, unless filters or fetch profiles affect the loads.
+	 */
+	private SingleIdEntityLoader<?> entityBatchLoader(EntityPersister persister, int idCount) {
+		final int batchSize = ceilingPowerOfTwo( idCount );
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		return persister instanceof AbstractEntityPersister entityPersister
+				&& !persister.isAffectedByInfluencers( influencers, true )
+				? entityPersister.getBatchLoader( batchSize )
+				: batchLoaderFactory.createEntityBatchLoader( batchSize, persister, influencers );
+	}
+
+	/**
+	 * A batch loader for at least the given number of keys.
+	 *
+	 * @see #entityBatchLoader
+	 */
+	private CollectionLoader collectionBatchLoader(CollectionPersister persister, int keyCount) {
+		final int batchSize = ceilingPowerOfTwo( keyCount );
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final PluralAttributeMapping attributeMapping = persister.getAttributeMapping();
+		return persister instanceof AbstractCollectionPersister collectionPersister
+				&& !attributeMapping.isAffectedByInfluencers( influencers, true )
+				? collectionPersister.getBatchLoader( batchSize )
+				: batchLoaderFactory.createCollectionBatchLoader( batchSize, influencers, attributeMapping, session.getFactory() );
+	}
+
+	private boolean visit(Node node) {
+		return visited.computeIfAbsent( node.value(), entity -> newSetFromMap( new IdentityHashMap<>() ) )
+				.add( node.graph() );
+	}
+
+	private static List<AttributeNodeImplementor<?, ?, ?>> attributeNodes(GraphImplementor<?> graph, Object entity) {
+		final List<AttributeNodeImplementor<?, ?, ?>> attributeNodes = new ArrayList<>( graph.getAttributeNodeList() );
+		for ( Map.Entry<? extends Class<?>, ? extends SubGraphImplementor<?>> treated
+				: graph.getTreatedSubgraphs().entrySet() ) {
+			if ( treated.getKey().isInstance( entity ) ) {
+				attributeNodes.addAll( treated.getValue().getAttributeNodeList() );
+			}
+		}
+		return attributeNodes;
+	}
+
+	/**
+	 * An entity, or a collection, together with the graph describing
+	 * the associations to fetch from it.
+	 */
+	private record Node(Object value, GraphImplementor<?> graph) {
+	}
+}
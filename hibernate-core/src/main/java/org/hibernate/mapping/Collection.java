@@ -65,6 +65,7 @@
 	private boolean inverse;
 	private boolean mutable = true;
 	private boolean subselectLoadable;
+	private boolean jsonFetched;
 	private String cacheConcurrencyStrategy;
 	private String cacheRegionName;
 	private CacheLayout queryCacheLayout;
@@ -146,6 +147,7 @@ protected Collection(Collection original) {
 		this.inverse = original.inverse;
 		this.mutable = original.mutable;
 		this.subselectLoadable = original.subselectLoadable;
+		this.jsonFetched = original.jsonFetched;
 		this.cacheConcurrencyStrategy = original.cacheConcurrencyStrategy;
 		this.cacheRegionName = original.cacheRegionName;
 		this.orderBy = original.orderBy;
@@ -795,6 +797,17 @@ public void setSubselectLoadable(boolean subqueryLoadable) {
 		this.subselectLoadable = subqueryLoadable;
 	}
 
+	/**
+	 * @see org.hibernate.annotations.FetchMode#JSON
+	 */
+	public boolean isJsonFetched() {
+		return jsonFetched;
+	}
+
+	public void setJsonFetched(boolean jsonFetched) {
+		this.jsonFetched = jsonFetched;
+	}
+
 	public boolean isMutable() {
 		return mutable;
 	}
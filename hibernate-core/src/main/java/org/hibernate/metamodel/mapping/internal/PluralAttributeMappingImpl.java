@@ -4,6 +4,7 @@
  */
 package org.hibernate.metamodel.mapping.internal;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -44,6 +45,10 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.collection.mutation.CollectionMutationTarget;
 import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpression;
+import org.hibernate.query.sqm.function.SelfRenderingOrderedSetAggregateFunctionSqlAstExpression;
+import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.internal.TableGroupJoinHelper;
@@ -52,6 +57,8 @@
 import org.hibernate.sql.ast.spi.SqlAliasStemHelper;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.from.CollectionTableGroup;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.OneToManyTableGroup;
@@ -61,20 +68,29 @@
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.predicate.PredicateCollector;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultCreationState;
 import org.hibernate.sql.results.graph.Fetch;
 import org.hibernate.sql.results.graph.FetchOptions;
 import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.basic.BasicResult;
 import org.hibernate.sql.results.graph.collection.internal.CollectionDomainResult;
 import org.hibernate.sql.results.graph.collection.internal.DelayedCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.EagerCollectionFetch;
+import org.hibernate.sql.results.graph.collection.internal.JsonCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.SelectEagerCollectionFetch;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
 
 import org.jboss.logging.Logger;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.singletonList;
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.createNonSoftDeletedRestriction;
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.resolveSoftDeleteMapping;
 
@@ -110,6 +126,7 @@ public interface Aware {
 	private final CollectionIdentifierDescriptor identifierDescriptor;
 	private final FetchTiming fetchTiming;
 	private final FetchStyle fetchStyle;
+	private final boolean jsonFetched;
 	private final SoftDeleteMapping softDeleteMapping;
 	private Boolean hasSoftDelete;
 
@@ -153,6 +170,13 @@ public PluralAttributeMappingImpl(
 		this.fetchStyle = fetchStyle;
 		this.collectionDescriptor = collectionDescriptor;
 		this.referencedPropertyName = bootDescriptor.getReferencedPropertyName();
+		// only collections of basic values without an index can be rebuilt
+		// from a JSON array of their elements, otherwise fall back to SELECT
+		this.jsonFetched = bootDescriptor.isJsonFetched()
+				&& elementDescriptor instanceof BasicValuedCollectionPart elementPart
+				&& elementPart.getJdbcMapping().getValueConverter() == null
+				&& indexDescriptor == null
+				&& identifierDescriptor == null;
 
 		if ( bootDescriptor instanceof Map ) {
 			this.mapKeyPropertyName = ( (Map) bootDescriptor ).getMapKeyPropertyName();
@@ -214,6 +238,7 @@ protected PluralAttributeMappingImpl(PluralAttributeMappingImpl original) {
 		this.identifierDescriptor = original.identifierDescriptor;
 		this.fetchTiming = original.fetchTiming;
 		this.fetchStyle = original.fetchStyle;
+		this.jsonFetched = original.jsonFetched;
 		this.softDeleteMapping = original.softDeleteMapping;
 		this.hasSoftDelete = original.hasSoftDelete;
 		this.collectionDescriptor = original.collectionDescriptor;
@@ -486,14 +511,23 @@ public Fetch generateFetch(
 							creationState
 					);
 				}
-				else {
-					return createSelectEagerCollectionFetch(
+				else if ( jsonFetched && referencedPropertyName == null ) {
+					final Fetch jsonCollectionFetch = createJsonCollectionFetch(
 							fetchParent,
 							fetchablePath,
 							creationState,
 							sqlAstCreationState
 					);
+					if ( jsonCollectionFetch != null ) {
+						return jsonCollectionFetch;
+					}
 				}
+				return createSelectEagerCollectionFetch(
+						fetchParent,
+						fetchablePath,
+						creationState,
+						sqlAstCreationState
+				);
 			}
 
 			if ( getCollectionDescriptor().getCollectionType().hasHolder() ) {
@@ -600,6 +634,124 @@ private Fetch createSelectEagerCollectionFetch(
 		return buildSelectEagerCollectionFetch( fetchablePath, this, collectionKeyDomainResult, fetchParent );
 	}
 
+	/**
+	 * Create a fetch which aggregates the elements of the collection into a JSON
+	 * array using a subquery in the select list of the query fetching the owner.
+	 *
+	 * @return the fetch, or {@code null} if the dialect does not support {@code json_arrayagg()}
+	 *
+	 * @see org.hibernate.annotations.FetchMode#JSON
+	 */
+	private @Nullable Fetch createJsonCollectionFetch(
+			FetchParent fetchParent,
+			NavigablePath fetchablePath,
+			DomainResultCreationState creationState,
+			SqlAstCreationState sqlAstCreationState) {
+		final SqmFunctionDescriptor functionDescriptor =
+				sqlAstCreationState.getCreationContext().getSqmFunctionRegistry()
+						.findFunctionDescriptor( "json_arrayagg" );
+		if ( !( functionDescriptor instanceof AbstractSqmSelfRenderingFunctionDescriptor jsonArrayAgg ) ) {
+			return null;
+		}
+
+		final TableGroup ownerTableGroup =
+				sqlAstCreationState.getFromClauseAccess().getTableGroup( fetchParent.getNavigablePath() );
+		final QuerySpec subQuerySpec = new QuerySpec( false );
+		final TableGroup tableGroup = createRootTableGroup(
+				true,
+				fetchablePath,
+				null,
+				null,
+				() -> subQuerySpec::applyPredicate,
+				sqlAstCreationState
+		);
+		applyBaseRestrictions(
+				subQuerySpec::applyPredicate,
+				tableGroup,
+				true,
+				sqlAstCreationState.getLoadQueryInfluencers().getEnabledFilters(),
+				false,
+				null,
+				sqlAstCreationState
+		);
+		subQuerySpec.getFromClause().addRoot( tableGroup );
+
+		final BasicValuedCollectionPart elementPart = (BasicValuedCollectionPart) elementDescriptor;
+		final Expression element = new ColumnReference(
+				tableGroup.resolveTableReference( fetchablePath, elementPart, elementPart.getContainingTableExpression() ),
+				elementPart
+		);
+		final BasicType<String> jsonType = sqlAstCreationState.getCreationContext().getMappingMetamodel()
+				.getTypeConfiguration().getBasicTypeRegistry()
+				.resolve( String.class, SqlTypes.JSON );
+		// the rows of the subquery have no order of their own, so an @OrderBy
+		// must be applied to the elements inside the aggregated array
+		final List<SortSpecification> ordering = jsonArrayOrdering( tableGroup, sqlAstCreationState );
+		subQuerySpec.getSelectClause().addSqlSelection( new SqlSelectionImpl(
+				ordering == null
+						? new SelfRenderingAggregateFunctionSqlAstExpression<>(
+								jsonArrayAgg.getName(),
+								jsonArrayAgg,
+								singletonList( element ),
+								null,
+								jsonType,
+								jsonType
+						)
+						: new SelfRenderingOrderedSetAggregateFunctionSqlAstExpression<>(
+								jsonArrayAgg.getName(),
+								jsonArrayAgg,
+								singletonList( element ),
+								null,
+								ordering,
+								jsonType,
+								jsonType
+						)
+		) );
+		subQuerySpec.applyPredicate(
+				getKeyDescriptor().generateJoinPredicate( ownerTableGroup, tableGroup, sqlAstCreationState )
+		);
+
+		final SqlSelection sqlSelection = sqlAstCreationState.getSqlExpressionResolver().resolveSqlSelection(
+				new SelectStatement( subQuerySpec ),
+				jsonType.getJdbcJavaType(),
+				fetchParent,
+				sqlAstCreationState.getCreationContext().getMappingMetamodel().getTypeConfiguration()
+		);
+		final DomainResult<String> elementsResult = new BasicResult<>(
+				sqlSelection.getValuesArrayPosition(),
+				null,
+				jsonType,
+				fetchablePath,
+				false,
+				!sqlSelection.isVirtual()
+		);
+		return buildJsonCollectionFetch( fetchablePath, this, elementsResult, fetchParent );
+	}
+
+	private @Nullable List<SortSpecification> jsonArrayOrdering(
+			TableGroup tableGroup,
+			SqlAstCreationState sqlAstCreationState) {
+		if ( orderByFragment == null ) {
+			return null;
+		}
+		else {
+			final QuerySpec orderingSpec = new QuerySpec( false );
+			orderByFragment.apply( orderingSpec, tableGroup, sqlAstCreationState );
+			return orderingSpec.hasSortSpecifications() ? orderingSpec.getSortSpecifications() : null;
+		}
+	}
+
+	/**
+	 * For Hibernate Reactive
+	 */
+	protected Fetch buildJsonCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			DomainResult<String> elementsResult,
+			FetchParent fetchParent) {
+		return new JsonCollectionFetch( fetchedPath, fetchedAttribute, elementsResult, fetchParent );
+	}
+
 	private TableGroup resolveCollectionTableGroup(
 			FetchParent fetchParent,
 			NavigablePath fetchablePath,
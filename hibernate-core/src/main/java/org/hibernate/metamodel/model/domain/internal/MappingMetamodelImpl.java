@@ -5,6 +5,7 @@
 package org.hibernate.metamodel.model.domain.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +13,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -76,6 +82,8 @@
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_INITIALIZATION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -178,15 +186,23 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 			registerEntityNameResolvers( persister, entityNameResolvers );
 		}
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
+		final Map<String, Object> settings = context.getSettings();
+		if ( getBoolean( PARALLEL_PERSISTER_INITIALIZATION, settings ) ) {
+			// the loaders of each persister only depend on the (now complete) mapping model,
+			// and every persister only assigns its own state, so they can be prepared concurrently
+			forEachInParallel( Arrays.asList( entityPersisterMap.values() ), EntityPersister::prepareLoaders );
+			forEachInParallel( new ArrayList<>( collectionPersisterMap.values() ), CollectionPersister::postInstantiate );
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.prepareLoaders();
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
 		jpaMetamodel.processJpa(
 				bootModel,
 				this,
@@ -198,6 +214,56 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		);
 	}
 
+	/**
+	 * Performs the given action for each of the given persisters, using a pool of
+	 * threads dedicated to the bootstrap, whose context class loader is the one of
+	 * the bootstrapping thread.
+	 */
+	private static <P> void forEachInParallel(List<P> persisters, Consumer<P> action) {
+		final int parallelism = Math.min( Runtime.getRuntime().availableProcessors(), persisters.size() );
+		if ( parallelism < 2 ) {
+			persisters.forEach( action );
+			return;
+		}
+
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final AtomicInteger threadNumber = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				parallelism,
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-persister-initialization-" + threadNumber.incrementAndGet() );
+					thread.setDaemon( true );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				}
+		);
+		try {
+			final List<Future<?>> futures = new ArrayList<>( persisters.size() );
+			for ( P persister : persisters ) {
+				futures.add( executor.submit( () -> action.accept( persister ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while initializing persisters", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw new HibernateException( "Could not initialize persister", e.getCause() );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -139,6 +139,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
@@ -784,12 +785,36 @@ protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContrac
 					return subSelectLoader;
 				}
 			}
-			return attributeMapping.isAffectedByInfluencers( influencers, true )
-					? createCollectionLoader( influencers )
-					: getCollectionLoader();
+			if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+				return createCollectionLoader( influencers );
+			}
+			else {
+				final int adaptiveBatchSize = influencers.getAdaptiveBatchSize( getNavigableRole() );
+				return adaptiveBatchSize > Math.max( Math.max( getBatchSize(), influencers.getBatchSize() ), 1 )
+						? getBatchLoader( adaptiveBatchSize )
+						: getCollectionLoader();
+			}
 		}
 	}
 
+	private final Map<Integer, CollectionLoader> batchLoadersBySize = new ConcurrentHashMap<>();
+
+	/**
+	 * The batch loader for a batch size determined at runtime, shared by all
+	 * the sessions whose {@link LoadQueryInfluencers} don't affect this collection.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 * @see org.hibernate.Session#prefetch
+	 */
+	public CollectionLoader getBatchLoader(int batchSize) {
+		return batchLoadersBySize.computeIfAbsent(
+				batchSize,
+				size -> factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createCollectionBatchLoader( size, new LoadQueryInfluencers( factory ), attributeMapping, factory )
+		);
+	}
+
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final SubselectFetch subselect =
@@ -832,8 +857,8 @@ protected CollectionLoader createSubSelectLoader(SubselectFetch subselect, Share
 //	}
 
 	private CollectionLoader createCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
-		if ( loadQueryInfluencers.effectivelyBatchLoadable( this ) ) {
-			final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
+		final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
+		if ( batchSize > 1 ) {
 			return factory.getServiceRegistry()
 					.requireService( BatchLoaderFactory.class )
 					.createCollectionBatchLoader( batchSize, loadQueryInfluencers, attributeMapping, factory );
@@ -275,6 +275,8 @@
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -287,10 +289,12 @@
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfSelfDirtinessTracker;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.ReflectHelper.isAbstractClass;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
 import static org.hibernate.internal.util.collections.ArrayHelper.isAllTrue;
@@ -391,6 +395,13 @@
 	private DeleteCoordinator deleteCoordinator;
 	private UpdateCoordinator mergeCoordinator;
 
+	// support for creating the loaders and coordinators on first use
+	private final boolean deferredInitialization;
+	// Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	private final Lock deferredInitializationLock = new ReentrantLock();
+	private volatile boolean deferredInitializationPending;
+	private boolean deferredInitializationRunning;
+
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
 
@@ -472,6 +483,8 @@ public AbstractEntityPersister(
 		//set it here, but don't call it, since it's still uninitialized!
 		factory = creationContext.getSessionFactory();
 
+		deferredInitialization = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings() );
+
 		sqlAliasStem = SqlAliasStemHelper.INSTANCE.generateStemFromEntityName( persistentClass.getEntityName() );
 
 		navigableRole = new NavigableRole( persistentClass.getEntityName() );
@@ -812,8 +825,8 @@ protected SingleIdEntityLoader<?> buildSingleIdEntityLoader() {
 	}
 
 	private SingleIdEntityLoader<?> buildSingleIdEntityLoader(LoadQueryInfluencers loadQueryInfluencers) {
-		if ( loadQueryInfluencers.effectivelyBatchLoadable( this ) ) {
-			final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
+		final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
+		if ( batchSize > 1 ) {
 			return factory.getServiceRegistry()
 					.requireService( BatchLoaderFactory.class )
 					.createEntityBatchLoader( batchSize, this, loadQueryInfluencers );
@@ -994,21 +1007,33 @@ SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return insertCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return updateCoordinator;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return deleteCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return mergeCoordinator;
 	}
 
@@ -1995,7 +2020,7 @@ public String getDiscriminatorAlias(String suffix) {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2039,7 +2064,7 @@ protected GeneratedValuesProcessor createGeneratedValuesProcessor(
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2051,7 +2076,7 @@ public Object forceVersionIncrement(
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -3157,6 +3182,12 @@ protected void postConstruct(Metadata mapping) throws MappingException {
 
 	@Override
 	public void prepareLoaders() {
+		if ( deferredInitialization ) {
+			// the loaders are created along with the coordinators, on first use
+			lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
+			return;
+		}
+
 		// Hibernate Reactive needs to override the loaders
 		singleIdLoader = buildSingleIdEntityLoader();
 		multiIdLoader = buildMultiIdLoader();
@@ -3166,6 +3197,50 @@ public void prepareLoaders() {
 		logStaticSQL();
 	}
 
+	/**
+	 * Create the loaders and mutation coordinators, which were not created at boot
+	 * because {@value org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+	 * is enabled.
+	 */
+	private void performDeferredInitialization() {
+		deferredInitializationLock.lock();
+		try {
+			// a reentrant call, made while building the loaders or coordinators,
+			// sees the same partially initialized state as during eager initialization
+			if ( deferredInitializationPending && !deferredInitializationRunning ) {
+				deferredInitializationRunning = true;
+				try {
+					insertCoordinator = buildInsertCoordinator();
+					updateCoordinator = buildUpdateCoordinator();
+					deleteCoordinator = buildDeleteCoordinator();
+					mergeCoordinator = buildMergeCoordinator();
+
+					singleIdLoader = buildSingleIdEntityLoader();
+					multiIdLoader = buildMultiIdLoader();
+
+					logStaticSQL();
+					deferredInitializationPending = false;
+				}
+				finally {
+					deferredInitializationRunning = false;
+				}
+			}
+		}
+		finally {
+			deferredInitializationLock.unlock();
+		}
+	}
+
+	/**
+	 * Whether the creation of the loaders and mutation coordinators of this persister
+	 * was deferred, and they were never needed so far.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	public boolean isDeferredInitializationPending() {
+		return deferredInitializationPending;
+	}
+
 	private void doLateInit() {
 		tableMappings = buildTableMappings();
 
@@ -3193,10 +3268,15 @@ private void doLateInit() {
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( deferredInitialization ) {
+			deferredInitializationPending = true;
+		}
+		else {
+			insertCoordinator = buildInsertCoordinator();
+			updateCoordinator = buildUpdateCoordinator();
+			deleteCoordinator = buildDeleteCoordinator();
+			mergeCoordinator = buildMergeCoordinator();
+		}
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
@@ -3517,17 +3597,44 @@ protected SingleIdEntityLoader<?> determineLoaderToUse(SharedSessionContractImpl
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			// no subselect fetching for entities for now
-			return isAffectedByInfluencers( influencers, true )
-					? buildSingleIdEntityLoader( influencers )
-					: getSingleIdLoader();
+			if ( isAffectedByInfluencers( influencers, true ) ) {
+				return buildSingleIdEntityLoader( influencers );
+			}
+			else {
+				final int adaptiveBatchSize = influencers.getAdaptiveBatchSize( getNavigableRole() );
+				return adaptiveBatchSize > Math.max( Math.max( getBatchSize(), influencers.getBatchSize() ), 1 )
+						? getBatchLoader( adaptiveBatchSize )
+						: getSingleIdLoader();
+			}
 		}
 	}
 
+	private final Map<Integer, SingleIdEntityLoader<?>> batchLoadersBySize = new ConcurrentHashMap<>();
+
+	/**
+	 * The batch loader for a batch size determined at runtime, shared by all
+	 * the sessions whose {@link LoadQueryInfluencers} don't affect this entity.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 * @see org.hibernate.Session#prefetch
+	 */
+	public SingleIdEntityLoader<?> getBatchLoader(int batchSize) {
+		return batchLoadersBySize.computeIfAbsent(
+				batchSize,
+				size -> factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createEntityBatchLoader( size, this, new LoadQueryInfluencers( factory ) )
+		);
+	}
+
 	private boolean hasNamedQueryLoader() {
 		return queryLoaderName != null;
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return singleIdLoader;
 	}
 
@@ -3581,6 +3688,9 @@ else if ( interceptor.isAttributeLoaded( nameOfAttributeBeingAccessed ) ) {
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		if ( deferredInitializationPending ) {
+			performDeferredInitialization();
+		}
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
@@ -610,6 +610,7 @@ public List getRegisteredParameters() {
 	public ProcedureOutputs getOutputs() {
 		if ( outputs == null ) {
 			outputs = buildOutputs();
+			getSession().afterMutationQuery();
 		}
 
 		return outputs;
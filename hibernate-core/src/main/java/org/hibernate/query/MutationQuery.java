@@ -79,6 +79,35 @@ public interface MutationQuery extends CommonQueryContract {
 	 */
 	int executeUpdate();
 
+	/**
+	 * Request that an HQL or criteria {@code update} or {@code delete} be
+	 * executed in chunks of at most the given number of rows.
+	 * <p>
+	 * The identifiers of the matching rows are read in pages of one chunk,
+	 * in identifier order, each page by its own query restricted to the
+	 * identifiers following the last one of the previous page, and each
+	 * chunk of identifiers is mutated by its own, short statement once its
+	 * page has been read, so that a mutation affecting a huge number of rows
+	 * does not hold all the identifiers in memory, nor execute one single,
+	 * long-running statement, nor keep a cursor open while mutating. The
+	 * second-level cache is still invalidated once for the whole operation.
+	 * <p>
+	 * The transaction is <em>not</em> split: every chunk is executed in the
+	 * current transaction, which still holds the locks on all the mutated
+	 * rows, and the undo for all of them, until it completes. A mutation
+	 * which must commit chunk by chunk should be executed, chunk by chunk,
+	 * by the application, in separate transactions.
+	 *
+	 * @param chunkSize the maximum number of rows affected by one statement,
+	 *                  or {@code 0} to execute the mutation as a single statement
+	 *
+	 * @throws IllegalStateException if this is a native or insert query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	MutationQuery setChunkSize(int chunkSize);
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Covariant returns
@@ -891,6 +891,9 @@ default Query<R> applyLoadGraph(@SuppressWarnings("rawtypes") RootGraph graph) {
 	@Override
 	Query<R> setFetchSize(int fetchSize);
 
+	@Override @Incubating
+	Query<R> setChunkSize(int chunkSize);
+
 	@Override
 	Query<R> setReadOnly(boolean readOnly);
 
@@ -62,6 +62,9 @@
 
 	SqmQueryImplementor<R> setFetchSize(int fetchSize);
 
+	@Override
+	SqmQueryImplementor<R> setChunkSize(int chunkSize);
+
 	SqmQueryImplementor<R> setReadOnly(boolean readOnly);
 
 	@Override
@@ -660,11 +660,17 @@ public int executeUpdate() throws HibernateException {
 		}
 		finally {
 			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+			getSession().afterMutationQuery();
 		}
 	}
 
 	protected abstract int doExecuteUpdate();
 
+	@Override
+	public QueryImplementor<R> setChunkSize(int chunkSize) {
+		throw new IllegalStateException( "Chunked execution is only supported for HQL and criteria 'update' and 'delete' statements" );
+	}
+
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		throw new UnsupportedOperationException("Getting keyed result list is not supported by this query.");
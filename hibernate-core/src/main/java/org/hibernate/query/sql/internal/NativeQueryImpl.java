@@ -669,6 +669,13 @@ private boolean shouldFlush() {
 		}
 	}
 
+	@Override
+	protected void afterQuery(boolean success) {
+		super.afterQuery( success );
+		// the native query might have modified data
+		getSession().afterMutationQuery();
+	}
+
 	@Override
 	protected List<R> doList() {
 		return resolveSelectQueryPlan().performList( this );
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sql.internal;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * Remembers the {@link JdbcValuesMapping} resolved from the {@link java.sql.ResultSetMetaData}
+ * on the first execution of a {@linkplain NativeSelectQueryPlanImpl native query plan}. Plans
+ * are kept in the {@link org.hibernate.query.spi.QueryInterpretationCache}, keyed by the SQL
+ * and the result set mapping, so later executions neither read the metadata again, nor
+ * resolve the mapping again.
+ * <p>
+ * Only mappings of scalar results are remembered, since the resolution of entity
+ * results depends on the {@link LoadQueryInfluencers} of the session.
+ */
+public class ResolvedMappingCachingProducer implements JdbcValuesMappingProducer {
+	private final JdbcValuesMappingProducer resultSetMapping;
+	private volatile JdbcValuesMapping resolvedMapping;
+
+	public ResolvedMappingCachingProducer(JdbcValuesMappingProducer resultSetMapping) {
+		this.resultSetMapping = resultSetMapping;
+	}
+
+	@Override
+	public JdbcValuesMapping resolve(
+			JdbcValuesMetadata jdbcResultsMetadata,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		final JdbcValuesMapping cachedMapping = resolvedMapping;
+		if ( cachedMapping != null ) {
+			return cachedMapping;
+		}
+		final JdbcValuesMapping mapping =
+				resultSetMapping.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+		if ( isScalar( mapping ) ) {
+			resolvedMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private static boolean isScalar(JdbcValuesMapping mapping) {
+		for ( DomainResult<?> domainResult : mapping.getDomainResults() ) {
+			if ( domainResult.containsAnyNonScalarResults() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+		resultSetMapping.addAffectedTableNames( affectedTableNames, sessionFactory );
+	}
+
+	@Override
+	public JdbcValuesMappingProducer cacheKeyInstance() {
+		return resultSetMapping.cacheKeyInstance();
+	}
+}
@@ -6,23 +6,35 @@
 
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.ModelPartContainer;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.query.sql.spi.SqlTranslationEngine;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.unmodifiableSet;
 
 public class SqlTranslationEngineImpl implements SqlTranslationEngine {
 
+	private static final int DEFAULT_SQL_LENGTH = 256;
+	// an estimate never reserves more than this, however long the previous statements
+	private static final int MAX_SQL_LENGTH_ESTIMATE = 8192;
+
 	//TODO: consider unifying with SqlStringGenerationContextImpl
 
 	private final SessionFactoryImplementor factory;
 	private final TypeConfiguration typeConfiguration;
 	private final Map<String, FetchProfile> fetchProfiles;
+	private final Map<SqlShape, Integer> sqlLengths = new ConcurrentHashMap<>();
 
 	public SqlTranslationEngineImpl(
 			SessionFactoryImplementor factory,
@@ -77,4 +89,49 @@ public boolean containsFetchProfileDefinition(String name) {
 	public Set<String> getDefinedFetchProfileNames() {
 		return unmodifiableSet( fetchProfiles.keySet() );
 	}
+
+	@Override
+	public int estimateSqlLength(Statement statement) {
+		final SqlShape shape = shape( statement );
+		final Integer length = shape == null ? null : sqlLengths.get( shape );
+		// leave some room for statements longer than the average
+		return length == null ? DEFAULT_SQL_LENGTH : Math.min( length + ( length >> 3 ), MAX_SQL_LENGTH_ESTIMATE );
+	}
+
+	@Override
+	public void recordSqlLength(Statement statement, int length) {
+		final SqlShape shape = shape( statement );
+		if ( shape != null ) {
+			// a moving average, so that the occasional long statement doesn't inflate the estimate
+			sqlLengths.merge( shape, length, (previous, current) -> previous + ( ( current - previous ) >> 2 ) );
+		}
+	}
+
+	/**
+	 * Statements of the same kind querying or mutating the same entity or table tend
+	 * to render SQL of similar length. The number of shapes is bounded by the size of
+	 * the model.
+	 */
+	private static SqlShape shape(Statement statement) {
+		if ( statement instanceof SelectStatement selectStatement ) {
+			final List<TableGroup> roots =
+					selectStatement.getQueryPart().getFirstQuerySpec().getFromClause().getRoots();
+			if ( roots.isEmpty() ) {
+				return null;
+			}
+			else {
+				final ModelPartContainer modelPart = roots.get( 0 ).getModelPart();
+				return modelPart == null ? null : new SqlShape( statement.getClass(), modelPart.getNavigableRole() );
+			}
+		}
+		else if ( statement instanceof MutationStatement mutationStatement ) {
+			return new SqlShape( statement.getClass(), mutationStatement.getTargetTable().getTableExpression() );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private record SqlShape(Class<? extends Statement> kind, Object root) {
+	}
 }
@@ -6,6 +6,7 @@
 
 import org.hibernate.Incubating;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.Statement;
 
 import java.util.Set;
 
@@ -25,4 +26,22 @@ public interface SqlTranslationEngine extends SqlAstCreationContext {
 	boolean containsFetchProfileDefinition(String name);
 
 	Set<String> getDefinedFetchProfileNames();
+
+	/**
+	 * An estimate of the length of the SQL which will be rendered for the given
+	 * statement, used to size the buffer it is rendered into.
+	 *
+	 * @see #recordSqlLength(Statement, int)
+	 */
+	default int estimateSqlLength(Statement statement) {
+		return 16;
+	}
+
+	/**
+	 * Record the length of the SQL rendered for the given statement, to better
+	 * {@linkplain #estimateSqlLength(Statement) estimate} the length of the SQL
+	 * rendered for similar statements.
+	 */
+	default void recordSqlLength(Statement statement, int length) {
+	}
 }
@@ -65,10 +65,12 @@
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.internal.SqmInterpretationsKey.InterpretationsKeySource;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.AbstractSqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
@@ -132,6 +134,9 @@
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private int chunkSize;
+	private NonSelectQueryPlan chunkedQueryPlan;
+
 	/**
 	 * Creates a Query instance from a named HQL memento
 	 */
@@ -490,6 +495,7 @@ public int executeUpdate() {
 		}
 		finally {
 			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+			getSession().afterMutationQuery();
 		}
 	}
 
@@ -516,6 +522,14 @@ protected int doExecuteUpdate() {
 	private NonSelectQueryPlan resolveNonSelectQueryPlan() {
 		// resolve (or make) the QueryPlan.
 
+		if ( chunkSize > 0 ) {
+			// the chunked plan only depends on the chunk size, so keep it for further executions
+			if ( chunkedQueryPlan == null ) {
+				chunkedQueryPlan = buildNonSelectQueryPlan();
+			}
+			return chunkedQueryPlan;
+		}
+
 		NonSelectQueryPlan queryPlan = null;
 
 		final QueryInterpretationCache.Key cacheKey = generateNonSelectKey( this );
@@ -565,6 +579,9 @@ private NonSelectQueryPlan buildConcreteDeleteQueryPlan(SqmDeleteStatement<?> sq
 		final EntityPersister persister =
 				getSessionFactory().getMappingMetamodel()
 						.getEntityDescriptor( entityDomainType.getHibernateEntityName() );
+		if ( chunkSize > 0 ) {
+			return new MultiTableDeleteQueryPlan( sqmDelete, domainParameterXref, chunkedMutationStrategy() );
+		}
 		final SqmMultiTableMutationStrategy multiTableStrategy = persister.getSqmMultiTableMutationStrategy();
 		if ( multiTableStrategy != null ) {
 			// NOTE : MultiTableDeleteQueryPlan and SqmMultiTableMutationStrategy already handle soft-deletes internally
@@ -588,12 +605,24 @@ private NonSelectQueryPlan buildUpdateQueryPlan() {
 		final EntityPersister persister =
 				getSessionFactory().getMappingMetamodel()
 						.getEntityDescriptor( sqmUpdate.getTarget().getModel().getHibernateEntityName() );
+		if ( chunkSize > 0 ) {
+			return new MultiTableUpdateQueryPlan( sqmUpdate, domainParameterXref, chunkedMutationStrategy() );
+		}
 		final SqmMultiTableMutationStrategy multiTableStrategy = persister.getSqmMultiTableMutationStrategy();
 		return multiTableStrategy == null
 				? new SimpleUpdateQueryPlan( sqmUpdate, domainParameterXref )
 				: new MultiTableUpdateQueryPlan( sqmUpdate, domainParameterXref, multiTableStrategy );
 	}
 
+	/**
+	 * Chunked execution selects the matching ids up front, and then mutates
+	 * them chunk by chunk using in-list restrictions, which is exactly what
+	 * the {@link InlineMutationStrategy} does, even for single-table entities.
+	 */
+	private SqmMultiTableMutationStrategy chunkedMutationStrategy() {
+		return new InlineMutationStrategy( getSessionFactory().getJdbcServices().getDialect(), chunkSize );
+	}
+
 	private NonSelectQueryPlan buildInsertQueryPlan() {
 		final SqmInsertStatement<R> sqmInsert = (SqmInsertStatement<R>) getSqmStatement();
 		final EntityPersister persister =
@@ -1032,6 +1061,21 @@ public SqmQueryImplementor<R> setFetchSize(int fetchSize) {
 		return this;
 	}
 
+	@Override
+	public SqmQueryImplementor<R> setChunkSize(int chunkSize) {
+		if ( chunkSize < 0 ) {
+			throw new IllegalArgumentException( "Chunk size must not be negative: " + chunkSize );
+		}
+		if ( !( getSqmStatement() instanceof SqmDeleteOrUpdateStatement<?> ) ) {
+			throw new IllegalStateException( "Chunked execution is only supported for 'update' and 'delete' statements" );
+		}
+		if ( chunkSize != this.chunkSize ) {
+			this.chunkSize = chunkSize;
+			chunkedQueryPlan = null;
+		}
+		return this;
+	}
+
 	@Override
 	public SqmQueryImplementor<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly( readOnly );
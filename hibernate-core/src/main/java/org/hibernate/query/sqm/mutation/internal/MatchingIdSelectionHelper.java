@@ -10,13 +10,15 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
-import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.ValuedModelPart;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.common.FetchClauseType;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SqmQuerySource;
@@ -36,10 +38,19 @@
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
+import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -51,6 +62,9 @@
 
 import org.jboss.logging.Logger;
 
+import static java.util.Collections.emptyList;
+import static org.hibernate.query.sqm.ComparisonOperator.GREATER_THAN;
+
 /**
  * Helper used to generate the SELECT for selection of an entity's identifier, here specifically intended to be used
  * as the SELECT portion of a multi-table SQM mutation
@@ -224,6 +238,203 @@ public static List<Object> selectMatchingIds(
 			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
+		final MatchingIdSelection selection =
+				createMatchingIdSelection( sqmMutationStatement, domainParameterXref, executionContext );
+		return executionContext.getSession().getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				selection.jdbcSelect(),
+				selection.jdbcParameterBindings(),
+				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext ),
+				selection.rowTransformer(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+
+	/**
+	 * Selection of ids matching the restriction of the DELETE or UPDATE SQM
+	 * query one page of at most {@code pageSize} ids at a time, in the order
+	 * of the id, via {@link MatchingIdPages#next}
+	 */
+	public static MatchingIdPages pageMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			int pageSize) {
+		return new MatchingIdPages(
+				createMatchingIdTranslation( sqmMutationStatement, domainParameterXref, executionContext ),
+				executionContext,
+				pageSize
+		);
+	}
+
+	/**
+	 * The ids matching the restriction of a DELETE or UPDATE SQM query, read
+	 * by keyset pagination: each page is read by its own query, restricted to
+	 * the ids following the last id of the previous page,
+	 * <pre>
+	 * select id from Entity where restriction and id > :lastId order by id fetch first :pageSize rows only
+	 * </pre>
+	 * so that no cursor is left open while the ids of a page are mutated.
+	 */
+	public static class MatchingIdPages {
+		private final DomainQueryExecutionContext executionContext;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final RowTransformer<Object> rowTransformer;
+		private final int pageSize;
+		private final boolean singleSelection;
+
+		private final JdbcOperationQuerySelect firstPageSelect;
+		private final JdbcOperationQuerySelect nextPageSelect;
+		private final List<JdbcParameter> lastIdParameters = new ArrayList<>();
+
+		private Object lastRow;
+		private boolean exhausted;
+
+		private MatchingIdPages(
+				MatchingIdTranslation translation,
+				DomainQueryExecutionContext executionContext,
+				int pageSize) {
+			this.executionContext = executionContext;
+			this.jdbcParameterBindings = translation.jdbcParameterBindings();
+			this.rowTransformer = translation.rowTransformer();
+			this.pageSize = pageSize;
+
+			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+			final QuerySpec querySpec = translation.sqlAst().getQuerySpec();
+			final List<SqlSelection> sqlSelections = querySpec.getSelectClause().getSqlSelections();
+			singleSelection = sqlSelections.size() == 1;
+
+			// the id is selected first, followed by the FK target columns of a delete
+			final EntityIdentifierMapping identifierMapping = translation.entityDescriptor().getIdentifierMapping();
+			final List<Expression> idExpressions = new ArrayList<>( identifierMapping.getJdbcTypeCount() );
+			identifierMapping.forEachSelectable( (selectionIndex, selectableMapping) -> {
+				final Expression idExpression = sqlSelections.get( selectionIndex ).getExpression();
+				idExpressions.add( idExpression );
+				querySpec.addSortSpecification( new SortSpecification( idExpression, SortDirection.ASCENDING ) );
+				lastIdParameters.add( new JdbcParameterImpl( selectableMapping.getJdbcMapping() ) );
+			} );
+			querySpec.setFetchClauseExpression(
+					new QueryLiteral<>( pageSize, factory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class ) ),
+					FetchClauseType.ROWS_ONLY
+			);
+			firstPageSelect = translation.translate( executionContext );
+
+			querySpec.applyPredicate(
+					idExpressions.size() == 1
+							? new ComparisonPredicate( idExpressions.get( 0 ), GREATER_THAN, lastIdParameters.get( 0 ) )
+							: new ComparisonPredicate(
+									new SqlTuple( idExpressions, identifierMapping ),
+									GREATER_THAN,
+									new SqlTuple( lastIdParameters, identifierMapping )
+							)
+			);
+			nextPageSelect = translation.translate( executionContext );
+		}
+
+		/**
+		 * Read the next page of ids
+		 *
+		 * @return the ids, or an empty list once all the matching ids were read
+		 */
+		public List<Object> next() {
+			if ( exhausted ) {
+				return emptyList();
+			}
+
+			final JdbcOperationQuerySelect select;
+			if ( lastRow == null ) {
+				select = firstPageSelect;
+			}
+			else {
+				for ( int i = 0; i < lastIdParameters.size(); i++ ) {
+					final JdbcParameter lastIdParameter = lastIdParameters.get( i );
+					jdbcParameterBindings.addBinding(
+							lastIdParameter,
+							new JdbcParameterBindingImpl(
+									lastIdParameter.getExpressionType().getSingleJdbcMapping(),
+									singleSelection ? lastRow : ( (Object[]) lastRow )[i]
+							)
+					);
+				}
+				select = nextPageSelect;
+			}
+
+			final List<Object> page = executionContext.getSession().getFactory().getJdbcServices()
+					.getJdbcSelectExecutor()
+					.list(
+							select,
+							jdbcParameterBindings,
+							SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext ),
+							rowTransformer,
+							ListResultsConsumer.UniqueSemantic.FILTER
+					);
+			if ( page.size() < pageSize ) {
+				exhausted = true;
+			}
+			if ( !page.isEmpty() ) {
+				lastRow = page.get( page.size() - 1 );
+			}
+			return page;
+		}
+	}
+
+	private record MatchingIdSelection(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			RowTransformer<Object> rowTransformer) {
+	}
+
+	private record MatchingIdTranslation(
+			EntityMappingType entityDescriptor,
+			SelectStatement sqlAst,
+			JdbcParameterBindings jdbcParameterBindings,
+			RowTransformer<Object> rowTransformer) {
+
+		private JdbcOperationQuerySelect translate(DomainQueryExecutionContext executionContext) {
+			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+			final JdbcEnvironment jdbcEnvironment = factory.getJdbcServices().getJdbcEnvironment();
+			final SqlAstTranslator<JdbcOperationQuerySelect> sqlAstSelectTranslator = jdbcEnvironment
+					.getSqlAstTranslatorFactory()
+					.buildSelectTranslator( factory, sqlAst );
+			final LockOptions lockOptions = executionContext.getQueryOptions().getLockOptions().makeCopy();
+			final LockMode lockMode = lockOptions.getLockMode();
+			// Acquire a WRITE lock for the rows that are about to be modified
+			lockOptions.setLockMode( LockMode.WRITE );
+			// Visit the table joins and reset the lock mode if we encounter OUTER joins that are not supported
+			if ( !jdbcEnvironment.getDialect().supportsOuterJoinForUpdate() ) {
+				sqlAst.getQuerySpec().getFromClause().visitTableJoins(
+						tableJoin -> {
+							if ( tableJoin.isInitialized() && tableJoin.getJoinType() != SqlAstJoinType.INNER ) {
+								lockOptions.setLockMode( lockMode );
+							}
+						}
+				);
+			}
+			final JdbcOperationQuerySelect idSelectJdbcOperation = sqlAstSelectTranslator.translate(
+					jdbcParameterBindings,
+					executionContext.getQueryOptions()
+			);
+			lockOptions.setLockMode( lockMode );
+			return idSelectJdbcOperation;
+		}
+	}
+
+	private static MatchingIdSelection createMatchingIdSelection(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final MatchingIdTranslation translation =
+				createMatchingIdTranslation( sqmMutationStatement, domainParameterXref, executionContext );
+		return new MatchingIdSelection(
+				translation.translate( executionContext ),
+				translation.jdbcParameterBindings(),
+				translation.rowTransformer()
+		);
+	}
+
+	private static MatchingIdTranslation createMatchingIdTranslation(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final EntityMappingType entityDescriptor = factory.getRuntimeMetamodels().getEntityMappingType(
@@ -269,11 +480,6 @@ public static List<Object> selectMatchingIds(
 						true
 				);
 		final SqmTranslation<SelectStatement> translation = translator.translate();
-		final JdbcServices jdbcServices = factory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslator<JdbcOperationQuerySelect> sqlAstSelectTranslator = jdbcEnvironment
-				.getSqlAstTranslatorFactory()
-				.buildSelectTranslator( factory, translation.getSqlAst() );
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
@@ -289,26 +495,6 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				,
 				executionContext.getSession()
 		);
-		final LockOptions lockOptions = executionContext.getQueryOptions().getLockOptions().makeCopy();
-		final LockMode lockMode = lockOptions.getLockMode();
-		// Acquire a WRITE lock for the rows that are about to be modified
-		lockOptions.setLockMode( LockMode.WRITE );
-		// Visit the table joins and reset the lock mode if we encounter OUTER joins that are not supported
-		if ( !jdbcEnvironment.getDialect().supportsOuterJoinForUpdate() ) {
-			translation.getSqlAst().getQuerySpec().getFromClause().visitTableJoins(
-					tableJoin -> {
-						if ( tableJoin.isInitialized() && tableJoin.getJoinType() != SqlAstJoinType.INNER ) {
-							lockOptions.setLockMode( lockMode );
-						}
-					}
-			);
-		}
-		final JdbcOperationQuerySelect idSelectJdbcOperation = sqlAstSelectTranslator.translate(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		);
-		lockOptions.setLockMode( lockMode );
-
 		final RowTransformer<?> rowTransformer;
 		if ( sqmQuerySpec.getSelectClause().getSelections().size() == 1 ) {
 			rowTransformer = RowTransformerSingularReturnImpl.instance();
@@ -317,12 +503,11 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 			rowTransformer = RowTransformerArrayImpl.instance();
 		}
 		//noinspection unchecked
-		return jdbcServices.getJdbcSelectExecutor().list(
-				idSelectJdbcOperation,
+		return new MatchingIdTranslation(
+				entityDescriptor,
+				translation.getSqlAst(),
 				jdbcParameterBindings,
-				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext ),
-				(RowTransformer<Object>) rowTransformer,
-				ListResultsConsumer.UniqueSemantic.FILTER
+				(RowTransformer<Object>) rowTransformer
 		);
 	}
 
@@ -39,6 +39,7 @@
 
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.createNonSoftDeletedRestriction;
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.createSoftDeleteAssignment;
+import static org.hibernate.query.sqm.mutation.internal.MutationQueryLogging.MUTATION_QUERY_LOGGER;
 
 /**
  * DeleteHandler for the in-line strategy
@@ -51,6 +52,7 @@ public class InlineDeleteHandler implements DeleteHandler {
 	private final MatchingIdRestrictionProducer matchingIdsPredicateProducer;
 	private final SqmDeleteStatement<?> sqmDeleteStatement;
 	private final DomainParameterXref domainParameterXref;
+	private final int chunkSize;
 
 	private final DomainQueryExecutionContext executionContext;
 
@@ -63,9 +65,19 @@ protected InlineDeleteHandler(
 			SqmDeleteStatement<?> sqmDeleteStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		this( matchingIdsPredicateProducer, sqmDeleteStatement, domainParameterXref, context, 0 );
+	}
+
+	protected InlineDeleteHandler(
+			MatchingIdRestrictionProducer matchingIdsPredicateProducer,
+			SqmDeleteStatement<?> sqmDeleteStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context,
+			int chunkSize) {
 		this.sqmDeleteStatement = sqmDeleteStatement;
 
 		this.domainParameterXref = domainParameterXref;
+		this.chunkSize = chunkSize;
 		this.matchingIdsPredicateProducer = matchingIdsPredicateProducer;
 
 		this.executionContext = context;
@@ -77,24 +89,60 @@ protected InlineDeleteHandler(
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> idsAndFks = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmDeleteStatement,
-				domainParameterXref,
-				executionContext
-		);
+		if ( chunkSize > 0 ) {
+			// read the ids one page at a time, so that only one chunk is held in memory
+			// and no cursor is open while the chunk is deleted
+			final MatchingIdSelectionHelper.MatchingIdPages matchingIds =
+					MatchingIdSelectionHelper.pageMatchingIds( sqmDeleteStatement, domainParameterXref, executionContext, chunkSize );
+			final List<Object> idsAndFks = matchingIds.next();
+			if ( idsAndFks.isEmpty() ) {
+				return 0;
+			}
+			return execute( idsAndFks, matchingIds::next, executionContext );
+		}
+		else {
+			final List<Object> idsAndFks = MatchingIdSelectionHelper.selectMatchingIds(
+					sqmDeleteStatement,
+					domainParameterXref,
+					executionContext
+			);
 
-		if ( idsAndFks == null || idsAndFks.isEmpty() ) {
-			return 0;
+			if ( idsAndFks == null || idsAndFks.isEmpty() ) {
+				return 0;
+			}
+			return execute( idsAndFks, Collections::emptyList, executionContext );
 		}
+	}
 
+	private int execute(
+			List<Object> firstIdsAndFks,
+			Supplier<List<Object>> nextIdsAndFks,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final String mutatingEntityName = sqmDeleteStatement.getTarget().getModel().getHibernateEntityName();
 		final EntityMappingType entityDescriptor = factory.getRuntimeMetamodels().getEntityMappingType( mutatingEntityName );
 
-		final List<Expression> inListExpressions = matchingIdsPredicateProducer.produceIdExpressionList( idsAndFks, entityDescriptor );
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( domainParameterXref.getQueryParameterCount() );
 
+		int rows = 0;
+		for ( List<Object> idsAndFks = firstIdsAndFks; !idsAndFks.isEmpty(); idsAndFks = nextIdsAndFks.get() ) {
+			final List<Expression> idExpressions = matchingIdsPredicateProducer.produceIdExpressionList( idsAndFks, entityDescriptor );
+			deleteMatchingRows( entityDescriptor, idExpressions, jdbcParameterBindings, executionContext );
+			rows += idsAndFks.size();
+			if ( chunkSize > 0 ) {
+				MUTATION_QUERY_LOGGER.debugf( "Deleted chunk of `%s` : %s rows so far", mutatingEntityName, rows );
+			}
+		}
+
+		return rows;
+	}
+
+	private void deleteMatchingRows(
+			EntityMappingType entityDescriptor,
+			List<Expression> inListExpressions,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
 		// delete from the tables
 		final MutableInteger valueIndexCounter = new MutableInteger();
 		SqmMutationStrategyHelper.visitCollectionTables(
@@ -158,8 +206,6 @@ public int execute(DomainQueryExecutionContext executionContext) {
 					)
 			);
 		}
-
-		return idsAndFks.size();
 	}
 
 	/**
@@ -25,17 +25,35 @@
 @SuppressWarnings("unused")
 public class InlineMutationStrategy implements SqmMultiTableMutationStrategy {
 	private final Function<SqmDeleteOrUpdateStatement<?>,MatchingIdRestrictionProducer> matchingIdsStrategy;
+	private final int chunkSize;
 
 	public InlineMutationStrategy(Dialect dialect) {
 		this( determinePredicateProducer( dialect ) );
 	}
 
+	/**
+	 * Creates a strategy which mutates the matching rows in chunks of at most
+	 * {@code chunkSize} ids, issuing separate statements for each chunk.
+	 *
+	 * @see org.hibernate.query.MutationQuery#setChunkSize(int)
+	 */
+	public InlineMutationStrategy(Dialect dialect, int chunkSize) {
+		this( determinePredicateProducer( dialect ), chunkSize );
+	}
+
 	private static Function<SqmDeleteOrUpdateStatement<?>,MatchingIdRestrictionProducer> determinePredicateProducer(Dialect dialect) {
 		return statement -> new InPredicateRestrictionProducer();
 	}
 
 	public InlineMutationStrategy(Function<SqmDeleteOrUpdateStatement<?>,MatchingIdRestrictionProducer> matchingIdsStrategy) {
+		this( matchingIdsStrategy, 0 );
+	}
+
+	public InlineMutationStrategy(
+			Function<SqmDeleteOrUpdateStatement<?>,MatchingIdRestrictionProducer> matchingIdsStrategy,
+			int chunkSize) {
 		this.matchingIdsStrategy = matchingIdsStrategy;
+		this.chunkSize = chunkSize;
 	}
 
 	@Override
@@ -47,7 +65,8 @@ public int executeUpdate(
 				matchingIdsStrategy.apply( sqmUpdate ),
 				sqmUpdate,
 				domainParameterXref,
-				context
+				context,
+				chunkSize
 		);
 		return handler.execute( context );
 	}
@@ -61,7 +80,8 @@ public int executeDelete(
 				matchingIdsStrategy.apply( sqmDelete ),
 				sqmDelete,
 				domainParameterXref,
-				context
+				context,
+				chunkSize
 		);
 
 		return deleteHandler.execute( context );
@@ -63,6 +63,8 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 
+import static org.hibernate.query.sqm.mutation.internal.MutationQueryLogging.MUTATION_QUERY_LOGGER;
+
 /**
  * @author Steve Ebersole
  */
@@ -71,36 +73,65 @@ public class InlineUpdateHandler implements UpdateHandler {
 	private final DomainParameterXref domainParameterXref;
 	private final MatchingIdRestrictionProducer matchingIdsPredicateProducer;
 	private final SessionFactoryImplementor sessionFactory;
+	private final int chunkSize;
 
 	public InlineUpdateHandler(
 			MatchingIdRestrictionProducer matchingIdsPredicateProducer,
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		this( matchingIdsPredicateProducer, sqmUpdate, domainParameterXref, context, 0 );
+	}
+
+	public InlineUpdateHandler(
+			MatchingIdRestrictionProducer matchingIdsPredicateProducer,
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context,
+			int chunkSize) {
 		this.matchingIdsPredicateProducer = matchingIdsPredicateProducer;
 		this.domainParameterXref = domainParameterXref;
 		this.sqmUpdate = sqmUpdate;
+		this.chunkSize = chunkSize;
 		this.sessionFactory = context.getSession().getFactory();
 	}
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> ids = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmUpdate,
-				domainParameterXref,
-				executionContext
-		);
+		if ( chunkSize > 0 ) {
+			// read the ids one page at a time, so that only one chunk is held in memory
+			// and no cursor is open while the chunk is updated
+			final MatchingIdSelectionHelper.MatchingIdPages matchingIds =
+					MatchingIdSelectionHelper.pageMatchingIds( sqmUpdate, domainParameterXref, executionContext, chunkSize );
+			final List<Object> ids = matchingIds.next();
+			if ( ids.isEmpty() ) {
+				return 0;
+			}
+			return execute( ids, matchingIds::next, executionContext );
+		}
+		else {
+			final List<Object> ids = MatchingIdSelectionHelper.selectMatchingIds(
+					sqmUpdate,
+					domainParameterXref,
+					executionContext
+			);
 
-		if ( ids == null || ids.isEmpty() ) {
-			return 0;
+			if ( ids == null || ids.isEmpty() ) {
+				return 0;
+			}
+			return execute( ids, Collections::emptyList, executionContext );
 		}
+	}
 
+	private int execute(
+			List<Object> firstIds,
+			Supplier<List<Object>> nextIds,
+			DomainQueryExecutionContext executionContext) {
 		domainParameterXref.clearExpansions();
 		final MappingMetamodel domainModel = sessionFactory.getMappingMetamodel();
 
 		final String mutatingEntityName = sqmUpdate.getTarget().getModel().getHibernateEntityName();
 		final EntityPersister entityDescriptor = domainModel.getEntityDescriptor( mutatingEntityName );
-		final List<Expression> inListExpressions = matchingIdsPredicateProducer.produceIdExpressionList( ids, entityDescriptor );
 
 		//noinspection unchecked
 		final SqmTranslation<UpdateStatement> translation = (SqmTranslation<UpdateStatement>)
@@ -173,22 +204,28 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 			assignmentsForTable.add( assignment );
 		}
 
-		final int rows = ids.size();
-
+		int rows = 0;
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext );
-		entityDescriptor.visitConstraintOrderedTables(
-				(tableExpression, tableKeyColumnVisitationSupplier) -> updateTable(
-						tableExpression,
-						tableKeyColumnVisitationSupplier,
-						entityDescriptor,
-						updatingTableGroup,
-						assignmentsByTable,
-						inListExpressions,
-						rows,
-						jdbcParameterBindings,
-						executionContextAdapter
-				)
-		);
+		for ( List<Object> ids = firstIds; !ids.isEmpty(); ids = nextIds.get() ) {
+			final List<Expression> inListExpressions = matchingIdsPredicateProducer.produceIdExpressionList( ids, entityDescriptor );
+			entityDescriptor.visitConstraintOrderedTables(
+					(tableExpression, tableKeyColumnVisitationSupplier) -> updateTable(
+							tableExpression,
+							tableKeyColumnVisitationSupplier,
+							entityDescriptor,
+							updatingTableGroup,
+							assignmentsByTable,
+							inListExpressions,
+							inListExpressions.size(),
+							jdbcParameterBindings,
+							executionContextAdapter
+					)
+			);
+			rows += ids.size();
+			if ( chunkSize > 0 ) {
+				MUTATION_QUERY_LOGGER.debugf( "Updated chunk of `%s` : %s rows so far", mutatingEntityName, rows );
+			}
+		}
 
 		return rows;
 	}
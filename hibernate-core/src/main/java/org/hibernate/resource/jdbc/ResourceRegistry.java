@@ -7,9 +7,12 @@
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import org.hibernate.Incubating;
+
 /**
  * A registry for tracking JDBC resources.
  *
@@ -72,4 +75,45 @@ public interface ResourceRegistry {
 
 	void cancelLastQuery();
 
+	/**
+	 * Obtain an open statement, previously {@linkplain #cacheOnRelease cached}
+	 * for the given SQL and result set type, and since released.
+	 * <p>
+	 * The statement is no longer cached, and must be {@linkplain #register(Statement, boolean)
+	 * registered} again.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The {@linkplain java.sql.ResultSet#getType() type} of its result sets
+	 *
+	 * @return The cached statement, or {@code null} if there is none
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default PreparedStatement reuseStatement(String sql, int resultSetType) {
+		return null;
+	}
+
+	/**
+	 * Keep the given registered statement open when it is {@linkplain #release(Statement)
+	 * released}, so that it may be {@linkplain #reuseStatement reused}, if statement
+	 * caching is enabled.
+	 *
+	 * @param statement The statement
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The {@linkplain java.sql.ResultSet#getType() type} of its result sets
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default void cacheOnRelease(PreparedStatement statement, String sql, int resultSetType) {
+	}
+
+	/**
+	 * Close the statements kept open for reuse, which is required before the
+	 * underlying JDBC connection is released.
+	 */
+	@Incubating
+	default void releaseCachedStatements() {
+	}
 }
@@ -229,6 +229,8 @@ private void releaseConnection() {
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				// cached statements belong to the connection being released
+				getResourceRegistry().releaseCachedStatements();
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
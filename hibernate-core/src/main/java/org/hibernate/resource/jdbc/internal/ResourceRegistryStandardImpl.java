@@ -7,11 +7,14 @@
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -31,6 +34,11 @@
  * {@code Iterator}s on {@code HashMap} and {@code ArrayList}, but not on {@code HashSet} (at least on JDK8 and 11).
  * Therefore some types which should ideally be modelled as a {@code Set} have
  * been implemented using {@code HashMap}.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE statement caching}
+ * is enabled, statements {@linkplain #cacheOnRelease registered for caching} are kept
+ * open when released, up to the given number of idle statements, the least recently
+ * released statement being closed first.
  *
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -58,12 +66,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final int statementCacheSize;
+	//registered statements to be cached rather than closed when released
+	private HashMap<Statement, StatementKey> cacheableStatements;
+	//released statements, in the order of their release
+	private LinkedHashMap<StatementKey, PreparedStatement> cachedStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, 0 );
+	}
+
+	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler, int statementCacheSize) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
@@ -103,11 +122,14 @@ public void release(Statement statement) {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
-
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
+
+		final StatementKey key = cacheableStatements == null ? null : cacheableStatements.remove( statement );
+		if ( key == null || !cache( key, (PreparedStatement) statement ) ) {
+			close( statement );
+		}
 	}
 
 	@Override
@@ -213,6 +235,86 @@ private static void close(Statement statement) {
 		}
 	}
 
+	@Override
+	public PreparedStatement reuseStatement(String sql, int resultSetType) {
+		if ( cachedStatements == null ) {
+			return null;
+		}
+		final PreparedStatement statement = cachedStatements.remove( new StatementKey( sql, resultSetType ) );
+		if ( statement != null ) {
+			log.tracef( "Reusing cached statement [%s]", statement );
+		}
+		return statement;
+	}
+
+	@Override
+	public void cacheOnRelease(PreparedStatement statement, String sql, int resultSetType) {
+		if ( statementCacheSize > 0 ) {
+			if ( cacheableStatements == null ) {
+				cacheableStatements = new HashMap<>();
+			}
+			cacheableStatements.put( statement, new StatementKey( sql, resultSetType ) );
+		}
+	}
+
+	/**
+	 * Keep the given released statement open for reuse, after resetting the state
+	 * that could have been set for its previous execution.
+	 *
+	 * @return {@code false} if the statement could not be reset, and must be closed
+	 */
+	private boolean cache(StatementKey key, PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != 0 ) {
+				statement.setFetchSize( 0 );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		if ( cachedStatements == null ) {
+			cachedStatements = new LinkedHashMap<>() {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+					if ( size() > statementCacheSize ) {
+						close( eldest.getValue() );
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+		final PreparedStatement previous = cachedStatements.put( key, statement );
+		if ( previous != null ) {
+			// the same SQL was executed by two statements open at the same time
+			close( previous );
+		}
+		return true;
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( cachedStatements != null ) {
+			log.trace( "Closing cached statements" );
+			cachedStatements.forEach( (key, statement) -> close( statement ) );
+			cachedStatements.clear();
+		}
+	}
+
 	@Override
 	public void register(ResultSet resultSet, Statement statement) {
 		log.tracef( "Registering result set [%s]", resultSet );
@@ -332,6 +434,11 @@ public void releaseResources() {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( cacheableStatements != null ) {
+			// statements still in use when the resources are released are closed
+			cacheableStatements.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -376,6 +483,9 @@ public void releaseResources() {
 		}
 	}
 
+	private record StatementKey(String sql, int resultSetType) {
+	}
+
 	private boolean hasRegistered(final HashMap resource) {
 		return resource != null && !resource.isEmpty();
 	}
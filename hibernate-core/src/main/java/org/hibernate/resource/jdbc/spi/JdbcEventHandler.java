@@ -96,6 +96,12 @@ public void jdbcPrepareStatementEnd() {
 		}
 	}
 
+	public void jdbcPreparedStatementReused() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.prepareStatementCacheHit();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
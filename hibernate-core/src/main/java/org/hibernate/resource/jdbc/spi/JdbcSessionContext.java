@@ -4,6 +4,7 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -30,6 +31,14 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
@@ -72,6 +72,8 @@ protected void executeStatement() {
 		final DiagnosticEvent jdbcPreparedStatementExecutionEvent =
 				eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 		try {
+			// a procedure might modify the database
+			context.getSession().getJdbcCoordinator().mutationExecuted();
 			final boolean isResultSet = jdbcStatement.execute();
 			currentReturnState = buildCurrentReturnState( isResultSet );
 		}
@@ -33,6 +33,8 @@
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.QuotingHelper;
@@ -64,6 +66,7 @@
 import org.hibernate.query.internal.NullPrecedenceHelper;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sql.spi.SqlTranslationEngine;
 import org.hibernate.query.sqm.BinaryArithmeticOperator;
 import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.query.common.FetchClauseType;
@@ -755,6 +758,25 @@ private static CteContainer matchCteContainerByStatement(final Statement stmt, f
 
 	@Override
 	public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		final Statement statement = getStatement();
+		final SqlTranslationEngine translationEngine = sessionFactory.getSqlTranslationEngine();
+		// size the buffer upfront, instead of growing it repeatedly while rendering long statements
+		final int initialBufferCapacity = translationEngine.estimateSqlLength( statement );
+		sqlBuffer.ensureCapacity( initialBufferCapacity );
+		final EventMonitor eventMonitor = sessionFactory.getEventMonitor();
+		final DiagnosticEvent sqlAstTranslationEvent = eventMonitor.beginSqlAstTranslationEvent();
+		final T jdbcOperation = translateStatement( jdbcParameterBindings, queryOptions );
+		translationEngine.recordSqlLength( statement, sqlBuffer.length() );
+		eventMonitor.completeSqlAstTranslationEvent(
+				sqlAstTranslationEvent,
+				sqlAstTranslationEvent == null ? null : getSql(),
+				initialBufferCapacity,
+				sqlBuffer.capacity()
+		);
+		return jdbcOperation;
+	}
+
+	private T translateStatement(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		try {
 			this.jdbcParameterBindings = jdbcParameterBindings;
 
@@ -29,6 +29,7 @@
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesPrefetched;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -256,6 +257,17 @@ private JdbcValues resolveJdbcValuesSource(
 			DeferredResultSetAccess resultSetAccess) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
+
+		final List<Object[]> prefetchedRows = executionContext.getPrefetchedRows();
+		if ( prefetchedRows != null ) {
+			// the query was already executed on another connection
+			return new JdbcValuesPrefetched(
+					prefetchedRows,
+					jdbcSelect.getJdbcValuesMappingProducer()
+							.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory )
+			);
+		}
+
 		final boolean queryCacheEnabled = factory.getSessionFactoryOptions().isQueryCacheEnabled();
 
 		final List<?> cachedResults;
@@ -70,6 +70,7 @@ public int execute(
 				}
 
 				session.getEventListenerManager().jdbcExecuteStatementStart();
+				session.getJdbcCoordinator().mutationExecuted();
 				final EventMonitor eventMonitor = session.getEventMonitor();
 				final DiagnosticEvent jdbcPreparedStatementExecutionEvent =
 						eventMonitor.beginJdbcPreparedStatementExecutionEvent();
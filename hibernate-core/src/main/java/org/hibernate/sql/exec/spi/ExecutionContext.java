@@ -4,6 +4,9 @@
  */
 package org.hibernate.sql.exec.spi;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -103,4 +106,20 @@ default boolean upgradeLocks(){
 		return false;
 	}
 
+	/**
+	 * The JDBC values of the rows of the query result, if the query was already
+	 * executed on another connection, or {@code null} if it still needs to be
+	 * executed. Each row holds one value per {@linkplain
+	 * org.hibernate.sql.ast.spi.SqlSelection#getValuesArrayPosition() values array
+	 * position} of the {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_PARALLEL_FETCHES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default List<Object[]> getPrefetchedRows() {
+		return null;
+	}
+
 }
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.BitSet;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.collection.CollectionInitializer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A fetch of a collection whose elements are aggregated into a JSON array
+ * by a subquery in the select list of the query fetching the owner.
+ *
+ * @see org.hibernate.annotations.FetchMode#JSON
+ *
+ * @since 7.0
+ */
+public class JsonCollectionFetch extends CollectionFetch {
+	private final DomainResult<String> elementsResult;
+
+	public JsonCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			DomainResult<String> elementsResult,
+			FetchParent fetchParent) {
+		super( fetchedPath, fetchedAttribute, fetchParent );
+		this.elementsResult = elementsResult;
+	}
+
+	@Override
+	public FetchTiming getTiming() {
+		return FetchTiming.IMMEDIATE;
+	}
+
+	@Override
+	public boolean hasTableGroup() {
+		return false;
+	}
+
+	public CollectionInitializer<?> createInitializer(InitializerParent<?> parent, AssemblerCreationState creationState) {
+		return new JsonCollectionInitializer(
+				getNavigablePath(),
+				getFetchedMapping(),
+				parent,
+				elementsResult,
+				creationState
+		);
+	}
+
+	@Override
+	public JavaType<?> getResultJavaType() {
+		return getFetchedMapping().getJavaType();
+	}
+
+	@Override
+	public void collectValueIndexesToCache(BitSet valueIndexes) {
+		elementsResult.collectValueIndexesToCache( valueIndexes );
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.JsonHelper;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.BasicValuedCollectionPart;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Initializes a collection from the JSON array of its elements, read from
+ * the same row as its owner.
+ *
+ * @see JsonCollectionFetch
+ *
+ * @since 7.0
+ */
+public class JsonCollectionInitializer
+		extends AbstractNonJoinCollectionInitializer<AbstractCollectionInitializer.CollectionInitializerData> {
+	private final DomainResultAssembler<String> elementsAssembler;
+	private final ArrayJavaType<?> arrayJavaType;
+	private final JdbcType elementJdbcType;
+
+	public JsonCollectionInitializer(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedMapping,
+			InitializerParent<?> parent,
+			DomainResult<String> elementsResult,
+			AssemblerCreationState creationState) {
+		super( fetchedPath, fetchedMapping, parent, null, false, creationState );
+		this.elementsAssembler = elementsResult.createResultAssembler( this, creationState );
+		final JdbcMapping elementJdbcMapping =
+				( (BasicValuedCollectionPart) fetchedMapping.getElementDescriptor() ).getJdbcMapping();
+		this.arrayJavaType = new ArrayJavaType<>( elementJdbcMapping.getJavaTypeDescriptor() );
+		this.elementJdbcType = elementJdbcMapping.getJdbcType();
+	}
+
+	@Override
+	public void resolveInstance(CollectionInitializerData data) {
+		resolveInstance( data, false );
+		if ( data.getState() == State.INITIALIZED ) {
+			initializeCollection( data.getCollectionInstance(), data.getRowProcessingState() );
+		}
+	}
+
+	@Override
+	public void resolveInstance(@Nullable Object instance, CollectionInitializerData data) {
+		resolveInstance( instance, data, false );
+		if ( data.getState() == State.INITIALIZED ) {
+			initializeCollection( data.getCollectionInstance(), data.getRowProcessingState() );
+		}
+	}
+
+	@Override
+	public void resolveState(CollectionInitializerData data) {
+		super.resolveState( data );
+		elementsAssembler.resolveState( data.getRowProcessingState() );
+	}
+
+	@Override
+	public void initializeInstanceFromParent(Object parentInstance, CollectionInitializerData data) {
+		// the JSON array is not available from the query cache,
+		// so the collection is initialized using a secondary select
+		final Object instance = getInitializedPart().getValue( parentInstance );
+		if ( instance == null ) {
+			setMissing( data );
+		}
+		else {
+			final PersistentCollection<?> collection = (PersistentCollection<?>) instance;
+			data.setState( State.INITIALIZED );
+			data.setCollectionInstance( collection );
+			collection.forceInitialization();
+		}
+	}
+
+	private void initializeCollection(
+			@Nullable PersistentCollection<?> collection,
+			RowProcessingState rowProcessingState) {
+		if ( collection != null && !collection.wasInitialized() ) {
+			final SharedSessionContractImplementor session = rowProcessingState.getSession();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final CollectionPersister collectionDescriptor = collectionAttributeMapping.getCollectionDescriptor();
+			final Object key = collection.getKey();
+			// the collection might be in the process of being loaded by another initializer
+			if ( persistenceContext.getLoadContexts()
+					.findLoadingCollectionEntry( new CollectionKey( collectionDescriptor, key ) ) == null ) {
+				final List<?> elements = decodeElements( elementsAssembler.assemble( rowProcessingState ), session );
+				collection.beforeInitialize( collectionDescriptor, elements.size() );
+				collection.beginRead();
+				collection.injectLoadedState( collectionAttributeMapping, elements );
+				final boolean hasNoQueuedAdds = collection.endRead();
+				ResultsHelper.finalizeCollectionLoading(
+						persistenceContext,
+						collectionDescriptor,
+						collection,
+						key,
+						hasNoQueuedAdds
+				);
+			}
+		}
+	}
+
+	private List<?> decodeElements(@Nullable String json, SharedSessionContractImplementor session) {
+		if ( json == null ) {
+			// json_arrayagg() returns null when there are no elements
+			return emptyList();
+		}
+		try {
+			return asList( JsonHelper.arrayFromString( arrayJavaType, elementJdbcType, json, session ) );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not read the JSON array of elements of collection '"
+							+ collectionAttributeMapping.getNavigableRole().getFullPath() + "'"
+			);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JsonCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
@@ -25,6 +25,19 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 */
 	long getFetchCount();
 
+	/**
+	 * Number of times (since last Statistics clearing) the batch size of
+	 * this collection was raised within a session, because instances were
+	 * repeatedly fetched one at a time
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default long getBatchSizeIncreaseCount() {
+		return 0;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this collection
 	 * has been recreated (rows potentially deleted and then rows (re-)inserted)
@@ -43,6 +43,19 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 */
 	long getFetchCount();
 
+	/**
+	 * Number of times (since last Statistics clearing) the batch size of
+	 * this entity was raised within a session, because instances were
+	 * repeatedly fetched one at a time
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default long getBatchSizeIncreaseCount() {
+		return 0;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this entity
 	 * has experienced an optimistic lock failure.
@@ -24,6 +24,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder insertCount = new LongAdder();
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LongAdder batchSizeIncreaseCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
@@ -59,6 +60,10 @@ public long getFetchCount() {
 		return fetchCount.sum();
 	}
 
+	public long getBatchSizeIncreaseCount() {
+		return batchSizeIncreaseCount.sum();
+	}
+
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
@@ -71,6 +76,10 @@ void incrementFetchCount() {
 		fetchCount.increment();
 	}
 
+	void incrementBatchSizeIncreaseCount() {
+		batchSizeIncreaseCount.increment();
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -101,6 +110,7 @@ public String toString() {
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
+				.append( ",batchSizeIncreaseCount=" ).append( this.batchSizeIncreaseCount )
 				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
@@ -63,6 +63,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder prepareStatementCacheHitCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -171,6 +172,7 @@ public void clear() {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		prepareStatementCacheHitCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -304,6 +306,11 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void increaseEntityBatchSize(String entityName) {
+		getEntityStatistics( entityName ).incrementBatchSizeIncreaseCount();
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -411,6 +418,11 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void increaseCollectionBatchSize(String role) {
+		getCollectionStatistics( role ).incrementBatchSizeIncreaseCount();
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -857,6 +869,11 @@ public long getPrepareStatementCount() {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPrepareStatementCacheHitCount() {
+		return prepareStatementCacheHitCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -887,6 +904,11 @@ public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void prepareStatementCacheHit() {
+		prepareStatementCacheHitCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -953,6 +975,7 @@ public String toString() {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + prepareStatementCacheHitCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
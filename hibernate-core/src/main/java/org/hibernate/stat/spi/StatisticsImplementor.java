@@ -50,6 +50,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a cached statement being reused instead of being prepared.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	default void prepareStatementCacheHit() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -73,6 +82,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about the batch size of an entity being raised within a session,
+	 * because instances of the entity were repeatedly fetched one at a time.
+	 *
+	 * @param entityName The name of the entity.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	default void increaseEntityBatchSize(String entityName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -124,6 +145,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback about the batch size of a collection being raised within a session,
+	 * because instances of the collection were repeatedly fetched one at a time.
+	 *
+	 * @param role The collection role.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	default void increaseCollectionBatchSize(String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
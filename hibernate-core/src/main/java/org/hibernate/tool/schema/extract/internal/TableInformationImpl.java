@@ -91,16 +91,20 @@ public Iterable<ForeignKeyInformation> getForeignKeys() {
 
 	protected Map<Identifier, ForeignKeyInformation> foreignKeys() {
 		if ( foreignKeys == null ) {
-			final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
-			final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
-			for ( ForeignKeyInformation fk : fks ) {
-				fkMap.put( fk.getForeignKeyIdentifier(), fk );
-			}
-			this.foreignKeys = fkMap;
+			foreignKeys = extractForeignKeys( extractor );
 		}
 		return foreignKeys;
 	}
 
+	private Map<Identifier, ForeignKeyInformation> extractForeignKeys(InformationExtractor extractor) {
+		final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
+		final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
+		for ( ForeignKeyInformation fk : fks ) {
+			fkMap.put( fk.getForeignKeyIdentifier(), fk );
+		}
+		return fkMap;
+	}
+
 	@Override
 	public ForeignKeyInformation getForeignKey(Identifier fkIdentifier) {
 		return foreignKeys().get( new Identifier(
@@ -116,16 +120,34 @@ public Iterable<IndexInformation> getIndexes() {
 
 	protected Map<Identifier, IndexInformation> indexes() {
 		if ( indexes == null ) {
-			final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
-			final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
-			for ( IndexInformation index : indexes ) {
-				indexMap.put( index.getIndexIdentifier(), index );
-			}
-			this.indexes = indexMap;
+			indexes = extractIndexes( extractor );
 		}
 		return indexes;
 	}
 
+	private Map<Identifier, IndexInformation> extractIndexes(InformationExtractor extractor) {
+		final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
+		final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
+		for ( IndexInformation index : indexes ) {
+			indexMap.put( index.getIndexIdentifier(), index );
+		}
+		return indexMap;
+	}
+
+	/**
+	 * Eagerly extract the indexes and foreign keys of this table, using the given
+	 * extractor, which might read the metadata over a different connection than the
+	 * extractor which created this table.
+	 */
+	public void extractIndexesAndForeignKeys(InformationExtractor extractor) {
+		if ( indexes == null ) {
+			indexes = extractIndexes( extractor );
+		}
+		if ( foreignKeys == null ) {
+			foreignKeys = extractForeignKeys( extractor );
+		}
+	}
+
 	@Override
 	public void addColumn(ColumnInformation columnIdentifier) {
 		columns.put( columnIdentifier.getColumnIdentifier(), columnIdentifier );
@@ -4,6 +4,8 @@
  */
 package org.hibernate.tool.schema.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.boot.Metadata;
@@ -68,6 +70,7 @@ protected NameSpaceTablesInformation performTablesMigration(
 			);
 
 			final NameSpaceTablesInformation tables = existingDatabase.getTablesInformation( namespace );
+			final List<TableInformation> existingTables = new ArrayList<>();
 			for ( Table table : namespace.getTables() ) {
 				if ( schemaFilter.includeTable( table )
 						&& table.isPhysicalTable()
@@ -79,12 +82,15 @@ protected NameSpaceTablesInformation performTablesMigration(
 					}
 					else if ( tableInformation.isPhysicalTable() ) {
 						tablesInformation.addTableInformation( tableInformation );
+						existingTables.add( tableInformation );
 						migrateTable( table, tableInformation, dialect, metadata, formatter, options,
 								context, targets );
 					}
 				}
 			}
 
+			ParallelMetadataExtraction.extractIndexesAndForeignKeys( existingTables, existingDatabase, context, tool, options );
+
 			for ( Table table : namespace.getTables() ) {
 				if ( schemaFilter.includeTable( table )
 						&& table.isPhysicalTable()
@@ -25,7 +25,6 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.tool.schema.JdbcMetadaAccessStrategy;
 import org.hibernate.tool.schema.TargetType;
-import org.hibernate.tool.schema.extract.internal.InformationExtractorJdbcDatabaseMetaDataImpl;
 import org.hibernate.tool.schema.extract.spi.ExtractionContext;
 import org.hibernate.tool.schema.extract.spi.InformationExtractor;
 import org.hibernate.tool.schema.spi.GenerationTarget;
@@ -462,7 +461,8 @@ public ExtractionContext createExtractionContext(
 
 		@Override
 		public InformationExtractor createInformationExtractor(ExtractionContext extractionContext) {
-			return new InformationExtractorJdbcDatabaseMetaDataImpl( extractionContext );
+			return extractionContext.getJdbcEnvironment().getDialect()
+					.getInformationExtractor( extractionContext );
 		}
 	}
 }
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.tool.schema.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.tool.schema.extract.internal.ExtractionContextImpl;
+import org.hibernate.tool.schema.extract.internal.TableInformationImpl;
+import org.hibernate.tool.schema.extract.spi.DatabaseInformation;
+import org.hibernate.tool.schema.extract.spi.ExtractionContext;
+import org.hibernate.tool.schema.extract.spi.InformationExtractor;
+import org.hibernate.tool.schema.extract.spi.SchemaExtractionException;
+import org.hibernate.tool.schema.extract.spi.SequenceInformation;
+import org.hibernate.tool.schema.extract.spi.TableInformation;
+import org.hibernate.tool.schema.internal.exec.JdbcConnectionAccessProvidedConnectionImpl;
+import org.hibernate.tool.schema.internal.exec.JdbcContext;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+
+import static org.hibernate.cfg.SchemaToolingSettings.HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * Extracts the indexes and foreign keys of existing tables concurrently, each
+ * thread reading {@link java.sql.DatabaseMetaData} over its own JDBC connection.
+ *
+ * @see org.hibernate.cfg.SchemaToolingSettings#HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM
+ */
+final class ParallelMetadataExtraction {
+
+	private ParallelMetadataExtraction() {
+		//not meant to be instantiated
+	}
+
+	/**
+	 * Extract the indexes and foreign keys of the given tables, if parallel extraction
+	 * is enabled. Otherwise, they are extracted lazily, on the connection used for
+	 * the rest of the migration.
+	 */
+	static void extractIndexesAndForeignKeys(
+			List<TableInformation> tables,
+			DatabaseInformation existingDatabase,
+			SqlStringGenerationContext context,
+			HibernateSchemaManagementTool tool,
+			ExecutionOptions options) {
+		final int parallelism = Math.min(
+				getInt( HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM, options.getConfigurationValues(), 1 ),
+				tables.size()
+		);
+		if ( parallelism <= 1 ) {
+			return;
+		}
+		final JdbcContext jdbcContext = tool.resolveJdbcContext( options.getConfigurationValues() );
+		if ( jdbcContext.getJdbcConnectionAccess() instanceof JdbcConnectionAccessProvidedConnectionImpl ) {
+			// a single connection was provided by the application
+			return;
+		}
+
+		final List<List<TableInformationImpl>> partitions = new ArrayList<>( parallelism );
+		for ( int i = 0; i < parallelism; i++ ) {
+			partitions.add( new ArrayList<>() );
+		}
+		int i = 0;
+		for ( TableInformation table : tables ) {
+			if ( table instanceof TableInformationImpl tableInformation ) {
+				partitions.get( i++ % parallelism ).add( tableInformation );
+			}
+		}
+
+		final List<Callable<Void>> tasks = new ArrayList<>( parallelism );
+		for ( List<TableInformationImpl> partition : partitions ) {
+			tasks.add( () -> {
+				extract( partition, existingDatabase, context, tool, jdbcContext );
+				return null;
+			} );
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool( parallelism );
+		try {
+			for ( Future<Void> future : executor.invokeAll( tasks ) ) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			throw new SchemaExtractionException( "Error extracting table metadata", e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SchemaExtractionException( "Interrupted while extracting table metadata", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void extract(
+			List<TableInformationImpl> tables,
+			DatabaseInformation existingDatabase,
+			SqlStringGenerationContext context,
+			HibernateSchemaManagementTool tool,
+			JdbcContext jdbcContext) {
+		final DatabaseObjectAccessImpl databaseObjectAccess =
+				new DatabaseObjectAccessImpl( existingDatabase, context );
+		final ExtractionContext extractionContext = new ExtractionContextImpl(
+				tool.getServiceRegistry(),
+				tool.getServiceRegistry().requireService( JdbcEnvironment.class ),
+				context,
+				jdbcContext.getJdbcConnectionAccess(),
+				databaseObjectAccess
+		);
+		try {
+			databaseObjectAccess.extractor =
+					tool.getExtractionTool().createInformationExtractor( extractionContext );
+			for ( TableInformationImpl table : tables ) {
+				table.extractIndexesAndForeignKeys( databaseObjectAccess.extractor );
+			}
+		}
+		finally {
+			extractionContext.cleanup();
+		}
+	}
+
+	/**
+	 * Locates the tables referenced by foreign keys over the connection of the
+	 * current thread, since the {@link DatabaseInformation} is not thread-safe.
+	 */
+	private static class DatabaseObjectAccessImpl implements ExtractionContext.DatabaseObjectAccess {
+		private final DatabaseInformation existingDatabase;
+		private final SqlStringGenerationContext context;
+		private InformationExtractor extractor;
+
+		private DatabaseObjectAccessImpl(DatabaseInformation existingDatabase, SqlStringGenerationContext context) {
+			this.existingDatabase = existingDatabase;
+			this.context = context;
+		}
+
+		@Override
+		public TableInformation locateTableInformation(QualifiedTableName tableName) {
+			return extractor.getTable(
+					context.catalogWithDefault( tableName.getCatalogName() ),
+					context.schemaWithDefault( tableName.getSchemaName() ),
+					tableName.getTableName()
+			);
+		}
+
+		@Override
+		public SequenceInformation locateSequenceInformation(QualifiedSequenceName sequenceName) {
+			// sequences are all read upfront
+			return existingDatabase.getSequenceInformation( sequenceName );
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.junit.BaseSessionFactoryFunctionalTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the row mutations of the updated collections of a given role are
+ * batched across owners when {@value AvailableSettings#ORDER_UPDATES} is enabled
+ */
+public class CollectionUpdateBatchingTest extends BaseSessionFactoryFunctionalTest {
+
+	private final PreparedStatementSpyConnectionProvider connectionProvider =
+			new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		builder.applySetting( AvailableSettings.ORDER_UPDATES, "true" );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		connectionProvider.setConnectionProvider(
+				(ConnectionProvider) builder.getSettings().get( AvailableSettings.CONNECTION_PROVIDER )
+		);
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@AfterAll
+	public void releaseResources() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testRowMutationsAreBatchedAcrossOwners() throws Exception {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Owner owner = new Owner( id );
+				owner.tags.addAll( Set.of( "a", "b" ) );
+				session.persist( owner );
+			}
+		} );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final List<Owner> owners = session.createSelectionQuery( "from Owner", Owner.class ).getResultList();
+			owners.forEach( owner -> Hibernate.initialize( owner.tags ) );
+			connectionProvider.clear();
+			for ( Owner owner : owners ) {
+				owner.tags.remove( "a" );
+				owner.tags.add( "c" );
+			}
+		} );
+
+		// one batch of deletes and one batch of inserts for the three owners
+		final List<PreparedStatement> statements = connectionProvider.getPreparedStatements();
+		assertThat( statements ).hasSize( 2 );
+		for ( PreparedStatement statement : statements ) {
+			assertThat( connectionProvider.spyContext.getCalls(
+					PreparedStatement.class.getMethod( "addBatch" ),
+					statement
+			) ).hasSize( 3 );
+		}
+
+		sessionFactoryScope().inTransaction( session -> {
+			for ( Owner owner : session.createSelectionQuery( "from Owner", Owner.class ).getResultList() ) {
+				assertThat( owner.tags ).containsExactlyInAnyOrder( "b", "c" );
+			}
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+}
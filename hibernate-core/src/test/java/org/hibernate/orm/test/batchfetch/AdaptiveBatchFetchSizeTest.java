@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE}
+ */
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchSizeTest.Product.class,
+		AdaptiveBatchFetchSizeTest.Supplier.class,
+		AdaptiveBatchFetchSizeTest.Review.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.MAX_ADAPTIVE_BATCH_FETCH_SIZE, value = "4"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class AdaptiveBatchFetchSizeTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 12; id++ ) {
+				final Supplier supplier = new Supplier( id, "supplier " + id );
+				session.persist( supplier );
+				final Product product = new Product( id, supplier );
+				session.persist( product );
+				session.persist( new Review( id, product ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityBatchSizeIncreases(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Product> products =
+					session.createSelectionQuery( "from Product", Product.class ).getResultList();
+			inspector.clear();
+			for ( Product product : products ) {
+				assertThat( Hibernate.unproxy( product.supplier, Supplier.class ).name ).isNotNull();
+			}
+			// one supplier, then two twice, the batch size being raised after the
+			// second miss, then four after the fourth miss, then the remaining three
+			inspector.assertExecutedCount( 5 );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getEntityStatistics( Supplier.class.getName() ).getBatchSizeIncreaseCount() )
+				.isEqualTo( 2 );
+	}
+
+	@Test
+	public void testNoIncreaseWithoutMisses(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 4; id++ ) {
+				final Product product = session.createSelectionQuery( "from Product where id = :id", Product.class )
+						.setParameter( "id", id )
+						.getSingleResult();
+				inspector.clear();
+				// the only queued supplier is fetched, so a larger batch would not help
+				assertThat( Hibernate.unproxy( product.supplier, Supplier.class ).name ).isNotNull();
+				inspector.assertExecutedCount( 1 );
+			}
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getEntityStatistics( Supplier.class.getName() ).getBatchSizeIncreaseCount() )
+				.isEqualTo( 0 );
+	}
+
+	@Test
+	public void testCollectionBatchSizeIncreases(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Product> products =
+					session.createSelectionQuery( "from Product", Product.class ).getResultList();
+			inspector.clear();
+			for ( Product product : products ) {
+				assertThat( product.reviews ).hasSize( 1 );
+			}
+			// one collection, then two twice, the batch size being raised after the
+			// second miss, then four after the fourth miss, then the remaining three
+			inspector.assertExecutedCount( 5 );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getCollectionStatistics( Product.class.getName() + ".reviews" ).getBatchSizeIncreaseCount() )
+				.isEqualTo( 2 );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Supplier supplier;
+
+		@OneToMany(mappedBy = "product")
+		List<Review> reviews = new ArrayList<>();
+
+		public Product() {
+		}
+
+		public Product(Long id, Supplier supplier) {
+			this.id = id;
+			this.supplier = supplier;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		Long id;
+		String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Product product;
+
+		public Review() {
+		}
+
+		public Review(Long id, Product product) {
+			this.id = id;
+			this.product = product;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.loader.ast.internal.CollectionBatchLoaderInPredicate;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link CollectionBatchLoaderInPredicate} initializes every given key
+ * when their number exceeds a multiple of the SQL batch size by one.
+ */
+@DomainModel(annotatedClasses = CollectionBatchLoaderInPredicateChunkTest.Owner.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class CollectionBatchLoaderInPredicateChunkTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Owner owner = new Owner( id );
+				owner.tags.add( "tag" + id );
+				session.persist( owner );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLastChunkOfOneKey(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final PluralAttributeMapping attributeMapping = (PluralAttributeMapping) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Owner.class )
+				.findAttributeMapping( "tags" );
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createSelectionQuery( "from Owner order by id", Owner.class )
+					.getResultList();
+			assertThat( owners ).noneSatisfy( owner -> assertThat( Hibernate.isInitialized( owner.tags ) ).isTrue() );
+
+			final CollectionBatchLoaderInPredicate loader = new CollectionBatchLoaderInPredicate(
+					2,
+					session.getLoadQueryInfluencers(),
+					attributeMapping,
+					scope.getSessionFactory()
+			);
+			inspector.clear();
+			loader.loadKeys( List.of( 1L, 2L, 3L ), session );
+			// a chunk of two keys, then a chunk of the last key
+			inspector.assertExecutedCount( 2 );
+			assertThat( owners ).allSatisfy( owner -> {
+				assertThat( Hibernate.isInitialized( owner.tags ) ).isTrue();
+				assertThat( owner.tags ).containsExactly( "tag" + owner.id );
+			} );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#MAX_PARALLEL_FETCHES}
+ */
+@DomainModel(annotatedClasses = { ParallelCollectionFetchTest.Customer.class, ParallelCollectionFetchTest.Invoice.class })
+@ServiceRegistry(settings = @Setting(name = FetchSettings.MAX_PARALLEL_FETCHES, value = "2"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class ParallelCollectionFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Customer customer = new Customer( id );
+				session.persist( customer );
+				for ( long i = 1; i < id; i++ ) {
+					customer.tags.add( "tag" + i );
+					final Invoice invoice = new Invoice( id * 10 + i, customer );
+					customer.invoices.add( invoice );
+					session.persist( invoice );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Customer> customers = session.createSelectionQuery( "from Customer", Customer.class )
+					.setReadOnly( true )
+					.getResultList();
+			// the customers, then one query per collection role
+			inspector.assertExecutedCount( 3 );
+			for ( Customer customer : customers ) {
+				assertThat( Hibernate.isInitialized( customer.tags ) ).isTrue();
+				assertThat( Hibernate.isInitialized( customer.invoices ) ).isTrue();
+				assertThat( customer.tags ).hasSize( customer.id.intValue() - 1 );
+				assertThat( customer.invoices ).hasSize( customer.id.intValue() - 1 )
+						.allSatisfy( invoice -> assertThat( invoice.customer ).isSameAs( customer ) );
+				assertThat( session.isReadOnly( customer ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testModifiableQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Customer> customers =
+					session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+			// the other connections can't see the changes of this transaction,
+			// so the collections are fetched one at a time on its connection
+			inspector.assertExecutedCount( 7 );
+			assertThat( customers ).allSatisfy( customer -> {
+				assertThat( Hibernate.isInitialized( customer.tags ) ).isTrue();
+				assertThat( Hibernate.isInitialized( customer.invoices ) ).isTrue();
+			} );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyQueryAfterFlush(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.persist( new Invoice( 100L, session.getReference( Customer.class, 1L ) ) );
+			session.flush();
+			session.clear();
+			inspector.clear();
+			final List<Customer> customers = session.createSelectionQuery( "from Customer order by id", Customer.class )
+					.setReadOnly( true )
+					.getResultList();
+			// the other connections can't see the flushed invoice,
+			// so the collections are fetched one at a time on its connection
+			inspector.assertExecutedCount( 7 );
+			assertThat( customers.get( 0 ).invoices ).hasSize( 1 );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		Set<String> tags = new HashSet<>();
+
+		@OneToMany(mappedBy = "customer", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		List<Invoice> invoices = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Customer customer;
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
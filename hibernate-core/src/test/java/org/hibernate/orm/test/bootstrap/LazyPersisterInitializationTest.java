@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.List;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Customer.class,
+		LazyPersisterInitializationTest.Order.class,
+		LazyPersisterInitializationTest.Invoice.class
+})
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInitializationOnFirstUse(SessionFactoryScope scope) {
+		assertThat( persister( scope, Customer.class ).isDeferredInitializationPending() ).isTrue();
+		assertThat( persister( scope, Order.class ).isDeferredInitializationPending() ).isTrue();
+
+		scope.inTransaction( session -> {
+			final Customer customer = new Customer( 1, "Gavin" );
+			session.persist( customer );
+			session.persist( new Order( 1, customer ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Order order = session.find( Order.class, 1 );
+			assertThat( order.customer.name ).isEqualTo( "Gavin" );
+			order.customer.name = "Steve";
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Customer> customers = session.findMultiple( Customer.class, List.of( 1 ) );
+			assertThat( customers ).extracting( customer -> customer.name ).containsExactly( "Steve" );
+			session.remove( session.find( Order.class, 1 ) );
+		} );
+
+		assertThat( persister( scope, Customer.class ).isDeferredInitializationPending() ).isFalse();
+		assertThat( persister( scope, Order.class ).isDeferredInitializationPending() ).isFalse();
+		// never loaded or written
+		assertThat( persister( scope, Invoice.class ).isDeferredInitializationPending() ).isTrue();
+	}
+
+	private static AbstractEntityPersister persister(SessionFactoryScope scope, Class<?> entityClass) {
+		return (AbstractEntityPersister) scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Integer id;
+		String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	public static class Order {
+		@Id
+		Integer id;
+		@ManyToOne
+		Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		Integer id;
+		String number;
+	}
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the persisters of a model with several inheritance hierarchies and
+ * bidirectional associations, whose loaders reference each other, are initialized
+ * the same way in parallel as sequentially, over repeated bootstraps.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_PERSISTER_INITIALIZATION
+ */
+public class ParallelPersisterInitializationConsistencyTest {
+	private static final int PARALLEL_BOOTSTRAPS = 5;
+
+	@Test
+	public void testParallelInitializationMatchesSequential() {
+		final List<String> sequential = executeLoaders( false );
+		assertThat( sequential ).isNotEmpty();
+		for ( int i = 0; i < PARALLEL_BOOTSTRAPS; i++ ) {
+			assertThat( executeLoaders( true ) ).containsExactlyElementsOf( sequential );
+		}
+	}
+
+	/**
+	 * Bootstrap the model, and return the SQL executed by the entity and collection loaders.
+	 */
+	private static List<String> executeLoaders(boolean parallel) {
+		final SQLStatementInspector inspector = new SQLStatementInspector();
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION, parallel )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_INSPECTOR, inspector )
+				.build();
+		try ( SessionFactory sessionFactory = new MetadataSources( ssr )
+				.addAnnotatedClasses(
+						Department.class,
+						Person.class,
+						Employee.class,
+						Contractor.class,
+						Badge.class,
+						Project.class,
+						Document.class,
+						Report.class,
+						Memo.class
+				)
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			sessionFactory.inTransaction( session -> {
+				final Department department = new Department( 1, "R&D" );
+				final Employee employee = new Employee( 2, "Gavin", department );
+				employee.nicknames.add( "gk" );
+				final Badge badge = new Badge( 3, employee );
+				final Contractor contractor = new Contractor( 4, "Steve", "ACME" );
+				final Project parent = new Project( 5, "ORM", null );
+				final Project project = new Project( 6, "Loaders", parent );
+				employee.projects.add( project );
+				final Report report = new Report( 7, project, 2024 );
+				final Memo memo = new Memo( 8, project, "all" );
+				session.persist( department );
+				session.persist( employee );
+				session.persist( badge );
+				session.persist( contractor );
+				session.persist( parent );
+				session.persist( project );
+				session.persist( report );
+				session.persist( memo );
+			} );
+
+			inspector.clear();
+			sessionFactory.inTransaction( session -> {
+				final Department department = session.find( Department.class, 1 );
+				Hibernate.initialize( department.employees );
+				final Employee employee = session.find( Employee.class, 2 );
+				Hibernate.initialize( employee.nicknames );
+				Hibernate.initialize( employee.projects );
+				assertThat( employee.badge.id ).isEqualTo( 3 );
+				assertThat( session.find( Person.class, 4 ) ).isInstanceOf( Contractor.class );
+				final Project project = session.find( Project.class, 6 );
+				Hibernate.initialize( project.members );
+				Hibernate.initialize( project.documents );
+				Hibernate.initialize( project.parent.subprojects );
+				assertThat( project.documents ).hasSize( 2 );
+				assertThat( session.find( Document.class, 7 ) ).isInstanceOf( Report.class );
+			} );
+			return new ArrayList<>( inspector.getSqlQueries() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "department")
+		Set<Employee> employees = new HashSet<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Person")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@DiscriminatorValue("E")
+	public static class Employee extends Person {
+		@ManyToOne
+		Department department;
+		@OneToOne(mappedBy = "owner")
+		Badge badge;
+		@ElementCollection
+		Set<String> nicknames = new HashSet<>();
+		@ManyToMany
+		Set<Project> projects = new HashSet<>();
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			super( id, name );
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Contractor")
+	@DiscriminatorValue("C")
+	public static class Contractor extends Person {
+		String company;
+
+		public Contractor() {
+		}
+
+		public Contractor(Integer id, String name, String company) {
+			super( id, name );
+			this.company = company;
+		}
+	}
+
+	@Entity(name = "Badge")
+	public static class Badge {
+		@Id
+		Integer id;
+		@OneToOne
+		Employee owner;
+
+		public Badge() {
+		}
+
+		public Badge(Integer id, Employee owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Project")
+	public static class Project {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Project parent;
+		@OneToMany(mappedBy = "parent")
+		Set<Project> subprojects = new HashSet<>();
+		@ManyToMany(mappedBy = "projects")
+		Set<Employee> members = new HashSet<>();
+		@OneToMany(mappedBy = "project")
+		Set<Document> documents = new HashSet<>();
+
+		public Project() {
+		}
+
+		public Project(Integer id, String name, Project parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Document")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Document {
+		@Id
+		Integer id;
+		@ManyToOne
+		Project project;
+
+		public Document() {
+		}
+
+		public Document(Integer id, Project project) {
+			this.id = id;
+			this.project = project;
+		}
+	}
+
+	@Entity(name = "Report")
+	public static class Report extends Document {
+		int year;
+
+		public Report() {
+		}
+
+		public Report(Integer id, Project project, int year) {
+			super( id, project );
+			this.year = year;
+		}
+	}
+
+	@Entity(name = "Memo")
+	public static class Memo extends Document {
+		String audience;
+
+		public Memo() {
+		}
+
+		public Memo(Integer id, Project project, String audience) {
+			super( id, project );
+			this.audience = audience;
+		}
+	}
+}
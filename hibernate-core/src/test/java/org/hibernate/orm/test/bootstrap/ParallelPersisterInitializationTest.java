@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.persister.internal.PersisterClassResolverInitiator;
+import org.hibernate.persister.internal.StandardPersisterClassResolver;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests that the persisters are initialized in parallel, and that the
+ * resulting {@link org.hibernate.SessionFactory} is fully functional.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = PersistenceSettings.PARALLEL_PERSISTER_INITIALIZATION, value = "true"),
+		@Setting(name = PersisterClassResolverInitiator.IMPL_NAME,
+				value = "org.hibernate.orm.test.bootstrap.ParallelPersisterInitializationTest$RecordingPersisterClassResolver")
+})
+@DomainModel(annotatedClasses = {
+		ParallelPersisterInitializationTest.Author.class,
+		ParallelPersisterInitializationTest.Publication.class,
+		ParallelPersisterInitializationTest.Book.class,
+		ParallelPersisterInitializationTest.Article.class
+})
+@SessionFactory
+public class ParallelPersisterInitializationTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			author.nicknames.add( "gk" );
+			final Book book = new Book( 1, "Hibernate in Action", author, "123" );
+			final Article article = new Article( 2, "Hibernate 7", author, "Blog" );
+			author.publications.add( book );
+			author.publications.add( article );
+			session.persist( author );
+			session.persist( book );
+			session.persist( article );
+		} );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.nicknames ).containsExactly( "gk" );
+			assertThat( author.publications ).hasSize( 2 );
+			assertThat( session.find( Publication.class, 1 ) ).isInstanceOf( Book.class );
+			assertThat( session.find( Publication.class, 2 ) ).isInstanceOf( Article.class );
+		} );
+	}
+
+	@Test
+	public void testLoadersPreparedInParallel() {
+		assumeTrue( Runtime.getRuntime().availableProcessors() > 1, "Requires more than one processor" );
+		// the first two persisters waited for each other
+		assertThat( Recorder.rendezvous ).isTrue();
+		assertThat( Recorder.preparingThreads ).hasSizeGreaterThan( 1 )
+				.doesNotContain( Recorder.bootstrapThread );
+		assertThat( Recorder.contextClassLoaders ).containsOnly( Recorder.bootstrapContextClassLoader );
+	}
+
+	/**
+	 * Records the threads which prepare the loaders of the persisters.
+	 */
+	static class Recorder {
+		static final CyclicBarrier barrier = new CyclicBarrier( 2 );
+		static final AtomicInteger count = new AtomicInteger();
+		static final Set<Thread> preparingThreads = ConcurrentHashMap.newKeySet();
+		static final Set<ClassLoader> contextClassLoaders = ConcurrentHashMap.newKeySet();
+		static volatile Thread bootstrapThread;
+		static volatile ClassLoader bootstrapContextClassLoader;
+		static volatile boolean rendezvous;
+
+		static void created() {
+			bootstrapThread = Thread.currentThread();
+			bootstrapContextClassLoader = Thread.currentThread().getContextClassLoader();
+		}
+
+		static void preparing() {
+			preparingThreads.add( Thread.currentThread() );
+			contextClassLoaders.add( Thread.currentThread().getContextClassLoader() );
+			if ( count.incrementAndGet() <= 2 ) {
+				try {
+					barrier.await( 10, TimeUnit.SECONDS );
+					rendezvous = true;
+				}
+				catch (Exception e) {
+					// the loaders were not prepared in parallel
+				}
+			}
+		}
+	}
+
+	public static class RecordingPersisterClassResolver extends StandardPersisterClassResolver {
+		@Override
+		public Class<? extends EntityPersister> singleTableEntityPersister() {
+			return RecordingSingleTableEntityPersister.class;
+		}
+
+		@Override
+		public Class<? extends EntityPersister> joinedSubclassEntityPersister() {
+			return RecordingJoinedSubclassEntityPersister.class;
+		}
+	}
+
+	public static class RecordingSingleTableEntityPersister extends SingleTableEntityPersister {
+		public RecordingSingleTableEntityPersister(
+				PersistentClass persistentClass,
+				EntityDataAccess cacheAccessStrategy,
+				NaturalIdDataAccess naturalIdRegionAccessStrategy,
+				RuntimeModelCreationContext creationContext) {
+			super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+			Recorder.created();
+		}
+
+		@Override
+		public void prepareLoaders() {
+			Recorder.preparing();
+			super.prepareLoaders();
+		}
+	}
+
+	public static class RecordingJoinedSubclassEntityPersister extends JoinedSubclassEntityPersister {
+		public RecordingJoinedSubclassEntityPersister(
+				PersistentClass persistentClass,
+				EntityDataAccess cacheAccessStrategy,
+				NaturalIdDataAccess naturalIdRegionAccessStrategy,
+				RuntimeModelCreationContext creationContext) {
+			super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+			Recorder.created();
+		}
+
+		@Override
+		public void prepareLoaders() {
+			Recorder.preparing();
+			super.prepareLoaders();
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		List<String> nicknames = new ArrayList<>();
+		@OneToMany(mappedBy = "author")
+		List<Publication> publications = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Publication {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		String isbn;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author, String isbn) {
+			super( id, title, author );
+			this.isbn = isbn;
+		}
+	}
+
+	@Entity(name = "Article")
+	public static class Article extends Publication {
+		String journal;
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title, Author author, String journal) {
+			super( id, title, author );
+			this.journal = journal;
+		}
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
 
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.MetadataSources;
@@ -20,6 +21,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -115,6 +117,31 @@ public void testNonStrictlyWithNoExistingFile(ServiceRegistryScope serviceRegist
 		new MetadataSources( ssr ).addCacheableFile( hbmXmlFile, binOutputDir ).buildMetadata();
 	}
 
+	@Test
+	public void testStrictlyWithChangedFileOfOlderTimestamp(
+			ServiceRegistryScope serviceRegistryScope,
+			@TempDir File xmlDir,
+			@TempDir File binOutputDir) throws Exception {
+		final File xmlFile = new File( xmlDir, hbmXmlFile.getName() );
+		Files.copy( hbmXmlFile.toPath(), xmlFile.toPath() );
+		final File binFile = new File( binOutputDir, xmlFile.getName() + ".bin" );
+		CacheableFileXmlSource.createSerFile( xmlFile, binFile, binder );
+
+		// change the mapping, without making it newer than the bin file
+		Files.writeString( xmlFile.toPath(), Files.readString( xmlFile.toPath() ) + "<!-- changed -->" );
+		assertTrue( xmlFile.setLastModified( binFile.lastModified() - 60_000 ) );
+
+		try {
+			new MetadataSources( serviceRegistryScope.getRegistry() )
+					.addCacheableFileStrictly( xmlFile, binOutputDir )
+					.buildMetadata();
+			fail( "addCacheableFileStrictly should be led to MappingException when the mapping file has changed" );
+		}
+		catch (MappingException ignore) {
+			// this is the expected result
+		}
+	}
+
 	private void createBinFile(File binOutputDir) {
 		final String outputName = hbmXmlFile.getName() + ".bin";
 		final File file = new File( binOutputDir, outputName );
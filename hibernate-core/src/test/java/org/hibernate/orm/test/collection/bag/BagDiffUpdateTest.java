@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.PersistenceSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#BAG_DIFF_UPDATES}
+ */
+@DomainModel(annotatedClasses = { BagDiffUpdateTest.Post.class, BagDiffUpdateTest.Tag.class })
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.BAG_DIFF_UPDATES, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class BagDiffUpdateTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Tag java = new Tag( 1L, "java" );
+			final Tag sql = new Tag( 2L, "sql" );
+			session.persist( java );
+			session.persist( sql );
+			final Post post = new Post( 1L );
+			post.keywords.addAll( List.of( "a", "b", "a", "c", "d" ) );
+			post.tags.addAll( List.of( java, sql ) );
+			session.persist( post );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testAddElements(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.keywords.add( "e" );
+			post.keywords.add( "a" );
+			inspector.clear();
+			session.flush();
+			// only the additional occurrences are inserted
+			inspector.assertExecutedCount( 2 );
+			inspector.assertIsInsert( 0 );
+			inspector.assertIsInsert( 1 );
+		} );
+		assertKeywords( scope, "a", "a", "a", "b", "c", "d", "e" );
+	}
+
+	@Test
+	public void testRemoveDuplicatedElement(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.keywords.remove( "a" );
+			inspector.clear();
+			session.flush();
+			// all the rows of "a" are deleted, and one is inserted again
+			inspector.assertExecutedCount( 2 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+			inspector.assertIsInsert( 1 );
+		} );
+		assertKeywords( scope, "a", "b", "c", "d" );
+	}
+
+	@Test
+	public void testReplaceElement(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1L );
+			post.keywords.set( 3, "x" );
+			post.tags.remove( 0 );
+			inspector.clear();
+			session.flush();
+			// one row deleted and inserted for the keywords, one row deleted for the tags
+			inspector.assertExecutedCount( 3 );
+		} );
+		assertKeywords( scope, "a", "a", "b", "d", "x" );
+		scope.inTransaction( session ->
+				assertThat( session.find( Post.class, 1L ).tags )
+						.extracting( tag -> tag.name )
+						.containsExactly( "sql" )
+		);
+	}
+
+	private static void assertKeywords(SessionFactoryScope scope, String... keywords) {
+		scope.inTransaction( session ->
+				assertThat( session.find( Post.class, 1L ).keywords ).containsExactlyInAnyOrder( keywords )
+		);
+	}
+
+	@Entity(name = "Post")
+	public static class Post {
+		@Id
+		Long id;
+
+		@ElementCollection
+		List<String> keywords = new ArrayList<>();
+
+		@ManyToMany
+		List<Tag> tags = new ArrayList<>();
+
+		public Post() {
+		}
+
+		public Post(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		Long id;
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
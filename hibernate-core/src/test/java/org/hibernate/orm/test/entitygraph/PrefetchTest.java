@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.graph.RootGraph;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.Session#prefetch}
+ */
+@DomainModel(annotatedClasses = {
+		PrefetchTest.PurchaseOrder.class,
+		PrefetchTest.OrderLine.class,
+		PrefetchTest.Product.class,
+		PrefetchTest.Supplier.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class PrefetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Supplier acme = new Supplier( 1L, "Acme" );
+			final Supplier initech = new Supplier( 2L, "Initech" );
+			session.persist( acme );
+			session.persist( initech );
+			final List<Product> products = List.of(
+					new Product( 1L, acme ),
+					new Product( 2L, initech ),
+					new Product( 3L, acme )
+			);
+			products.forEach( session::persist );
+			long lineId = 1;
+			for ( long orderId = 1; orderId <= 3; orderId++ ) {
+				final PurchaseOrder order = new PurchaseOrder( orderId );
+				session.persist( order );
+				for ( Product product : products.subList( (int) orderId - 1, 3 ) ) {
+					final OrderLine line = new OrderLine( lineId++, order, product );
+					order.lines.add( line );
+					session.persist( line );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOneQueryPerLevel(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<PurchaseOrder> orders =
+					session.createSelectionQuery( "from PurchaseOrder", PurchaseOrder.class ).getResultList();
+			final RootGraph<PurchaseOrder> graph = session.createEntityGraph( PurchaseOrder.class );
+			graph.addSubgraph( "lines" ).addSubgraph( "product" ).addAttributeNodes( "supplier" );
+
+			inspector.clear();
+			session.prefetch( orders, graph );
+			// lines, then products, then suppliers
+			inspector.assertExecutedCount( 3 );
+
+			inspector.clear();
+			for ( PurchaseOrder order : orders ) {
+				assertThat( Hibernate.isInitialized( order.lines ) ).isTrue();
+				for ( OrderLine line : order.lines ) {
+					assertThat( Hibernate.isInitialized( line.product ) ).isTrue();
+					final Product product = Hibernate.unproxy( line.product, Product.class );
+					assertThat( Hibernate.isInitialized( product.supplier ) ).isTrue();
+					assertThat( Hibernate.unproxy( product.supplier, Supplier.class ).name ).isNotNull();
+				}
+			}
+			assertThat( orders ).extracting( order -> order.lines.size() ).containsExactlyInAnyOrder( 3, 2, 1 );
+			inspector.assertExecutedCount( 0 );
+		} );
+	}
+
+	@Test
+	public void testProxyRoots(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Product> products = List.of(
+					session.getReference( Product.class, 1L ),
+					session.getReference( Product.class, 2L )
+			);
+			final RootGraph<Product> graph = session.createEntityGraph( Product.class );
+			graph.addAttributeNodes( "supplier" );
+
+			inspector.clear();
+			session.prefetch( products, graph );
+			// products, then suppliers
+			inspector.assertExecutedCount( 2 );
+
+			for ( Product product : products ) {
+				assertThat( Hibernate.isInitialized( product ) ).isTrue();
+				assertThat( Hibernate.isInitialized( Hibernate.unproxy( product, Product.class ).supplier ) ).isTrue();
+			}
+			// the suppliers were already initialized
+			inspector.clear();
+			session.prefetch( products, graph );
+			inspector.assertExecutedCount( 0 );
+		} );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "order")
+		List<OrderLine> lines = new ArrayList<>();
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		PurchaseOrder order;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Long id, PurchaseOrder order, Product product) {
+			this.id = id;
+			this.order = order;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Supplier supplier;
+
+		public Product() {
+		}
+
+		public Product(Long id, Supplier supplier) {
+			this.id = id;
+			this.supplier = supplier;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		Long id;
+		String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.fetchmode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderBy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchMode#JSON}
+ */
+@DomainModel(annotatedClasses = JsonFetchModeTest.Article.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonArrayAgg.class)
+public class JsonFetchModeTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article first = new Article( 1L );
+			first.tags.addAll( Set.of( "java", "sql" ) );
+			first.ratings.addAll( List.of( 5, 4, 5 ) );
+			first.authors.addAll( List.of( "mia", "zoe", "adam" ) );
+			session.persist( first );
+			final Article second = new Article( 2L );
+			second.tags.add( "json" );
+			session.persist( second );
+			session.persist( new Article( 3L ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFind(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Article article = session.find( Article.class, 1L );
+			// both collections are read from the row of the article
+			inspector.assertExecutedCount( 1 );
+			assertThat( Hibernate.isInitialized( article.tags ) ).isTrue();
+			assertThat( Hibernate.isInitialized( article.ratings ) ).isTrue();
+			assertThat( article.tags ).containsExactlyInAnyOrder( "java", "sql" );
+			assertThat( article.ratings ).containsExactlyInAnyOrder( 5, 4, 5 );
+		} );
+	}
+
+	@Test
+	public void testQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Article> articles =
+					session.createSelectionQuery( "from Article order by id", Article.class ).getResultList();
+			inspector.assertExecutedCount( 1 );
+			// the rows of the articles are not duplicated
+			assertThat( articles ).hasSize( 3 );
+			assertThat( articles.get( 0 ).tags ).containsExactlyInAnyOrder( "java", "sql" );
+			assertThat( articles.get( 1 ).tags ).containsExactly( "json" );
+			assertThat( articles.get( 1 ).ratings ).isEmpty();
+			assertThat( articles.get( 2 ).tags ).isEmpty();
+			inspector.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testOrderBy(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Article article = session.find( Article.class, 1L );
+			inspector.assertExecutedCount( 1 );
+			// the elements are ordered inside the JSON array
+			assertThat( article.authors ).containsExactly( "adam", "mia", "zoe" );
+		} );
+	}
+
+	@Test
+	public void testUpdateAfterFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Article article = session.find( Article.class, 1L );
+			article.tags.add( "hibernate" );
+			inspector.clear();
+			session.flush();
+			// the fetched elements are the snapshot of the collection
+			inspector.assertExecutedCount( 1 );
+			inspector.assertIsInsert( 0 );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Article.class, 1L ).tags )
+						.containsExactlyInAnyOrder( "java", "sql", "hibernate" )
+		);
+	}
+
+	@Entity(name = "Article")
+	public static class Article {
+		@Id
+		Long id;
+
+		@ElementCollection
+		@CollectionTable(name = "article_tags")
+		@Fetch(FetchMode.JSON)
+		Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		@CollectionTable(name = "article_ratings")
+		@Fetch(FetchMode.JSON)
+		List<Integer> ratings = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "article_authors")
+		@OrderBy
+		@Fetch(FetchMode.JSON)
+		List<String> authors = new ArrayList<>();
+
+		public Article() {
+		}
+
+		public Article(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Generates identifiers, and executes a query, from thousands of virtual
+ * threads at once, checking that the locks guarding the optimizers, the
+ * increment generator, and the query plan do not lose or repeat values,
+ * and that no virtual thread gets pinned while running Hibernate code.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = {
+		VirtualThreadIdGenerationStressTest.Pooled.class,
+		VirtualThreadIdGenerationStressTest.Incremented.class
+})
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.POOL_SIZE, value = "" + VirtualThreadIdGenerationStressTest.CONNECTIONS))
+@SessionFactory
+public class VirtualThreadIdGenerationStressTest {
+	static final int CONNECTIONS = 50;
+	private static final int THREADS = 1_000;
+	private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+	private static final String END_OF_RECORDING = "org.hibernate.orm.test.idgen.EndOfRecording";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testConcurrentGeneration(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		assumeTrue( executor != null, "Virtual threads require Java 21" );
+		final List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+		final CountDownLatch recorded = new CountDownLatch( 1 );
+		try ( RecordingStream recording = new RecordingStream() ) {
+			recording.enable( VIRTUAL_THREAD_PINNED ).withStackTrace().withoutThreshold();
+			recording.enable( EndOfRecording.class );
+			recording.onEvent( VIRTUAL_THREAD_PINNED, event -> {
+				if ( isPinnedInHibernate( event ) ) {
+					pinnedEvents.add( event );
+				}
+			} );
+			recording.onEvent( END_OF_RECORDING, event -> recorded.countDown() );
+			recording.startAsync();
+
+			// the built-in pool fails instead of waiting when all its connections are in use,
+			// so the threads queue for them here, contending for the locks as they come out
+			final Semaphore connections = new Semaphore( CONNECTIONS );
+			try {
+				final List<Future<?>> futures = new ArrayList<>( THREADS );
+				for ( int i = 0; i < THREADS; i++ ) {
+					futures.add( executor.submit( () -> {
+						connections.acquire();
+						try {
+							scope.inTransaction( session -> {
+								session.persist( new Pooled() );
+								session.persist( new Incremented() );
+								session.createSelectionQuery( "select count(*) from Pooled", Long.class )
+										.getSingleResult();
+							} );
+						}
+						finally {
+							connections.release();
+						}
+						return null;
+					} ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get();
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+
+			// the events are streamed in order, so once this one arrives all pinned events were seen
+			new EndOfRecording().commit();
+			assertThat( recorded.await( 30, TimeUnit.SECONDS ) ).isTrue();
+		}
+		assertThat( pinnedEvents ).isEmpty();
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(distinct id) from Pooled", Long.class )
+					.getSingleResult() ).isEqualTo( THREADS );
+			assertThat( session.createSelectionQuery( "select count(distinct id) from Incremented", Long.class )
+					.getSingleResult() ).isEqualTo( THREADS );
+		} );
+	}
+
+	/**
+	 * Whether the innermost frame outside the JDK belongs to Hibernate, rather than
+	 * to the JDBC driver which Hibernate happens to be calling when the thread is pinned.
+	 */
+	private static boolean isPinnedInHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			if ( frame.isJavaFrame() ) {
+				final String className = frame.getMethod().getType().getName();
+				if ( !isJdkClass( className ) ) {
+					return className.startsWith( "org.hibernate." );
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isJdkClass(String className) {
+		return className.startsWith( "java." )
+				|| className.startsWith( "javax." )
+				|| className.startsWith( "jdk." )
+				|| className.startsWith( "sun." );
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" )
+					.invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	@Name(END_OF_RECORDING)
+	static class EndOfRecording extends Event {
+	}
+
+	@Entity(name = "Pooled")
+	public static class Pooled {
+		@Id
+		@GeneratedValue(generator = "pooled")
+		@SequenceGenerator(name = "pooled", allocationSize = 10)
+		Long id;
+	}
+
+	@Entity(name = "Incremented")
+	public static class Incremented {
+		@Id
+		@GeneratedValue(generator = "increment")
+		@GenericGenerator(name = "increment", strategy = "increment")
+		Long id;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.env;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.env.spi.SQLStateType;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.jdbc.SharedDriverManagerConnectionProviderImpl;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSettings#JDBC_METADATA_CACHE_DIRECTORY}
+ */
+public class JdbcMetadataSnapshotTest {
+
+	@TempDir
+	Path cacheDirectory;
+
+	@Test
+	public void testSnapshotIsWrittenAndReused() throws IOException {
+		final ConnectionRecordingProvider firstConnectionProvider = new ConnectionRecordingProvider();
+		final DatabaseVersion version = boot( firstConnectionProvider, environment -> environment.getDialect().getVersion() );
+		assertThat( firstConnectionProvider.connectionThreads ).contains( Thread.currentThread() );
+
+		final List<Path> files;
+		try ( Stream<Path> list = Files.list( cacheDirectory ) ) {
+			files = list.toList();
+		}
+		assertThat( files ).singleElement()
+				.extracting( file -> file.getFileName().toString() )
+				.asString()
+				.startsWith( "jdbc-metadata-" )
+				.endsWith( ".properties" );
+		// the JDBC URL might contain credentials, so it is never written
+		final String url = (String) ServiceRegistryUtil.serviceRegistryBuilder().getSettings().get( JdbcSettings.URL );
+		if ( url != null ) {
+			assertThat( Files.readString( files.get( 0 ) ) ).doesNotContain( url );
+		}
+
+		// the second bootstrap builds the dialect from the snapshot, without opening a connection
+		final ConnectionRecordingProvider secondConnectionProvider = new ConnectionRecordingProvider();
+		assertThat( boot( secondConnectionProvider, environment -> environment.getDialect().getVersion() ).isSame( version ) )
+				.isTrue();
+		assertThat( secondConnectionProvider.connectionThreads ).doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	public void testSnapshotEnvironmentMatchesMetadataEnvironment() {
+		final EnvironmentState fromMetadata = boot( new ConnectionRecordingProvider(), EnvironmentState::new );
+		final ConnectionRecordingProvider connectionProvider = new ConnectionRecordingProvider();
+		final EnvironmentState fromSnapshot = boot( connectionProvider, EnvironmentState::new );
+		assertThat( connectionProvider.connectionThreads ).doesNotContain( Thread.currentThread() );
+		assertThat( fromSnapshot ).isEqualTo( fromMetadata );
+	}
+
+	private <T> T boot(ConnectionRecordingProvider connectionProvider, Function<JdbcEnvironment, T> result) {
+		final StandardServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( JdbcSettings.JDBC_METADATA_CACHE_DIRECTORY, cacheDirectory.toString() )
+				.applySetting( JdbcSettings.CONNECTION_PROVIDER, connectionProvider )
+				.build();
+		try {
+			return result.apply( serviceRegistry.requireService( JdbcEnvironment.class ) );
+		}
+		finally {
+			// also stops the verification of the snapshot
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	/**
+	 * What a {@link JdbcEnvironment} reads from the JDBC metadata, apart from the sequences
+	 */
+	private record EnvironmentState(
+			Identifier currentCatalog,
+			Identifier currentSchema,
+			String unquotedName,
+			String quotedName,
+			String qualifiedName,
+			String connectionCatalogName,
+			String connectionSchemaName,
+			boolean supportsRefCursors,
+			boolean supportsNamedParameters,
+			boolean supportsScrollableResults,
+			boolean supportsGetGeneratedKeys,
+			boolean supportsBatchUpdates,
+			boolean supportsDataDefinitionInTransaction,
+			boolean doesDataDefinitionCauseTransactionCommit,
+			SQLStateType sqlStateType,
+			String driver,
+			int defaultTransactionIsolation,
+			int transactionIsolation,
+			String lobCreator) {
+
+		private EnvironmentState(JdbcEnvironment environment) {
+			this( environment, environment.getExtractedDatabaseMetaData() );
+		}
+
+		private EnvironmentState(JdbcEnvironment environment, ExtractedDatabaseMetaData metaData) {
+			this(
+					environment.getCurrentCatalog(),
+					environment.getCurrentSchema(),
+					environment.getIdentifierHelper().toMetaDataObjectName( Identifier.toIdentifier( "MixedCase" ) ),
+					environment.getIdentifierHelper().toMetaDataObjectName( Identifier.toIdentifier( "MixedCase", true ) ),
+					environment.getQualifiedObjectNameFormatter().format(
+							new QualifiedTableName(
+									Identifier.toIdentifier( "cat" ),
+									Identifier.toIdentifier( "sch" ),
+									Identifier.toIdentifier( "tab" )
+							),
+							environment.getDialect()
+					),
+					metaData.getConnectionCatalogName(),
+					metaData.getConnectionSchemaName(),
+					metaData.supportsRefCursors(),
+					metaData.supportsNamedParameters(),
+					metaData.supportsScrollableResults(),
+					metaData.supportsGetGeneratedKeys(),
+					metaData.supportsBatchUpdates(),
+					metaData.supportsDataDefinitionInTransaction(),
+					metaData.doesDataDefinitionCauseTransactionCommit(),
+					metaData.getSqlStateType(),
+					metaData.getDriver(),
+					metaData.getDefaultTransactionIsolation(),
+					metaData.getTransactionIsolation(),
+					environment.getLobCreatorBuilder().buildLobCreator( null ).getClass().getName()
+			);
+		}
+	}
+
+	private static class ConnectionRecordingProvider extends ConnectionProviderDelegate {
+		private final List<Thread> connectionThreads = new CopyOnWriteArrayList<>();
+
+		private ConnectionRecordingProvider() {
+			super( SharedDriverManagerConnectionProviderImpl.getInstance() );
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			connectionThreads.add( Thread.currentThread() );
+			return super.getConnection();
+		}
+	}
+}
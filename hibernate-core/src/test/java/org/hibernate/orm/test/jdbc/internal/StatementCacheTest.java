@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSettings#STATEMENT_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = StatementCacheTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class StatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testQueryStatementIsReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 2; id++ ) {
+				assertThat( session.createSelectionQuery( "select title from Book where id = :id", String.class )
+									.setParameter( "id", id )
+									.getSingleResult() )
+						.isEqualTo( id == 1 ? "Hibernate in Action" : "Java Persistence with Hibernate" );
+			}
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testMutationStatementIsReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 2; id++ ) {
+				session.createMutationQuery( "update Book set title = upper(title) where id = :id" )
+						.setParameter( "id", id )
+						.executeUpdate();
+			}
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCacheHitCount() ).isEqualTo( 1 );
+		scope.inTransaction( session ->
+				assertThat( session.find( Book.class, 2L ).title ).isEqualTo( "JAVA PERSISTENCE WITH HIBERNATE" )
+		);
+	}
+
+	@Test
+	public void testStatementsAreClosedWithConnection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.getTransaction().begin();
+				session.createSelectionQuery( "from Book", Book.class ).getResultList();
+				// the connection is released at the end of the transaction
+				session.getTransaction().commit();
+			}
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsClosed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "select id from Book where id = 1", Long.class ).getResultList();
+			session.createSelectionQuery( "select id from Book where id = 2", Long.class ).getResultList();
+			session.createSelectionQuery( "select title from Book", String.class ).getResultList();
+			// evicted from the cache
+			session.createSelectionQuery( "select id from Book where id = 1", Long.class ).getResultList();
+			// still cached
+			session.createSelectionQuery( "select title from Book", String.class ).getResultList();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4 );
+		assertThat( statistics.getPrepareStatementCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.mutation;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.query.MutationQuery;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.query.MutationQuery#setChunkSize(int)}
+ */
+@DomainModel(annotatedClasses = ChunkedMutationTest.Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class ChunkedMutationTest {
+	private static final int BOOK_COUNT = 10;
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= BOOK_COUNT; i++ ) {
+				final Book book = new Book( i, "Book " + i, i * 10 );
+				book.tags.add( "tag" + i );
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testChunkedUpdate(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final int count = session.createMutationQuery( "update Book set price = price + 1 where price > :price" )
+					.setParameter( "price", 10 )
+					.setChunkSize( 4 )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( BOOK_COUNT - 1 );
+		} );
+		// one page of ids, and then its update, per chunk
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 6 )
+				.satisfiesExactly(
+						sql -> assertThat( sql ).startsWithIgnoringCase( "select" ),
+						sql -> assertThat( sql ).startsWithIgnoringCase( "update" ),
+						sql -> assertThat( sql ).startsWithIgnoringCase( "select" ),
+						sql -> assertThat( sql ).startsWithIgnoringCase( "update" ),
+						sql -> assertThat( sql ).startsWithIgnoringCase( "select" ),
+						sql -> assertThat( sql ).startsWithIgnoringCase( "update" )
+				);
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1 ).price ).isEqualTo( 10 );
+			for ( int i = 2; i <= BOOK_COUNT; i++ ) {
+				assertThat( session.find( Book.class, i ).price ).isEqualTo( i * 10 + 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testChunkedDelete(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final int count = session.createMutationQuery( "delete from Book where price <= :price" )
+					.setParameter( "price", 70 )
+					.setChunkSize( 3 )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( 7 );
+		} );
+		// one page of ids, and then the collection table and entity table deletes, per chunk
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 * 3 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select id from Book order by id", Integer.class ).getResultList() )
+					.containsExactly( 8, 9, 10 );
+			assertThat( session.createSelectionQuery( "select count(t) from Book b join b.tags t", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+		} );
+	}
+
+	@Test
+	public void testChunkSizeDividingMatchingRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final int count = session.createMutationQuery( "delete from Book where price > :price" )
+					.setParameter( "price", 40 )
+					.setChunkSize( 3 )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( 6 );
+		} );
+		// two full pages, and a last, empty page
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 * 3 + 1 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select id from Book order by id", Integer.class ).getResultList()
+		).containsExactly( 1, 2, 3, 4 ) );
+	}
+
+	@Test
+	public void testChunkSizeLargerThanMatchingRows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int count = session.createMutationQuery( "update Book set title = 'Other'" )
+					.setChunkSize( 100 )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( BOOK_COUNT );
+		} );
+	}
+
+	@Test
+	public void testChunkedUpdateExecutedTwice(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final MutationQuery query = session.createMutationQuery( "update Book set price = price + 1 where id > :id" )
+					.setChunkSize( 3 );
+			assertThat( query.setParameter( "id", 2 ).executeUpdate() ).isEqualTo( BOOK_COUNT - 2 );
+			assertThat( query.setParameter( "id", 5 ).executeUpdate() ).isEqualTo( BOOK_COUNT - 5 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 2 ).price ).isEqualTo( 20 );
+			assertThat( session.find( Book.class, 3 ).price ).isEqualTo( 31 );
+			assertThat( session.find( Book.class, 6 ).price ).isEqualTo( 62 );
+		} );
+	}
+
+	@Test
+	public void testChunkedInsertNotSupported(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createMutationQuery( "insert into Book (id, title, price) values (100, 'New', 1)" )
+						.setChunkSize( 10 )
+		).isInstanceOf( IllegalStateException.class ) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		int price;
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int price) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+		}
+	}
+}
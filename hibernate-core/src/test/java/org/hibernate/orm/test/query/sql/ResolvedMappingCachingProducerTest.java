@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.sql;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.results.internal.Builders;
+import org.hibernate.query.results.internal.ResultSetMappingImpl;
+import org.hibernate.query.sql.internal.ResolvedMappingCachingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ResolvedMappingCachingProducerTest.Book.class)
+@SessionFactory
+public class ResolvedMappingCachingProducerTest {
+
+	@Test
+	public void testScalarMappingIsResolvedOnce(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final ResolvedMappingCachingProducer producer =
+				new ResolvedMappingCachingProducer( new ResultSetMappingImpl( null, true ) );
+
+		final CountingMetadata metadata = new CountingMetadata();
+		final JdbcValuesMapping mapping = producer.resolve( metadata, null, factory );
+		assertThat( mapping.getDomainResults() ).hasSize( 2 );
+		final int calls = metadata.calls;
+		assertThat( calls ).isPositive();
+
+		assertThat( producer.resolve( metadata, null, factory ) ).isSameAs( mapping );
+		assertThat( metadata.calls ).isEqualTo( calls );
+	}
+
+	@Test
+	public void testEntityMappingIsResolvedEachTime(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final ResultSetMappingImpl resultSetMapping = new ResultSetMappingImpl( null, true );
+		resultSetMapping.addResultBuilder( Builders.entityCalculated( "b", "Book", factory ) );
+		final ResolvedMappingCachingProducer producer = new ResolvedMappingCachingProducer( resultSetMapping );
+
+		scope.inSession( session -> {
+			final CountingMetadata metadata = new CountingMetadata();
+			final JdbcValuesMapping mapping =
+					producer.resolve( metadata, session.getLoadQueryInfluencers(), factory );
+			assertThat( producer.resolve( metadata, session.getLoadQueryInfluencers(), factory ) )
+					.isNotSameAs( mapping );
+		} );
+	}
+
+	private static class CountingMetadata implements JdbcValuesMetadata {
+		private static final String[] COLUMNS = { "id", "title" };
+		private int calls;
+
+		@Override
+		public int getColumnCount() {
+			calls++;
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int resolveColumnPosition(String columnName) {
+			calls++;
+			for ( int i = 0; i < COLUMNS.length; i++ ) {
+				if ( COLUMNS[i].equalsIgnoreCase( columnName ) ) {
+					return i + 1;
+				}
+			}
+			throw new IllegalArgumentException( columnName );
+		}
+
+		@Override
+		public String resolveColumnName(int position) {
+			calls++;
+			return COLUMNS[position - 1];
+		}
+
+		@Override
+		public <J> BasicType<J> resolveType(
+				int position,
+				JavaType<J> explicitJavaType,
+				TypeConfiguration typeConfiguration) {
+			calls++;
+			//noinspection unchecked
+			return (BasicType<J>) typeConfiguration.getBasicTypeRegistry()
+					.resolve( position == 1 ? StandardBasicTypes.INTEGER : StandardBasicTypes.STRING );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#UNTRACKED_READ_ONLY_COLLECTIONS}
+ */
+@DomainModel(annotatedClasses = UntrackedReadOnlyCollectionTest.Article.class)
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.UNTRACKED_READ_ONLY_COLLECTIONS, value = "true"))
+@SessionFactory
+public class UntrackedReadOnlyCollectionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article article = new Article( 1L );
+			article.tags.add( "java" );
+			article.tags.add( "sql" );
+			session.persist( article );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testChangesNotPersisted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article article = session.createSelectionQuery( "from Article", Article.class )
+					.setReadOnly( true )
+					.getSingleResult();
+			assertThat( article.tags ).hasSize( 2 );
+			assertThat( collectionEntry( session, article ).isUntracked() ).isTrue();
+			assertThat( collectionEntry( session, article ).getSnapshot() ).isNull();
+			article.tags.add( "orm" );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Article.class, 1L ).tags ).containsExactlyInAnyOrder( "java", "sql" );
+		} );
+	}
+
+	@Test
+	public void testChangesPersistedOnceModifiable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article article = session.find( Article.class, 1L );
+			session.setReadOnly( article, true );
+			assertThat( article.tags ).hasSize( 2 );
+			assertThat( collectionEntry( session, article ).isUntracked() ).isTrue();
+			session.setReadOnly( article, false );
+			assertThat( collectionEntry( session, article ).isUntracked() ).isFalse();
+			article.tags.remove( "sql" );
+			article.tags.add( "orm" );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Article.class, 1L ).tags ).containsExactlyInAnyOrder( "java", "orm" );
+		} );
+	}
+
+	@Test
+	public void testRemoveReadOnlyOwner(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article article = session.createSelectionQuery( "from Article", Article.class )
+					.setReadOnly( true )
+					.getSingleResult();
+			assertThat( article.tags ).hasSize( 2 );
+			session.remove( article );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Article.class, 1L ) ).isNull();
+			assertThat( session.createNativeQuery( "select count(*) from Article_tags", Long.class )
+					.getSingleResult() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testUntrackedSerialized(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article article = session.createSelectionQuery( "from Article", Article.class )
+					.setReadOnly( true )
+					.getSingleResult();
+			assertThat( article.tags ).hasSize( 2 );
+			assertThat( roundTrip( collectionEntry( session, article ), session ).isUntracked() ).isTrue();
+		} );
+	}
+
+	private static CollectionEntry roundTrip(CollectionEntry entry, SessionImplementor session) {
+		try {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try ( ObjectOutputStream oos = new ObjectOutputStream( bytes ) ) {
+				entry.serialize( oos );
+			}
+			try ( ObjectInputStream ois = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+				return CollectionEntry.deserialize( ois, session );
+			}
+		}
+		catch (IOException | ClassNotFoundException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private static CollectionEntry collectionEntry(SessionImplementor session, Article article) {
+		return session.getPersistenceContextInternal()
+				.getCollectionEntry( (PersistentCollection<?>) article.tags );
+	}
+
+	@Entity(name = "Article")
+	public static class Article {
+		@Id
+		Long id;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Article() {
+		}
+
+		public Article(Long id) {
+			this.id = id;
+		}
+	}
+}
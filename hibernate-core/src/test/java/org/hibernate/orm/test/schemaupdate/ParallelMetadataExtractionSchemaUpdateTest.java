@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.schemaupdate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.JdbcMetadaAccessStrategy;
+import org.hibernate.tool.schema.TargetType;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SchemaToolingSettings#HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM}
+ */
+public class ParallelMetadataExtractionSchemaUpdateTest {
+
+	private File updateOutputFile;
+	private StandardServiceRegistry ssr;
+	private MetadataImplementor metadata;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		updateOutputFile = File.createTempFile( "update_script", ".sql" );
+		updateOutputFile.deleteOnExit();
+		ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting(
+						SchemaToolingSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY,
+						JdbcMetadaAccessStrategy.GROUPED.toString()
+				)
+				.applySetting( SchemaToolingSettings.HBM2DDL_JDBC_METADATA_EXTRACTION_PARALLELISM, "3" )
+				.build();
+		metadata = (MetadataImplementor) new MetadataSources( ssr )
+				.addAnnotatedClass( Customer.class )
+				.addAnnotatedClass( Order.class )
+				.addAnnotatedClass( Invoice.class )
+				.addAnnotatedClass( Payment.class )
+				.buildMetadata();
+		metadata.orderColumns( false );
+		metadata.validate();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		new SchemaExport().setHaltOnError( true )
+				.setFormat( false )
+				.drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@Test
+	public void testExistingIndexesAndForeignKeysAreDetected() throws IOException {
+		new SchemaUpdate().setHaltOnError( true )
+				.execute( EnumSet.of( TargetType.DATABASE ), metadata );
+
+		new SchemaUpdate().setHaltOnError( true )
+				.setOutputFile( updateOutputFile.getAbsolutePath() )
+				.setFormat( false )
+				.execute( EnumSet.of( TargetType.DATABASE, TargetType.SCRIPT ), metadata );
+
+		assertThat( Files.readString( updateOutputFile.toPath() ) )
+				.as( "The schema was already up to date" )
+				.isEmpty();
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "customer", indexes = @Index(name = "idx_customer_name", columnList = "name"))
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders", indexes = @Index(name = "idx_order_number", columnList = "number"))
+	public static class Order {
+		@Id
+		Long id;
+		String number;
+		@ManyToOne
+		Customer customer;
+	}
+
+	@Entity(name = "Invoice")
+	@Table(name = "invoice")
+	public static class Invoice {
+		@Id
+		Long id;
+		@ManyToOne
+		Order order;
+		@ManyToOne
+		Customer customer;
+	}
+
+	@Entity(name = "Payment")
+	@Table(name = "payment")
+	public static class Payment {
+		@Id
+		Long id;
+		@ManyToOne
+		Invoice invoice;
+	}
+}
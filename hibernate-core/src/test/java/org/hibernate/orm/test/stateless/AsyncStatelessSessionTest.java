@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.AsyncStatelessSession;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AsyncStatelessSession}
+ */
+@DomainModel(annotatedClasses = AsyncStatelessSessionTest.Record.class)
+@SessionFactory
+public class AsyncStatelessSessionTest {
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool( 4 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		executor.shutdownNow();
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOperations(SessionFactoryScope scope) {
+		final AsyncStatelessSession session =
+				scope.getSessionFactory().createAsyncStatelessSession( executor );
+
+		session.insertMultiple( List.of(
+				new Record( 1L, "hello earth" ),
+				new Record( 2L, "hello mars" ),
+				new Record( 3L, "goodbye venus" )
+		) ).toCompletableFuture().join();
+
+		final CompletableFuture<Record> record = session.get( Record.class, 2L ).toCompletableFuture();
+		final CompletableFuture<List<Record>> records =
+				session.getMultiple( Record.class, List.of( 3L, 1L, 4L ) ).toCompletableFuture();
+		final CompletableFuture<List<String>> messages =
+				session.getResultList( s -> s.createSelectionQuery(
+								"select message from Record where message like :prefix order by id", String.class )
+						.setParameter( "prefix", "hello%" ) ).toCompletableFuture();
+		CompletableFuture.allOf( record, records, messages ).join();
+
+		assertThat( record.join().message ).isEqualTo( "hello mars" );
+		assertThat( records.join() ).extracting( r -> r == null ? null : r.message )
+				.containsExactly( "goodbye venus", "hello earth", null );
+		assertThat( messages.join() ).containsExactly( "hello earth", "hello mars" );
+	}
+
+	@Test
+	public void testRollback(SessionFactoryScope scope) {
+		final AsyncStatelessSession session =
+				scope.getSessionFactory().createAsyncStatelessSession( executor );
+
+		final CompletableFuture<Object> failed = session.fromStatelessTransaction( s -> {
+			s.insert( new Record( 1L, "hello earth" ) );
+			throw new IllegalStateException( "failed" );
+		} ).toCompletableFuture();
+		assertThat( failed ).failsWithin( Duration.ofSeconds( 10 ) );
+
+		assertThat( session.get( Record.class, 1L ).toCompletableFuture().join() ).isNull();
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		Long id;
+		String message;
+
+		public Record() {
+		}
+
+		public Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#STATELESS_IDENTITY_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = { StatelessIdentityCacheTest.Publisher.class, StatelessIdentityCacheTest.Book.class })
+@ServiceRegistry(settings = @Setting(name = FetchSettings.STATELESS_IDENTITY_CACHE_SIZE, value = "100"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class StatelessIdentityCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L, "Manning" );
+			session.insert( publisher );
+			for ( long id = 1; id <= 4; id++ ) {
+				session.insert( new Book( id, publisher ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testAssociationTargetReused(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			inspector.clear();
+			final List<Book> first = session.createSelectionQuery( "from Book where id <= 2", Book.class )
+					.getResultList();
+			// the books, then their publisher
+			inspector.assertExecutedCount( 2 );
+
+			inspector.clear();
+			final List<Book> second = session.createSelectionQuery( "from Book where id > 2", Book.class )
+					.getResultList();
+			// the publisher is remembered from the first query
+			inspector.assertExecutedCount( 1 );
+			assertThat( second ).hasSize( 2 )
+					.allSatisfy( book -> assertThat( book.publisher ).isSameAs( first.get( 0 ).publisher ) );
+
+			inspector.clear();
+			assertThat( session.get( Publisher.class, 1L ) ).isNotSameAs( first.get( 0 ).publisher );
+			// an explicit get always reads the database
+			inspector.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testUpdatedEntityForgotten(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			final Book book = session.createSelectionQuery( "from Book where id = 1", Book.class )
+					.getSingleResult();
+			session.update( new Publisher( 1L, "Manning Publications" ) );
+
+			inspector.clear();
+			final Book other = session.createSelectionQuery( "from Book where id = 2", Book.class )
+					.getSingleResult();
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+			assertThat( other.publisher ).isNotSameAs( book.publisher );
+			assertThat( other.publisher.name ).isEqualTo( "Manning Publications" );
+		} );
+	}
+
+	@Test
+	public void testForgottenAfterMutationQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			final Book book = session.createSelectionQuery( "from Book where id = 1", Book.class )
+					.getSingleResult();
+			session.createMutationQuery( "update Publisher set name = 'Manning Publications'" )
+					.executeUpdate();
+
+			inspector.clear();
+			final Book other = session.createSelectionQuery( "from Book where id = 2", Book.class )
+					.getSingleResult();
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+			assertThat( other.publisher ).isNotSameAs( book.publisher );
+			assertThat( other.publisher.name ).isEqualTo( "Manning Publications" );
+		} );
+	}
+
+	@Test
+	public void testForgottenAfterNativeQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			final Book book = session.createSelectionQuery( "from Book where id = 1", Book.class )
+					.getSingleResult();
+			session.createNativeQuery( "update Publisher set name = 'Manning Publications'" )
+					.executeUpdate();
+
+			inspector.clear();
+			final Book other = session.createSelectionQuery( "from Book where id = 2", Book.class )
+					.getSingleResult();
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+			assertThat( other.publisher ).isNotSameAs( book.publisher );
+			assertThat( other.publisher.name ).isEqualTo( "Manning Publications" );
+		} );
+	}
+
+	@Test
+	public void testForgottenAfterTransaction(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessSession( session -> {
+			scope.inStatelessTransaction( session, s -> s.createSelectionQuery( "from Book where id = 1", Book.class )
+					.getSingleResult() );
+			inspector.clear();
+			scope.inStatelessTransaction( session, s -> s.createSelectionQuery( "from Book where id = 2", Book.class )
+					.getSingleResult() );
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Test
+	public void testGetResultNotRemembered(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			final Publisher publisher = session.get( Publisher.class, 1L );
+			publisher.name = "changed by the application";
+
+			inspector.clear();
+			final Book book = session.createSelectionQuery( "from Book where id = 1", Book.class )
+					.getSingleResult();
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+			assertThat( book.publisher ).isNotSameAs( publisher );
+			assertThat( book.publisher.name ).isEqualTo( "Manning" );
+		} );
+	}
+
+	@Test
+	public void testForgottenWithoutTransaction(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessSession( session -> {
+			session.createSelectionQuery( "from Book where id = 1", Book.class ).getSingleResult();
+			inspector.clear();
+			session.createSelectionQuery( "from Book where id = 2", Book.class ).getSingleResult();
+			// the book, then its publisher
+			inspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id, Publisher publisher) {
+			this.id = id;
+			this.publisher = publisher;
+		}
+	}
+}
@@ -68,6 +68,7 @@ public class Configuration {
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
+	private final boolean uncorrelatedRevisionSubquery;
 	private final boolean globalLegacyRelationTargetNotFound;
 
 	private final boolean trackEntitiesChanged;
@@ -88,6 +89,7 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final int auditJdbcBatchSize;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -127,6 +129,10 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 		modifiedFlagsEnabled = configProps.getBoolean( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG, false );
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
+		uncorrelatedRevisionSubquery = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_DEFAULT_UNCORRELATED_SUBQUERY,
+				false
+		);
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
@@ -176,6 +182,7 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		auditJdbcBatchSize = configProps.getInt( EnversSettings.AUDIT_JDBC_BATCH_SIZE, 0 );
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -227,6 +234,10 @@ public boolean isFindByRevisionExactMatch() {
 		return findByRevisionExactMatch;
 	}
 
+	public boolean isUncorrelatedRevisionSubquery() {
+		return uncorrelatedRevisionSubquery;
+	}
+
 	public boolean isGlobalLegacyRelationTargetNotFound() {
 		return globalLegacyRelationTargetNotFound;
 	}
@@ -247,6 +258,10 @@ public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	public int getAuditJdbcBatchSize() {
+		return auditJdbcBatchSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -430,6 +445,10 @@ boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
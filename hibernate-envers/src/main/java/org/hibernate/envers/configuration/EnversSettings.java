@@ -184,6 +184,35 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether the {@link org.hibernate.envers.strategy.DefaultAuditStrategy} selects the audit rows valid at a
+	 * given revision using a single uncorrelated sub-query, grouping the audit table by entity identifier, e.g.
+	 * {@code (e.REV, e.id) in (select max(e2.REV), e2.id from ... where e2.REV <= :revision group by e2.id)},
+	 * rather than a {@code max(REV)} sub-query correlated with every row of the outer query.
+	 *
+	 * This can considerably speed up queries selecting many entities at a revision, such as
+	 * {@code forEntitiesAtRevision}, on large audit tables, while lookups of a single entity are usually faster
+	 * using the correlated sub-query.  On databases not supporting tuples in {@code in} predicates, the
+	 * comparison is emulated, which brings back the correlation.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_STRATEGY_DEFAULT_UNCORRELATED_SUBQUERY = "org.hibernate.envers.audit_strategy_default_uncorrelated_subquery";
+
+	/**
+	 * JDBC batch size used while writing the audit rows of a transaction.  When set to a positive value,
+	 * the work units of the transaction are grouped by audit entity before being written so that
+	 * consecutive inserts into the same audit table end up in the same JDBC batch.
+	 *
+	 * Defaults to {@literal 0}, meaning the session's batch size is used and work units are written
+	 * in the order they were registered.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_JDBC_BATCH_SIZE = "org.hibernate.envers.audit_jdbc_batch_size";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -43,6 +43,27 @@ public EntityInstantiator(EnversService enversService, AuditReaderImplementor ve
 	 *         created for collections.
 	 */
 	public Object createInstanceFromVersionsEntity(String entityName, Map versionsEntity, Number revision) {
+		return createInstanceFromVersionsEntity( entityName, versionsEntity, revision, false );
+	}
+
+	/**
+	 * Creates an entity instance based on an entry from the versions table, optionally without keeping
+	 * it in the first level cache of the audit reader once it has been created.  An instance which was
+	 * already in the first level cache is returned as it is, and stays cached.
+	 *
+	 * @param entityName Name of the entity, which instances should be read
+	 * @param versionsEntity An entry in the versions table, from which data should be mapped.
+	 * @param revision Revision at which this entity was read.
+	 * @param uncached Whether a newly created instance is removed from the first level cache.
+	 *
+	 * @return An entity instance, with versioned properties set as in the versionsEntity map, and proxies
+	 *         created for collections.
+	 */
+	public Object createInstanceFromVersionsEntity(
+			String entityName,
+			Map versionsEntity,
+			Number revision,
+			boolean uncached) {
 		if ( versionsEntity == null ) {
 			return null;
 		}
@@ -96,6 +117,10 @@ public Object createInstanceFromVersionsEntity(String entityName, Map versionsEn
 		// Put entity on entityName cache after mapping it from the map representation
 		versionsReader.getFirstLevelCache().putOnEntityNameCache( primaryKey, revision, ret, entityName );
 
+		if ( uncached ) {
+			versionsReader.getFirstLevelCache().remove( entityName, revision, primaryKey, ret );
+		}
+
 		return ret;
 	}
 
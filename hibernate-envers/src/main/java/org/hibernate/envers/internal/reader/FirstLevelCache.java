@@ -64,6 +64,25 @@ public void put(String entityName, Number revision, Object id, Object entity) {
 		cache.put( make( entityName, revision, id ), entity );
 	}
 
+	/**
+	 * Removes an entity, and its entityName, from the cache.
+	 *
+	 * @param entityName the entity name
+	 * @param revision revision number
+	 * @param id primaryKey
+	 * @param entity object retrieved by envers
+	 */
+	public void remove(String entityName, Number revision, Object id, Object entity) {
+		LOG.debugf(
+				"Removing entity from First Level Cache:  - primaryKey:%s - revision:%s - entityName:%s",
+				id,
+				revision,
+				entityName
+		);
+		cache.remove( make( entityName, revision, id ) );
+		entityNameCache.remove( make( id, revision, entity ) );
+	}
+
 	public boolean contains(String entityName, Number revision, Object id) {
 		return cache.containsKey( make( entityName, revision, id ) );
 	}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -29,6 +30,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
+	private final int auditJdbcBatchSize;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
@@ -38,8 +40,13 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, 0 );
+	}
+
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session, int auditJdbcBatchSize) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditJdbcBatchSize = auditJdbcBatchSize;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -119,6 +126,12 @@ private void executeInSession(Session session) {
 			vwu.undo( session );
 		}
 
+		if ( auditJdbcBatchSize > 0 ) {
+			// Group the work units by entity so that the audit rows of one table are written consecutively
+			// and can share a JDBC batch; the sort is stable, so the relative order per entity is preserved.
+			workUnits.sort( Comparator.comparing( AuditWorkUnit::getEntityName ) );
+		}
+
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
@@ -161,7 +174,7 @@ public void doBeforeTransactionCompletion(SessionImplementor session) {
 						.noInterceptor()
 						.openSession();
 				executeInSession( temporarySession );
-				temporarySession.flush();
+				flushAuditData( temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -173,6 +186,22 @@ public void doBeforeTransactionCompletion(SessionImplementor session) {
 			executeInSession( session );
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
+			flushAuditData( session );
+		}
+	}
+
+	private void flushAuditData(Session session) {
+		if ( auditJdbcBatchSize > 0 ) {
+			final Integer originalBatchSize = session.getJdbcBatchSize();
+			session.setJdbcBatchSize( auditJdbcBatchSize );
+			try {
+				session.flush();
+			}
+			finally {
+				session.setJdbcBatchSize( originalBatchSize );
+			}
+		}
+		else {
 			session.flush();
 		}
 	}
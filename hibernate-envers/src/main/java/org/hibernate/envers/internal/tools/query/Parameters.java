@@ -286,6 +286,40 @@ public void addWhere( String leftAlias, String left, String op, QueryBuilder rig
 		expressions.add( expression.toString() );
 	}
 
+	/**
+	 * Adds a comparison of a tuple of properties with a sub-query, e.g.: ... and (e.a, e.b) in (select ...) ...
+	 *
+	 * @param left Left property names, rendered as a tuple.
+	 * @param addAlias Whether to add the alias to each of the left properties.
+	 * @param op The operator.
+	 * @param right The sub-query.
+	 */
+	public void addWhere(List<String> left, boolean addAlias, String op, QueryBuilder right) {
+		final StringBuilder expression = new StringBuilder();
+
+		expression.append( "(" );
+		boolean first = true;
+		for ( String property : left ) {
+			if ( !first ) {
+				expression.append( ", " );
+			}
+			if ( addAlias ) {
+				expression.append( alias ).append( "." );
+			}
+			expression.append( property );
+			first = false;
+		}
+		expression.append( ")" );
+
+		expression.append( " " ).append( op ).append( " " );
+
+		expression.append( "(" );
+		right.build( expression, localQueryParamValues );
+		expression.append( ")" );
+
+		expressions.add( expression.toString() );
+	}
+
 	/**
 	 * Add where clause with a null restriction: (left = right or (left is null and right is null))
 	 *
@@ -65,6 +65,10 @@ public class QueryBuilder {
 	 * A list of order by clauses.
 	 */
 	private final List<OrderByClause> orders;
+	/**
+	 * A list of group by expressions.
+	 */
+	private final List<String> groupBys;
 	/**
 	 * A list of complete projection definitions: either a sole property name, or a function(property name).
 	 */
@@ -110,6 +114,7 @@ private QueryBuilder(
 
 		froms = new ArrayList<>();
 		orders = new ArrayList<>();
+		groupBys = new ArrayList<>();
 		projections = new ArrayList<>();
 		projectionQueryParamValues = new HashMap<>();
 		orderFragments = new ArrayList<>();
@@ -131,6 +136,7 @@ private QueryBuilder(QueryBuilder other) {
 
 		froms = new ArrayList<>( other.froms );
 		orders = new ArrayList<>( other.orders );
+		groupBys = new ArrayList<>( other.groupBys );
 		projections = new ArrayList<>( other.projections );
 		projectionQueryParamValues = new HashMap<>( other.projectionQueryParamValues );
 		orderFragments = new ArrayList<>( other.orderFragments );
@@ -201,6 +207,10 @@ public void addOrder(String alias, String propertyName, boolean ascending, NullP
 		orders.add( new OrderByClause( alias, propertyName, ascending, nullPrecedence ) );
 	}
 
+	public void addGroupBy(String alias, String propertyName) {
+		groupBys.add( alias + "." + propertyName );
+	}
+
 	public void addOrderFragment(String alias, String orderByCollectionRole) {
 		orderFragments.add( Pair.make( alias, orderByCollectionRole ) );
 	}
@@ -352,6 +362,11 @@ public void build(StringBuilder sb, Map<String, Object> queryParamValues) {
 				params.build( sb, queryParamValues );
 			}
 		}
+		// group by
+		if ( !groupBys.isEmpty() ) {
+			sb.append( " group by " );
+			StringTools.append( sb, groupBys.iterator(), ", " );
+		}
 		// orders
 		if ( !orders.isEmpty() ) {
 			sb.append( " order by " );
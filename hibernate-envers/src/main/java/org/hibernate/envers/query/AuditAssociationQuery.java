@@ -60,6 +60,9 @@ AuditAssociationQuery<? extends AuditAssociationQuery<Q>> traverseRelation(Strin
 	@Override
 	AuditAssociationQuery<Q> setTimeout(int timeout);
 
+	@Override
+	AuditAssociationQuery<Q> setFetchSize(int fetchSize);
+
 	@Override
 	AuditAssociationQuery<Q> setLockMode(LockMode lockMode);
 
@@ -5,6 +5,7 @@
 package org.hibernate.envers.query;
 
 import java.util.List;
+import java.util.stream.Stream;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.criteria.JoinType;
@@ -26,6 +27,27 @@ public interface AuditQuery {
 
 	Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException;
 
+	/**
+	 * Execute the query and return the results as a {@link Stream}.
+	 * <p>
+	 * For queries selecting the revisions of an entity, the results are read through
+	 * {@link org.hibernate.ScrollableResults} and converted while the stream is consumed,
+	 * in revision order unless another order is specified.  The audit rows are read by a
+	 * child session sharing the connection of the session, and detached once converted, so
+	 * that memory usage stays bounded, which also means that the returned entities are not
+	 * cached by the {@link org.hibernate.envers.AuditReader}.  The entities already managed
+	 * by the session are left untouched.
+	 * Other queries return a stream over their materialized results.
+	 * <p>
+	 * The stream must be closed to release the underlying JDBC resources.
+	 *
+	 * @return The results as a stream
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Stream getResultStream() throws AuditException;
+
 	AuditAssociationQuery<? extends AuditQuery> traverseRelation(String associationName, JoinType joinType);
 
 	AuditAssociationQuery<? extends AuditQuery> traverseRelation(
@@ -62,6 +84,18 @@ AuditAssociationQuery<? extends AuditQuery> traverseRelation(
 
 	AuditQuery setTimeout(int timeout);
 
+	/**
+	 * Set the JDBC fetch size used when reading the audit rows.
+	 *
+	 * @param fetchSize the fetch size hint
+	 *
+	 * @return this object
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	AuditQuery setFetchSize(int fetchSize);
+
 	AuditQuery setLockMode(LockMode lockMode);
 
 	String getAlias();
@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Stream;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.criteria.JoinType;
@@ -140,6 +141,11 @@ public List getResultList() throws AuditException {
 		return parent.getResultList();
 	}
 
+	@Override
+	public Stream getResultStream() throws AuditException {
+		return parent.getResultStream();
+	}
+
 	@Override
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		return parent.getSingleResult();
@@ -285,6 +291,12 @@ public AbstractAuditAssociationQuery<Q> setTimeout(int timeout) {
 		return this;
 	}
 
+	@Override
+	public AbstractAuditAssociationQuery<Q> setFetchSize(int fetchSize) {
+		parent.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public AbstractAuditAssociationQuery<Q> setLockMode(LockMode lockMode) {
 		parent.setLockMode( lockMode );
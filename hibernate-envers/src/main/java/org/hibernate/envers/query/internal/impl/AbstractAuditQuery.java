@@ -8,6 +8,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
@@ -17,6 +18,7 @@
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.Session;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
@@ -96,7 +98,11 @@ public String getAlias() {
 	}
 
 	protected Query buildQuery() {
-		Query query = qb.toQuery( versionsReader.getSessionImplementor() );
+		return buildQuery( versionsReader.getSessionImplementor() );
+	}
+
+	protected Query buildQuery(Session session) {
+		Query query = qb.toQuery( session );
 		setQueryProperties( query );
 		return query;
 	}
@@ -113,6 +119,10 @@ public List getResultList() throws AuditException {
 		return list();
 	}
 
+	public Stream getResultStream() throws AuditException {
+		return list().stream();
+	}
+
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		List result = list();
 
@@ -212,6 +222,7 @@ public AuditAssociationQuery<? extends AuditQuery> traverseRelation(String assoc
 	private FlushMode flushMode;
 	private CacheMode cacheMode;
 	private Integer timeout;
+	private Integer fetchSize;
 	private LockOptions lockOptions = new LockOptions( LockMode.NONE );
 
 	public AuditQuery setMaxResults(int maxResults) {
@@ -254,6 +265,11 @@ public AuditQuery setTimeout(int timeout) {
 		return this;
 	}
 
+	public AuditQuery setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
 	/**
 	 * Set lock mode
 	 *
@@ -306,6 +322,9 @@ protected void setQueryProperties(Query query) {
 		if ( timeout != null ) {
 			query.setTimeout( timeout );
 		}
+		if ( fetchSize != null ) {
+			query.setFetchSize( fetchSize );
+		}
 		if ( lockOptions != null && lockOptions.getLockMode() != LockMode.NONE ) {
 			query.setLockMode( REFERENCED_ENTITY_ALIAS, lockOptions.getLockMode() );
 		}
@@ -13,9 +13,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.JoinType;
 
+import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
@@ -126,6 +128,58 @@ private Number getRevisionNumber(Map versionsEntity) {
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	@Override
 	public List list() throws AuditException {
+		applyCriteria();
+		return getQueryResults();
+	}
+
+	/**
+	 * Streams the revisions, converting each row while the stream is consumed.  The query runs in a child
+	 * session sharing the connection and transaction of the audit reader's session, so that the rows of the
+	 * versions table, and the revision entities, which the stream loads are detached once a row has been
+	 * handed to the consumer, while the entities the session already held stay managed.  Converted entities
+	 * are not kept in the first level cache of the audit reader, so that the memory used does not depend on
+	 * the number of revisions.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Stream getResultStream() throws AuditException {
+		applyCriteria();
+
+		final Session streamSession = versionsReader.getSessionImplementor().sessionWithOptions()
+				.connection()
+				.autoClose( false )
+				.noInterceptor()
+				.openSession();
+		final Stream<?> queryResults;
+		try {
+			queryResults = buildQuery( streamSession ).stream().onClose( streamSession::close );
+		}
+		catch (RuntimeException e) {
+			streamSession.close();
+			throw e;
+		}
+		if ( hasProjection() ) {
+			return queryResults;
+		}
+		else if ( selectRevisionInfoOnly ) {
+			return queryResults.map( row -> {
+				final Object[] rowArray = (Object[]) row;
+				releaseRow( streamSession, (Map) rowArray[ 0 ], rowArray[ 1 ] );
+				return rowArray[ 1 ];
+			} );
+		}
+		else if ( selectEntitiesOnly ) {
+			return queryResults.map( row -> getStreamedQueryResultRowValue( streamSession, (Map) row, null ) );
+		}
+		else {
+			return queryResults.map( row -> {
+				final Object[] rowArray = (Object[]) row;
+				return getStreamedQueryResultRowValue( streamSession, (Map) rowArray[ 0 ], rowArray[ 1 ] );
+			} );
+		}
+	}
+
+	private void applyCriteria() {
 		Configuration configuration = enversService.getConfig();
 
 		/*
@@ -173,8 +227,6 @@ ORDER BY e.revision ASC (unless another order or projection is specified)
 					false
 			);
 		}
-
-		return getQueryResults();
 	}
 
 	private boolean isEntityUsingModifiedFlags() {
@@ -233,10 +285,42 @@ else if ( selectRevisionInfoOnly ) {
 		}
 	}
 
+	private Object getStreamedQueryResultRowValue(Session streamSession, Map versionsData, Object revisionData) {
+		final Object value = getQueryResultRowValue( versionsData, revisionData, getEntityName(), true );
+		releaseRow( streamSession, versionsData, revisionData );
+		return value;
+	}
+
+	/**
+	 * Detaches a streamed row of the versions table from the child session of the stream, along with its
+	 * revision entity, or the proxy standing for it.
+	 */
+	private void releaseRow(Session session, Map versionsData, Object revisionData) {
+		final Configuration configuration = enversService.getConfig();
+		final Object revisionInfoObject = ( (Map) versionsData.get( configuration.getOriginalIdPropertyName() ) )
+				.get( configuration.getRevisionFieldName() );
+		session.evict( versionsData );
+		if ( revisionInfoObject != null ) {
+			session.evict( revisionInfoObject );
+		}
+		if ( revisionData != null && revisionData != revisionInfoObject ) {
+			session.evict( revisionData );
+		}
+	}
+
 	private Object getQueryResultRowValue(Map versionsData, Object revisionData, String entityName) {
+		return getQueryResultRowValue( versionsData, revisionData, entityName, false );
+	}
+
+	private Object getQueryResultRowValue(Map versionsData, Object revisionData, String entityName, boolean uncached) {
 		final Number revision = getRevisionNumber( versionsData );
 
-		final Object entity = entityInstantiator.createInstanceFromVersionsEntity( entityName, versionsData, revision );
+		final Object entity = entityInstantiator.createInstanceFromVersionsEntity(
+				entityName,
+				versionsData,
+				revision,
+				uncached
+		);
 		if ( selectEntitiesOnly ) {
 			return entity;
 		}
@@ -4,8 +4,12 @@
  */
 package org.hibernate.envers.strategy.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.Session;
 import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
@@ -63,6 +67,10 @@ public void performCollectionChange(
 	 * For this implementation, a subquery is used
 	 * <p>
 	 * {@code e.revision = (SELECT max(...)  ...}
+	 * <p>
+	 * or, when {@link Configuration#isUncorrelatedRevisionSubquery()} is enabled, an uncorrelated subquery
+	 * <p>
+	 * {@code (e.revision, e.id) in (SELECT max(...), e2.id ... GROUP BY e2.id)}
 	 */
 	@Override
 	public void addEntityAtRevisionRestriction(
@@ -78,6 +86,22 @@ public void addEntityAtRevisionRestriction(
 			String alias1,
 			String alias2,
 			boolean inclusive) {
+		if ( configuration.isUncorrelatedRevisionSubquery() ) {
+			addUncorrelatedEntityAtRevisionRestriction(
+					rootQueryBuilder,
+					parameters,
+					revisionProperty,
+					addAlias,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+			return;
+		}
+
 		// create a subquery builder
 		// SELECT max(e.revision) FROM versionsReferencedEntity e2
 		QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
@@ -97,6 +121,41 @@ public void addEntityAtRevisionRestriction(
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	private void addUncorrelatedEntityAtRevisionRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		// SELECT max(e2.revision), e2.id_ref_ed FROM versionsReferencedEntity e2
+		QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
+		maxERevQb.addProjection( "max", alias2, revisionPropertyPath, false );
+
+		// (e.revision, e.id_ref_ed)
+		final List<String> tuple = new ArrayList<>();
+		tuple.add( revisionProperty );
+
+		final String originalIdPrefix = addAlias ? originalIdPropertyName : alias1 + "." + originalIdPropertyName;
+		// GROUP BY e2.id_ref_ed
+		for ( QueryParameterData paramData : idData.getOriginalMapper().mapToQueryParametersFromId( null ) ) {
+			final String idProperty = paramData.getProperty( originalIdPropertyName );
+			maxERevQb.addProjection( null, alias2, idProperty, false );
+			maxERevQb.addGroupBy( alias2, idProperty );
+			tuple.add( paramData.getProperty( originalIdPrefix ) );
+		}
+
+		// WHERE e2.revision <= :revision
+		maxERevQb.getRootParameters().addWhereWithNamedParam( revisionPropertyPath, inclusive ? "<=" : "<", REVISION_PARAMETER );
+
+		// add subquery to rootParameters
+		parameters.addWhere( tuple, addAlias, "in", maxERevQb );
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -8,14 +8,18 @@
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -86,6 +90,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * End revision updates collected per session, executed before transaction completion
+	 */
+	private final Map<EventSource, List<RevisionEndUpdate>> pendingRevisionEndUpdates =
+			Collections.synchronizedMap( new WeakHashMap<>() );
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -172,49 +182,137 @@ public void perform(
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
+			// Collect the update, it is executed together with all other end revision updates of this
+			// session by a transaction completion process to guarantee execution after the INSERT.
+			getRevisionEndUpdates( (EventSource) session, configuration ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							id,
+							revision,
+							getRevisionType( configuration, data )
+					)
+			);
+		}
+		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+	}
+
+	private List<RevisionEndUpdate> getRevisionEndUpdates(EventSource session, Configuration configuration) {
+		List<RevisionEndUpdate> updates = pendingRevisionEndUpdates.get( session );
+		if ( updates == null ) {
+			updates = new ArrayList<>();
+			pendingRevisionEndUpdates.put( session, updates );
+			// Register transaction completion process to guarantee execution of UPDATE statements after INSERT.
+			session.getActionQueue().registerProcess( sessionImplementor -> {
+				final List<RevisionEndUpdate> sessionUpdates = pendingRevisionEndUpdates.remove( session );
+				if ( sessionUpdates != null ) {
+					executeRevisionEndUpdates( sessionImplementor, configuration, sessionUpdates );
+				}
+			} );
+			// The before completion process is skipped when the transaction fails first,
+			// discard the updates of this session so that they are not executed later on.
+			session.getActionQueue().registerProcess(
+					(success, sessionImplementor) -> pendingRevisionEndUpdates.remove( session )
+			);
+		}
+		return updates;
+	}
+
+	private void executeRevisionEndUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			List<RevisionEndUpdate> updates) {
+		// Group the updates by entity and revision, so that the previous revisions of all the rows
+		// of one audit table are ended by a single set-based update, restricted to their ids
+		final Map<RevisionEndUpdateGroup, List<RevisionEndUpdate>> updatesByGroup = new LinkedHashMap<>();
+		for ( RevisionEndUpdate update : updates ) {
+			updatesByGroup.computeIfAbsent(
+					new RevisionEndUpdateGroup( update.entityName, update.auditedEntityName, update.revision ),
+					group -> new ArrayList<>()
+			).add( update );
+		}
+
+		for ( Map.Entry<RevisionEndUpdateGroup, List<RevisionEndUpdate>> entry : updatesByGroup.entrySet() ) {
+			final RevisionEndUpdateGroup group = entry.getKey();
+			final List<RevisionEndUpdate> groupUpdates = entry.getValue();
+			final int maxIds = getMaxIdsPerUpdate( session, getEntityPersister( group.entityName(), session ) );
+			for ( int from = 0; from < groupUpdates.size(); from += maxIds ) {
+				final List<RevisionEndUpdate> chunk =
+						groupUpdates.subList( from, Math.min( from + maxIds, groupUpdates.size() ) );
+				final List<Object> ids = new ArrayList<>( chunk.size() );
+				for ( RevisionEndUpdate update : chunk ) {
+					ids.add( update.id );
+				}
+
 				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
+						group.entityName(),
+						group.auditedEntityName(),
+						session,
 						configuration,
-						id,
-						revision
+						ids,
+						group.revision()
 				);
 
 				if ( contexts.isEmpty() ) {
 					throw new AuditException(
 							String.format(
 									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
+									"Failed to build update contexts for entity %s and ids %s",
+									group.auditedEntityName(),
+									ids
 							)
 					);
 				}
 
 				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
+					checkUpdatedRows( configuration, group.auditedEntityName(), chunk, ids, executeUpdate( session, context ) );
 				}
-			} );
+			}
+		}
+	}
+
+	/**
+	 * The number of ids a single update may be restricted to, according to the limits
+	 * of the dialect on the size of an in list, and on the number of parameters.
+	 */
+	private static int getMaxIdsPerUpdate(SessionImplementor session, EntityPersister entity) {
+		final Dialect dialect = session.getJdbcServices().getDialect();
+		int maxIds = Integer.MAX_VALUE;
+		if ( dialect.getInExpressionCountLimit() > 0 ) {
+			maxIds = dialect.getInExpressionCountLimit();
+		}
+		if ( dialect.getParameterCountLimit() > 0 ) {
+			// leave room for the revision and timestamp parameters
+			final int idColumnCount = entity.getIdentifierColumnNames().length;
+			maxIds = Math.min( maxIds, ( dialect.getParameterCountLimit() - 3 ) / idColumnCount );
+		}
+		return Math.max( maxIds, 1 );
+	}
+
+	private void checkUpdatedRows(
+			Configuration configuration,
+			String auditedEntityName,
+			List<RevisionEndUpdate> updates,
+			List<Object> ids,
+			int rows) {
+		// When identifiers are reused, an added entity might have no previous revision
+		int requiredRows = 0;
+		for ( RevisionEndUpdate update : updates ) {
+			if ( !configuration.isAllowIdentifierReuse() || update.revisionType != RevisionType.ADD ) {
+				requiredRows++;
+			}
+		}
+		if ( rows < requiredRows || rows > updates.size() ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s and ids %s (%s rows modified).",
+							auditedEntityName,
+							ids,
+							rows
+					)
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -492,7 +590,7 @@ private List<UpdateContext> getUpdateContexts(
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		EntityPersister entity = getEntityPersister( entityName, session );
@@ -509,7 +607,7 @@ private List<UpdateContext> getUpdateContexts(
 									auditEntityName,
 									session,
 									configuration,
-									id,
+									ids,
 									revision
 							)
 					);
@@ -527,7 +625,7 @@ private List<UpdateContext> getUpdateContexts(
 						auditEntityName,
 						session,
 						configuration,
-						id,
+						ids,
 						revision
 				)
 		);
@@ -540,7 +638,7 @@ private UpdateContext getUpdateContext(
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -552,7 +650,7 @@ private UpdateContext getUpdateContext(
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
 		// The expected SQL is an update statement as follows:
-		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE (entity_id) = ? AND REV <> ? AND REVEND is null
+		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE (entity_id) IN (?, ...) AND REV <> ? AND REVEND is null
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( rootEntity, rootAuditEntity, auditEntity ) );
 
@@ -573,9 +671,11 @@ private UpdateContext getUpdateContext(
 			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampAttributeMapping );
 		}
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( rootEntity.getIdentifierColumnNames() );
-		context.bind( id, rootEntity.getIdentifierMapping() );
+		// Apply "WHERE (entity_id) IN (?, ...)"
+		context.addIdentifierRestriction( rootEntity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierMapping() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -597,7 +697,7 @@ private UpdateContext getUpdateContext(
 	 * @param auditEntityName the audited entity name
 	 * @param session the session
 	 * @param configuration the configuration
-	 * @param id the entity identifier
+	 * @param ids the entity identifiers
 	 * @param revision the revision entity
 	 * @return the created update context instance, never {@code null}.
 	 */
@@ -606,7 +706,7 @@ private UpdateContext getNonRootUpdateContext(
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -614,7 +714,7 @@ private UpdateContext getNonRootUpdateContext(
 
 
 		// The expected SQL is an update statement as follows:
-		// UPDATE audited_entity SET REVEND_TSTMP = ? WHERE (entity_id) = ? AND REV <> ? AND REVEND_TSMTP is null
+		// UPDATE audited_entity SET REVEND_TSTMP = ? WHERE (entity_id) IN (?, ...) AND REV <> ? AND REVEND_TSMTP is null
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( entity, auditEntity, auditEntity ) );
 
@@ -629,9 +729,11 @@ private UpdateContext getNonRootUpdateContext(
 		// Apply "WHERE (entity_id) = ? AND REV <> ?" portion of the SQL
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( entity.getIdentifierColumnNames() );
-		context.bind( id, entity.getIdentifierType() );
+		// Apply "WHERE (entity_id) IN (?, ...)"
+		context.addIdentifierRestriction( entity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, entity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -657,6 +759,36 @@ private String getUpdateTableName(EntityPersister rootEntity, EntityPersister ro
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * An end revision update requested for an audited entity row.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Object id;
+		private final Object revision;
+		private final RevisionType revisionType;
+
+		private RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Object id,
+				Object revision,
+				RevisionType revisionType) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.revision = revision;
+			this.revisionType = revisionType;
+		}
+	}
+
+	/**
+	 * The entity and revision shared by the end revision updates executed as one statement.
+	 */
+	private record RevisionEndUpdateGroup(String entityName, String auditedEntityName, Object revision) {
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -667,6 +799,48 @@ public UpdateContext(SessionFactoryImplementor sessionFactory) {
 			super ( sessionFactory );
 		}
 
+		/**
+		 * Restricts the update to the given number of identifiers, rendered as
+		 * {@code id in (?, ...)}, or as a disjunction for a composite identifier.
+		 */
+		public void addIdentifierRestriction(String[] columnNames, int idCount) {
+			restrictions.add( (sqlBuffer, context) -> {
+				if ( columnNames.length == 1 ) {
+					sqlBuffer.append( columnNames[0] );
+					if ( idCount == 1 ) {
+						sqlBuffer.append( '=' ).append( context.makeParameterMarker() );
+					}
+					else {
+						sqlBuffer.append( " in (" );
+						for ( int i = 0; i < idCount; i++ ) {
+							if ( i > 0 ) {
+								sqlBuffer.append( ',' );
+							}
+							sqlBuffer.append( context.makeParameterMarker() );
+						}
+						sqlBuffer.append( ')' );
+					}
+				}
+				else {
+					sqlBuffer.append( '(' );
+					for ( int i = 0; i < idCount; i++ ) {
+						if ( i > 0 ) {
+							sqlBuffer.append( " or " );
+						}
+						sqlBuffer.append( '(' );
+						for ( int j = 0; j < columnNames.length; j++ ) {
+							if ( j > 0 ) {
+								sqlBuffer.append( " and " );
+							}
+							sqlBuffer.append( columnNames[j] ).append( '=' ).append( context.makeParameterMarker() );
+						}
+						sqlBuffer.append( ')' );
+					}
+					sqlBuffer.append( ')' );
+				}
+			} );
+		}
+
 		public List<QueryParameterBinding> getBindings() {
 			return bindings;
 		}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntTestEntity;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that grouping and batching the audit rows of a transaction
+ * does not change the audited history.
+ */
+public class AuditJdbcBatchSizeTest extends BaseEnversJPAFunctionalTestCase {
+	private final List<Integer> strIds = new ArrayList<>();
+	private final List<Integer> intIds = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, IntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_JDBC_BATCH_SIZE, "5" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1 - interleave the two entity types
+		em.getTransaction().begin();
+		for ( int i = 0; i < 12; i++ ) {
+			final StrTestEntity str = new StrTestEntity( "s" + i );
+			final IntTestEntity number = new IntTestEntity( i );
+			em.persist( str );
+			em.persist( number );
+			strIds.add( str.getId() );
+			intIds.add( number.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( int i = 0; i < 12; i++ ) {
+			em.find( StrTestEntity.class, strIds.get( i ) ).setStr( "t" + i );
+			em.find( IntTestEntity.class, intIds.get( i ) ).setNumber( i * 10 );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( int i = 0; i < 12; i++ ) {
+			assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, strIds.get( i ) ) );
+			assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( IntTestEntity.class, intIds.get( i ) ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < 12; i++ ) {
+			assertEquals( new StrTestEntity( "s" + i, strIds.get( i ) ), getAuditReader().find( StrTestEntity.class, strIds.get( i ), 1 ) );
+			assertEquals( new StrTestEntity( "t" + i, strIds.get( i ) ), getAuditReader().find( StrTestEntity.class, strIds.get( i ), 2 ) );
+			assertEquals( new IntTestEntity( i, intIds.get( i ) ), getAuditReader().find( IntTestEntity.class, intIds.get( i ), 1 ) );
+			assertEquals( new IntTestEntity( i * 10, intIds.get( i ) ), getAuditReader().find( IntTestEntity.class, intIds.get( i ), 2 ) );
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.FirstLevelCache;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests streaming the revisions of an entity with {@code AuditQuery#getResultStream}.
+ */
+@SuppressWarnings("unchecked")
+public class RevisionsOfEntityStreamTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity entity = new StrIntTestEntity( "a", 1 );
+		em.persist( entity );
+		id = entity.getId();
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		entity = em.find( StrIntTestEntity.class, id );
+		entity.setNumber( 2 );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		entity = em.find( StrIntTestEntity.class, id );
+		entity.setStr1( "b" );
+		em.getTransaction().commit();
+
+		// Revision 4
+		em.getTransaction().begin();
+		entity = em.find( StrIntTestEntity.class, id );
+		em.remove( entity );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testStreamEntitiesOnly() {
+		try ( Stream<StrIntTestEntity> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, false )
+				.add( AuditEntity.id().eq( id ) )
+				.setFetchSize( 2 )
+				.getResultStream() ) {
+			assertEquals(
+					Arrays.asList(
+							new StrIntTestEntity( "a", 1, id ),
+							new StrIntTestEntity( "a", 2, id ),
+							new StrIntTestEntity( "b", 2, id )
+					),
+					stream.collect( Collectors.toList() )
+			);
+		}
+	}
+
+	@Test
+	public void testStreamWithRevisionData() {
+		try ( Stream<Object[]> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+				.add( AuditEntity.id().eq( id ) )
+				.getResultStream() ) {
+			final List<Object[]> results = stream.collect( Collectors.toList() );
+			assertEquals( 4, results.size() );
+			for ( int i = 0; i < results.size(); i++ ) {
+				assertEquals( i + 1, ( (SequenceIdRevisionEntity) results.get( i )[1] ).getId() );
+			}
+			assertEquals( RevisionType.ADD, results.get( 0 )[2] );
+			assertEquals( RevisionType.MOD, results.get( 1 )[2] );
+			assertEquals( RevisionType.MOD, results.get( 2 )[2] );
+			assertEquals( RevisionType.DEL, results.get( 3 )[2] );
+		}
+	}
+
+	@Test
+	public void testStreamedRowsReleased() {
+		final EntityManager em = createIsolatedEntityManager();
+		try {
+			final AuditReaderImplementor auditReader = (AuditReaderImplementor) AuditReaderFactory.get( em );
+			// an entity already read through the audit reader stays cached
+			final StrIntTestEntity cached = auditReader.find( StrIntTestEntity.class, id, 2 );
+			em.clear();
+
+			try ( Stream<Object[]> stream = auditReader.createQuery()
+					.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+					.add( AuditEntity.id().eq( id ) )
+					.getResultStream() ) {
+				stream.forEach( row -> {
+					assertFalse( em.contains( row[1] ) );
+					assertEquals(
+							0,
+							em.unwrap( SessionImplementor.class ).getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				} );
+			}
+
+			final FirstLevelCache firstLevelCache = auditReader.getFirstLevelCache();
+			assertFalse( firstLevelCache.contains( StrIntTestEntity.class.getName(), 1, id ) );
+			assertFalse( firstLevelCache.contains( StrIntTestEntity.class.getName(), 3, id ) );
+			assertSame( cached, firstLevelCache.get( StrIntTestEntity.class.getName(), 2, id ) );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	@Test
+	public void testManagedRevisionEntityNotDetached() {
+		final EntityManager em = createIsolatedEntityManager();
+		try {
+			final SequenceIdRevisionEntity managed = em.find( SequenceIdRevisionEntity.class, 2 );
+
+			try ( Stream<Object[]> stream = AuditReaderFactory.get( em ).createQuery()
+					.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+					.add( AuditEntity.id().eq( id ) )
+					.getResultStream() ) {
+				assertEquals( 4, stream.count() );
+			}
+
+			// the stream only detaches the instances it loaded itself
+			assertTrue( em.contains( managed ) );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	@Test
+	public void testStreamMatchesList() {
+		final List<?> list = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, false )
+				.add( AuditEntity.id().eq( id ) )
+				.getResultList();
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, false )
+				.add( AuditEntity.id().eq( id ) )
+				.getResultStream() ) {
+			assertEquals( list, stream.collect( Collectors.toList() ) );
+		}
+	}
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Runs the {@link SimpleQuery} tests selecting the entities at a revision through
+ * an uncorrelated, grouped sub-query.
+ */
+public class UncorrelatedRevisionSubqueryTest extends SimpleQuery {
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY_DEFAULT_UNCORRELATED_SUBQUERY, "true" );
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the end revision updates of the {@link ValidityAuditStrategy} are
+ * applied correctly when a single update ends the revisions of several rows.
+ */
+public class ValidityAuditStrategySetBasedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 10;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, EmbIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+			// a composite id is restricted by a disjunction instead of an in list
+			em.persist( new EmbIdTestEntity( new EmbId( i, i + 1 ), "x" + i ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr() + "b" );
+		}
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final EmbIdTestEntity entity = em.find( EmbIdTestEntity.class, new EmbId( i, i + 1 ) );
+			entity.setStr1( entity.getStr1() + "y" );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.remove( em.find( StrTestEntity.class, id ) );
+		}
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			em.remove( em.find( EmbIdTestEntity.class, new EmbId( i, i + 1 ) ) );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRevisionEnds() {
+		EntityManager em = getEntityManager();
+		try {
+			final List<Object[]> rows = em.createNativeQuery( "select REV, REVEND from STR_TEST_AUD order by id, REV" )
+					.getResultList();
+			assertEquals( ENTITY_COUNT * 3, rows.size() );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				final Object[] row = rows.get( i );
+				final int revision = ( (Number) row[0] ).intValue();
+				if ( revision == 3 ) {
+					assertEquals( null, row[1] );
+				}
+				else {
+					assertEquals( revision + 1, ( (Number) row[1] ).intValue() );
+				}
+			}
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final Integer id = ids.get( i );
+			assertEquals( new StrTestEntity( "a" + i, id ), getAuditReader().find( StrTestEntity.class, id, 1 ) );
+			assertEquals( new StrTestEntity( "a" + i + "b", id ), getAuditReader().find( StrTestEntity.class, id, 2 ) );
+			assertEquals( null, getAuditReader().find( StrTestEntity.class, id, 3 ) );
+		}
+	}
+
+	@Test
+	public void testCompositeIdHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final EmbId id = new EmbId( i, i + 1 );
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( EmbIdTestEntity.class, id ) );
+			assertEquals( new EmbIdTestEntity( id, "x" + i ), getAuditReader().find( EmbIdTestEntity.class, id, 1 ) );
+			assertEquals( new EmbIdTestEntity( id, "x" + i + "y" ), getAuditReader().find( EmbIdTestEntity.class, id, 2 ) );
+			assertEquals( null, getAuditReader().find( EmbIdTestEntity.class, id, 3 ) );
+		}
+	}
+}
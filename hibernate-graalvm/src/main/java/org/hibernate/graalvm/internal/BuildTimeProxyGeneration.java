@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import java.net.URL;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.jpa.boot.spi.Bootstrap;
+import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+import org.hibernate.jpa.boot.spi.PersistenceXmlParser;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Subclass;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+import static org.hibernate.cfg.JdbcSettings.ALLOW_METADATA_ON_BOOT;
+
+/**
+ * Binds the persistence units declared in the {@code persistence.xml} files of the
+ * application while building the native image, and generates the lazy-loading proxy
+ * classes of their entities, which cannot be generated at runtime in a native image.
+ * <p>
+ * Binding happens without access to the database: the persistence units must
+ * specify their {@linkplain org.hibernate.cfg.JdbcSettings#DIALECT dialect}.
+ */
+final class BuildTimeProxyGeneration {
+
+	/**
+	 * The system property, passed to {@code native-image}, enabling the generation
+	 * of proxy classes at build time.
+	 */
+	static final String PROXY_GENERATION = "hibernate.graalvm.generate_proxies";
+
+	private BuildTimeProxyGeneration() {
+		//not meant to be instantiated
+	}
+
+	static boolean isEnabled() {
+		return Boolean.getBoolean( PROXY_GENERATION );
+	}
+
+	static void generateProxies(Feature.BeforeAnalysisAccess access) {
+		final ClassLoader classLoader = access.getApplicationClassLoader();
+		final PersistenceXmlParser parser = PersistenceXmlParser.create( Map.of(), classLoader, null );
+		final List<URL> persistenceXmlUrls = parser.getClassLoaderService().locateResources( "META-INF/persistence.xml" );
+		if ( persistenceXmlUrls.isEmpty() ) {
+			return;
+		}
+
+		final ByteBuddyProxyHelper proxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		for ( PersistenceUnitDescriptor persistenceUnit : parser.parse( persistenceXmlUrls ).values() ) {
+			final EntityManagerFactoryBuilder builder = Bootstrap.getEntityManagerFactoryBuilder(
+					persistenceUnit,
+					Map.of( ALLOW_METADATA_ON_BOOT, false ),
+					classLoader
+			);
+			try {
+				for ( PersistentClass entityBinding : builder.metadata().getEntityBindings() ) {
+					if ( entityBinding.isLazy() && entityBinding.getMappedClass() != null ) {
+						generateProxy( entityBinding, proxyHelper );
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				throw new HibernateException( "Unable to generate the proxy classes of persistence unit '"
+						+ persistenceUnit.getName() + "' at build time", e );
+			}
+			finally {
+				builder.cancel();
+			}
+		}
+	}
+
+	private static void generateProxy(PersistentClass entityBinding, ByteBuddyProxyHelper proxyHelper) {
+		final Class<?> mappedClass = entityBinding.getMappedClass();
+		final Class<?>[] interfaces = proxyInterfaces( entityBinding ).toArray( new Class<?>[0] );
+		final Class<?> proxyClass = proxyHelper.buildProxy( mappedClass, interfaces );
+		PreGeneratedProxies.register( mappedClass, interfaces, proxyClass );
+		// proxies are instantiated reflectively
+		RuntimeReflection.register( proxyClass );
+		RuntimeReflection.register( proxyClass.getConstructors() );
+	}
+
+	/**
+	 * The proxy interfaces, in the same order as determined by
+	 * {@code EntityRepresentationStrategyPojoStandard}.
+	 */
+	private static Set<Class<?>> proxyInterfaces(PersistentClass entityBinding) {
+		final Set<Class<?>> proxyInterfaces = new LinkedHashSet<>();
+		final Class<?> mappedClass = entityBinding.getMappedClass();
+		final Class<?> proxyInterface = entityBinding.getProxyInterface();
+		if ( proxyInterface != null && !mappedClass.equals( proxyInterface ) ) {
+			proxyInterfaces.add( proxyInterface );
+		}
+		if ( mappedClass.isInterface() ) {
+			proxyInterfaces.add( mappedClass );
+		}
+		for ( Subclass subclass : entityBinding.getSubclasses() ) {
+			final Class<?> subclassProxy = subclass.getProxyInterface();
+			if ( subclassProxy != null && !subclass.getMappedClass().equals( subclassProxy ) ) {
+				proxyInterfaces.add( subclassProxy );
+			}
+		}
+		proxyInterfaces.add( HibernateProxy.class );
+		return proxyInterfaces;
+	}
+}
@@ -30,6 +30,12 @@
  *     In conclusion, it's not possible to provide a fully comprehensive list: take this as a hopefully
  *     useful building block.
  * </p>
+ * <p>
+ *     When the system property {@value BuildTimeProxyGeneration#PROXY_GENERATION} is set to {@code true},
+ *     the persistence units declared in {@code META-INF/persistence.xml} are bound while building the image,
+ *     and the lazy-loading proxy classes of their entities are generated then, since classes cannot be
+ *     generated at runtime in a native image.
+ * </p>
  * @author Sanne Grinovero
  */
 public class GraalVMStaticFeature implements Feature {
@@ -54,6 +60,12 @@ public void beforeAnalysis(Feature.BeforeAnalysisAccess before) {
 		RuntimeReflection.register( executables.toArray(new Executable[0]) );
 
 		RuntimeClassInitialization.initializeAtRunTime( typesNeedingRuntimeInitialization );
+
+		if ( BuildTimeProxyGeneration.isEnabled() ) {
+			// the proxy classes generated now are kept in the image heap
+			RuntimeClassInitialization.initializeAtBuildTime( PreGeneratedProxies.class );
+			BuildTimeProxyGeneration.generateProxies( before );
+		}
 	}
 
 	@Override
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.internal.bytebuddy.ProxyFactoryFactoryImpl;
+import org.hibernate.bytecode.spi.ProxyFactoryFactory;
+
+/**
+ * The Byte Buddy {@link org.hibernate.bytecode.spi.BytecodeProvider}, using the
+ * proxy classes generated while building the native image.
+ *
+ * @see NativeImageServiceContributor
+ */
+final class NativeImageBytecodeProvider extends BytecodeProviderImpl {
+
+	private final ByteBuddyState byteBuddyState = new ByteBuddyState();
+
+	@Override
+	public ProxyFactoryFactory getProxyFactoryFactory() {
+		return new ProxyFactoryFactoryImpl( byteBuddyState, new PreGeneratedProxyHelper( byteBuddyState ) );
+	}
+}
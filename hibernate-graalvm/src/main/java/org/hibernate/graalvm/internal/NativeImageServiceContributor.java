@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.service.spi.ServiceContributor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Replaces the {@link BytecodeProvider} by a {@link NativeImageBytecodeProvider} when
+ * running in a native image in which proxy classes were generated at build time.
+ * <p>
+ * This does not depend on the GraalVM SDK, which is not available at runtime
+ * in a JVM, and checks the system property set by native images instead.
+ */
+public final class NativeImageServiceContributor implements ServiceContributor {
+
+	// see org.graalvm.nativeimage.ImageInfo
+	private static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+	@Override
+	public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		if ( "runtime".equals( System.getProperty( IMAGE_CODE_PROPERTY ) )
+				&& !PreGeneratedProxies.isEmpty() ) {
+			serviceRegistryBuilder.addInitiator( new StandardServiceInitiator<BytecodeProvider>() {
+				@Override
+				public BytecodeProvider initiateService(
+						Map<String, Object> configurationValues,
+						ServiceRegistryImplementor registry) {
+					return new NativeImageBytecodeProvider();
+				}
+
+				@Override
+				public Class<BytecodeProvider> getServiceInitiated() {
+					return BytecodeProvider.class;
+				}
+			} );
+		}
+	}
+}
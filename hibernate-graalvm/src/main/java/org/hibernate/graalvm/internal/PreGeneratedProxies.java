@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The proxy classes generated while building the native image. This class is
+ * initialized at build time, so that the map, populated by
+ * {@link GraalVMStaticFeature}, is stored in the image heap.
+ * <p>
+ * Proxy classes are keyed in the same way as in
+ * {@link org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper#buildProxy(Class, Class[])}.
+ */
+final class PreGeneratedProxies {
+
+	private static final Map<Set<Class<?>>, Class<?>> PROXY_CLASSES = new HashMap<>();
+
+	private PreGeneratedProxies() {
+		//not meant to be instantiated
+	}
+
+	static void register(Class<?> persistentClass, Class<?>[] interfaces, Class<?> proxyClass) {
+		PROXY_CLASSES.put( key( persistentClass, interfaces ), proxyClass );
+	}
+
+	static Class<?> get(Class<?> persistentClass, Class<?>[] interfaces) {
+		return PROXY_CLASSES.get( key( persistentClass, interfaces ) );
+	}
+
+	static boolean isEmpty() {
+		return PROXY_CLASSES.isEmpty();
+	}
+
+	private static Set<Class<?>> key(Class<?> persistentClass, Class<?>[] interfaces) {
+		final Set<Class<?>> key = new HashSet<>();
+		if ( interfaces.length == 1 ) {
+			key.add( persistentClass );
+		}
+		Collections.addAll( key, interfaces );
+		return key;
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+/**
+ * A {@link ByteBuddyProxyHelper} which returns the proxy classes generated while
+ * building the native image, since classes cannot be defined in a native image
+ * at runtime.
+ */
+final class PreGeneratedProxyHelper extends ByteBuddyProxyHelper {
+
+	PreGeneratedProxyHelper(ByteBuddyState byteBuddyState) {
+		super( byteBuddyState );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Class buildProxy(Class<?> persistentClass, Class<?>[] interfaces) {
+		final Class<?> proxyClass = PreGeneratedProxies.get( persistentClass, interfaces );
+		return proxyClass == null ? super.buildProxy( persistentClass, interfaces ) : proxyClass;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PreGeneratedProxyHelperTest {
+
+	@Test
+	public void testPreGeneratedProxyIsReused() {
+		final Class<?>[] interfaces = { HibernateProxy.class };
+		final Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( Book.class, interfaces );
+		PreGeneratedProxies.register( Book.class, interfaces, proxyClass );
+
+		final ByteBuddyProxyHelper proxyHelper = new PreGeneratedProxyHelper( new ByteBuddyState() );
+		assertThat( proxyHelper.buildProxy( Book.class, interfaces ) ).isSameAs( proxyClass );
+		// not generated beforehand
+		assertThat( proxyHelper.buildProxy( Author.class, interfaces ) )
+				.isNotNull()
+				.isNotSameAs( proxyClass );
+	}
+
+	public static class Book {
+	}
+
+	public static class Author {
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BatchSizeIncreaseEvent.NAME)
+@Label("Batch Size Increase")
+@Category("Hibernate ORM")
+@Description("Batch Size Increase after repeated fetches of single instances")
+@StackTrace
+@AllowNonPortable
+public class BatchSizeIncreaseEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.BatchSizeIncrease";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Name or Collection Role")
+	public String role;
+
+	@Label("Previous Batch Size")
+	public int previousBatchSize;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
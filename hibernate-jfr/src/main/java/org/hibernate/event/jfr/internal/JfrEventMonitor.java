@@ -36,11 +36,13 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType jdbcPreparedStatementExecutionEventType = EventType.getEventType(
 			JdbcPreparedStatementExecutionEvent.class );
 	private static final EventType jdbcBatchExecutionEventType = EventType.getEventType( JdbcBatchExecutionEvent.class );
+	private static final EventType sqlAstTranslationEventType = EventType.getEventType( SqlAstTranslationEvent.class );
 	private static final EventType cachePutEventType = EventType.getEventType( CachePutEvent.class );
 	private static final EventType cacheGetEventType = EventType.getEventType( CacheGetEvent.class );
 	private static final EventType flushEventType = EventType.getEventType( FlushEvent.class );
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
+	private static final EventType batchSizeIncreaseEventType = EventType.getEventType( BatchSizeIncreaseEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
 	private static final EventType entityInsertEventType = EventType.getEventType( EntityInsertEvent.class );
 	private static final EventType entityUpdateEventType = EventType.getEventType( EntityUpdateEvent.class );
@@ -241,6 +243,37 @@ public void completeJdbcBatchExecutionEvent(
 		}
 	}
 
+	@Override
+	public SqlAstTranslationEvent beginSqlAstTranslationEvent() {
+		if ( sqlAstTranslationEventType.isEnabled() ) {
+			final SqlAstTranslationEvent sqlAstTranslationEvent = new SqlAstTranslationEvent();
+			sqlAstTranslationEvent.begin();
+			return sqlAstTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqlAstTranslationEvent(
+			DiagnosticEvent monitoringEvent,
+			String sql,
+			int initialBufferCapacity,
+			int bufferCapacity) {
+		if ( monitoringEvent != null ) {
+			final SqlAstTranslationEvent sqlAstTranslationEvent = (SqlAstTranslationEvent) monitoringEvent;
+			sqlAstTranslationEvent.end();
+			if ( sqlAstTranslationEvent.shouldCommit() ) {
+				sqlAstTranslationEvent.sql = sql;
+				sqlAstTranslationEvent.sqlLength = sql == null ? 0 : sql.length();
+				sqlAstTranslationEvent.initialBufferCapacity = initialBufferCapacity;
+				sqlAstTranslationEvent.bufferCapacity = bufferCapacity;
+				sqlAstTranslationEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		if ( cachePutEventType.isEnabled() ) {
@@ -508,6 +541,38 @@ public void completeDirtyCalculationEvent(
 		}
 	}
 
+	@Override
+	public BatchSizeIncreaseEvent beginBatchSizeIncreaseEvent() {
+		if ( batchSizeIncreaseEventType.isEnabled() ) {
+			final BatchSizeIncreaseEvent batchSizeIncreaseEvent = new BatchSizeIncreaseEvent();
+			batchSizeIncreaseEvent.begin();
+			return batchSizeIncreaseEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeBatchSizeIncreaseEvent(
+			DiagnosticEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int previousBatchSize,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final BatchSizeIncreaseEvent batchSizeIncreaseEvent = (BatchSizeIncreaseEvent) monitoringEvent;
+			batchSizeIncreaseEvent.end();
+			if ( batchSizeIncreaseEvent.shouldCommit() ) {
+				batchSizeIncreaseEvent.sessionIdentifier = getSessionIdentifier( session );
+				batchSizeIncreaseEvent.role = role;
+				batchSizeIncreaseEvent.previousBatchSize = previousBatchSize;
+				batchSizeIncreaseEvent.batchSize = batchSize;
+				batchSizeIncreaseEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public PrePartialFlushEvent beginPrePartialFlush() {
 		if ( prePartialFlushEventType.isEnabled() ) {
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqlAstTranslationEvent.NAME)
+@Label("SQL AST Translation")
+@Category("Hibernate ORM")
+@Description("SQL AST Translation")
+@StackTrace
+@AllowNonPortable
+public class SqlAstTranslationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SqlAstTranslation";
+
+	@Label("SQL")
+	public String sql;
+
+	@Label("SQL Length")
+	public int sqlLength;
+
+	@Label("Initial Buffer Capacity")
+	public int initialBufferCapacity;
+
+	@Label("Buffer Capacity")
+	public int bufferCapacity;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
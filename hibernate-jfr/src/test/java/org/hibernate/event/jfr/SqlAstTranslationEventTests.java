@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.event.jfr.internal.SqlAstTranslationEvent;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = SqlAstTranslationEventTests.TestEntity.class)
+@SessionFactory
+public class SqlAstTranslationEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(SqlAstTranslationEvent.NAME)
+	public void testSqlAstTranslationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "select t from TestEntity t where t.name = 'x'", TestEntity.class ).list();
+					final List<RecordedEvent> events = jfrEvents.events()
+							.filter( recordedEvent -> recordedEvent.getEventType().getName()
+									.equals( SqlAstTranslationEvent.NAME ) )
+							.toList();
+					assertThat( events ).hasSize( 1 );
+
+					final RecordedEvent event = events.get( 0 );
+					final String sql = event.getString( "sql" );
+					assertThat( sql.toLowerCase( Locale.ROOT ) ).contains( "select " );
+					assertThat( event.getInt( "sqlLength" ) ).isEqualTo( sql.length() );
+					assertThat( event.getInt( "bufferCapacity" ) ).isGreaterThanOrEqualTo( sql.length() );
+					assertThat( event.getInt( "initialBufferCapacity" ) ).isPositive();
+				}
+		);
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
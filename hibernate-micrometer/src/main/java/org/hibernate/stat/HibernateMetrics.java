@@ -142,6 +142,9 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements", "The number of cached prepared statements that were reused",
+				Statistics::getPrepareStatementCacheHitCount, "status", "reused"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
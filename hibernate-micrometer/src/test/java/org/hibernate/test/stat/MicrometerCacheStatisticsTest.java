@@ -101,6 +101,7 @@ public void testMicrometerMetrics() {
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "reused").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.second.level.cache.requests").tags("result", "hit", "region", REGION));
 		Assert.assertNotNull(registry.get("hibernate.second.level.cache.requests").tags("result", "miss", "region", REGION));
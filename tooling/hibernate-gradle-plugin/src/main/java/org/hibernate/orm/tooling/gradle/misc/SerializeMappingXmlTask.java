@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle.misc;
+
+import java.io.File;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.SourceTask;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.boot.jaxb.hbm.transform.UnsupportedFeatureHandling;
+import org.hibernate.boot.jaxb.internal.CacheableFileXmlSource;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+
+/**
+ * Task to bind mapping XML files ({@code hbm.xml} and {@code orm.xml}) at build time,
+ * writing the serialized binding of each as {@code {xmlFile}.bin} into the
+ * {@link #getOutputDirectory() output directory}, under the same relative path as the
+ * XML file in its source directory, so that mapping files of the same name in different
+ * directories do not overwrite each other.
+ * <p>
+ * At runtime, {@link org.hibernate.boot.MetadataSources#addCacheableFile(File, File)}
+ * reads these serialized bindings directly, instead of parsing and binding the XML,
+ * as long as the XML file still has the SHA-256 digest recorded next to its serialized
+ * binding, when passed the directory of the serialized binding as the cache directory.
+ * This only covers mapping XML files read from the file system, not mapping files in
+ * jars, nor annotated entity classes, and just moves the work that method would do on
+ * its first run to the build.
+ *
+ * @see org.hibernate.boot.MetadataSources#addCacheableFile(File, File)
+ */
+@CacheableTask
+public abstract class SerializeMappingXmlTask extends SourceTask {
+	private final DirectoryProperty outputDirectory;
+
+	public SerializeMappingXmlTask() {
+		this.outputDirectory = getProject().getObjects().directoryProperty();
+	}
+
+	/**
+	 * The directory the serialized bindings are written to, which is the cache
+	 * directory to pass to {@link org.hibernate.boot.MetadataSources#addCacheableFile(File, File)}.
+	 */
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@TaskAction
+	public void serializeFiles() {
+		final MappingBinder mappingBinder = new MappingBinder(
+				MappingBinder.class.getClassLoader()::getResourceAsStream,
+				UnsupportedFeatureHandling.ERROR
+		);
+
+		final File outputDir = outputDirectory.get().getAsFile();
+		//noinspection ResultOfMethodCallIgnored
+		outputDir.mkdirs();
+
+		getSource().visit( (details) -> {
+			if ( !details.isDirectory() ) {
+				final File xmlFile = details.getFile();
+				final File serFile = new File( outputDir, details.getPath() + ".bin" );
+				getProject().getLogger().debug( "Serializing mapping binding of `{}` to `{}`", xmlFile, serFile );
+				//noinspection ResultOfMethodCallIgnored
+				serFile.getParentFile().mkdirs();
+				CacheableFileXmlSource.createSerFile( xmlFile, serFile, mappingBinder );
+			}
+		} );
+	}
+}
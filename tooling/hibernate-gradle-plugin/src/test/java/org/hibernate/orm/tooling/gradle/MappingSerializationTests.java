@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+
+/**
+ * Tests for {@link org.hibernate.orm.tooling.gradle.misc.SerializeMappingXmlTask}
+ */
+class MappingSerializationTests {
+	@Test
+	void testSerializeMappings(@TempDir Path projectDir) {
+		Copier.copyProject( "hbm/build.gradle", projectDir );
+
+		final GradleRunner gradleRunner = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "clean", "serializeMappings", "--stacktrace", "--no-build-cache" )
+				.forwardOutput();
+		final BuildResult result = gradleRunner.build();
+
+		final BuildTask serializationResult = result.task( ":serializeMappings" );
+		assertThat( serializationResult ).isNotNull();
+		assertThat( serializationResult.getOutcome() ).isEqualTo( SUCCESS );
+
+		final File cacheDir = new File( projectDir.toFile(), "build/hibernate-mapping-cache" );
+		final File serFile = new File( cacheDir, "simple.hbm.xml.bin" );
+		assertThat( serFile ).exists();
+		assertThat( serFile.length() ).isGreaterThan( 0L );
+
+		// a mapping file of the same name in another directory keeps its relative path
+		final File otherSerFile = new File( cacheDir, "other/simple.hbm.xml.bin" );
+		assertThat( otherSerFile ).exists();
+		assertThat( otherSerFile.length() ).isGreaterThan( 0L );
+		assertThat( otherSerFile ).doesNotHaveSameContentAs( serFile );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.shared.model.fileset.FileSet;
+import org.apache.maven.shared.model.fileset.util.FileSetManager;
+import org.hibernate.boot.jaxb.hbm.transform.UnsupportedFeatureHandling;
+import org.hibernate.boot.jaxb.internal.CacheableFileXmlSource;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+
+import java.io.File;
+
+/**
+ * Maven mojo for binding mapping XML files ({@code hbm.xml} and {@code orm.xml})
+ * at build time. The serialized binding of each file is written as {@code {xmlFile}.bin}
+ * into the output directory, under the same relative path as the XML file in its
+ * file set, so that mapping files of the same name in different directories do not
+ * overwrite each other.
+ * <p>
+ * This only covers mapping XML files read from the file system via
+ * {@link org.hibernate.boot.MetadataSources#addCacheableFile(File, File)}, passing the
+ * directory of the serialized binding as the cache directory, not mapping files in jars,
+ * nor annotated entity classes. The serialized binding is used as long as the XML file
+ * still has the SHA-256 digest recorded next to it. This just moves the work that method
+ * would do on its first run to the build.
+ */
+@Mojo(name = "cache-mappings", defaultPhase = LifecyclePhase.PROCESS_RESOURCES)
+public class HibernateMappingCacheMojo extends AbstractMojo {
+
+	@Parameter
+	private FileSet[] fileSets;
+
+	@Parameter(
+			defaultValue = "${project.build.outputDirectory}",
+			readonly = true,
+			required = true)
+	private File classesDirectory;
+
+	@Parameter(
+			defaultValue = "${project.build.directory}/hibernate-mapping-cache",
+			required = true)
+	private File outputDirectory;
+
+	public void execute() {
+		getLog().debug(STARTING_EXECUTION_OF_CACHE_MAPPINGS_MOJO);
+		if (fileSets == null) {
+			fileSets = new FileSet[1];
+			fileSets[0] = new FileSet();
+			fileSets[0].setDirectory(classesDirectory.getAbsolutePath());
+			fileSets[0].addInclude("**/*.hbm.xml");
+			fileSets[0].addInclude("**/orm.xml");
+			getLog().debug(ADDED_DEFAULT_FILESET_WITH_BASE_DIRECTORY.formatted(fileSets[0].getDirectory()));
+		}
+		if (!outputDirectory.exists() && !outputDirectory.mkdirs()) {
+			getLog().error(UNABLE_TO_CREATE_OUTPUT_DIRECTORY.formatted(outputDirectory));
+			return;
+		}
+		final MappingBinder mappingBinder = new MappingBinder(
+				MappingBinder.class.getClassLoader()::getResourceAsStream,
+				UnsupportedFeatureHandling.ERROR);
+		final FileSetManager fileSetManager = new FileSetManager();
+		for (FileSet fileSet : fileSets) {
+			final File baseDir = fileSet.getDirectory() == null
+					? classesDirectory
+					: new File(fileSet.getDirectory());
+			for (String fileName : fileSetManager.getIncludedFiles(fileSet)) {
+				final File xmlFile = new File(baseDir, fileName);
+				final File serFile = new File(outputDirectory, fileName + ".bin");
+				if (!serFile.getParentFile().exists() && !serFile.getParentFile().mkdirs()) {
+					getLog().error(UNABLE_TO_CREATE_OUTPUT_DIRECTORY.formatted(serFile.getParentFile()));
+					return;
+				}
+				CacheableFileXmlSource.createSerFile(xmlFile, serFile, mappingBinder);
+				getLog().info(SERIALIZED_MAPPING_FILE.formatted(xmlFile, serFile));
+			}
+		}
+		getLog().debug(ENDING_EXECUTION_OF_CACHE_MAPPINGS_MOJO);
+	}
+
+	// info messages
+	static final String SERIALIZED_MAPPING_FILE = "Serialized the binding of mapping file: %s to: %s";
+
+	// error messages
+	static final String UNABLE_TO_CREATE_OUTPUT_DIRECTORY = "Unable to create output directory: %s";
+
+	// debug messages
+	static final String ADDED_DEFAULT_FILESET_WITH_BASE_DIRECTORY = "Added a default FileSet with base directory: %s";
+	static final String STARTING_EXECUTION_OF_CACHE_MAPPINGS_MOJO = "Starting execution of cache-mappings mojo";
+	static final String ENDING_EXECUTION_OF_CACHE_MAPPINGS_MOJO = "Ending execution of cache-mappings mojo";
+
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HibernateMappingCacheMojoTest {
+
+	@TempDir
+	File tempDir;
+
+	private final List<String> logMessages = new ArrayList<>();
+
+	private File classesDirectory;  // folder '${tempDir}/classes'
+	private File outputDirectory;   // folder '${tempDir}/hibernate-mapping-cache'
+	private File fooMappingFile;    // file '${classesDirectory}/org/foo/Entity.hbm.xml'
+	private File barMappingFile;    // file '${classesDirectory}/org/bar/Entity.hbm.xml'
+
+	private HibernateMappingCacheMojo cacheMojo;
+
+	@BeforeEach
+	void beforeEach() throws Exception {
+		cacheMojo = new HibernateMappingCacheMojo();
+		cacheMojo.setLog(createLog());
+		classesDirectory = new File(tempDir, "classes");
+		outputDirectory = new File(tempDir, "hibernate-mapping-cache");
+		setField("classesDirectory", classesDirectory);
+		setField("outputDirectory", outputDirectory);
+		fooMappingFile = createMappingFile("org/foo", "foo");
+		barMappingFile = createMappingFile("org/bar", "bar");
+	}
+
+	@Test
+	void testExecute() throws Exception {
+		cacheMojo.execute();
+		final File fooSerFile = new File(outputDirectory, "org/foo/Entity.hbm.xml.bin");
+		final File barSerFile = new File(outputDirectory, "org/bar/Entity.hbm.xml.bin");
+		// mapping files of the same name do not overwrite each other
+		assertTrue(fooSerFile.exists());
+		assertTrue(barSerFile.exists());
+		assertTrue(fooSerFile.length() > 0);
+		assertTrue(barSerFile.length() > 0);
+		// the digest of the mapping file is recorded along with its binding
+		assertTrue(new File(outputDirectory, "org/foo/Entity.hbm.xml.bin.sha256").exists());
+		assertTrue(new File(outputDirectory, "org/bar/Entity.hbm.xml.bin.sha256").exists());
+		// verify the log messages
+		assertEquals(5, logMessages.size());
+		assertTrue(logMessages.contains(DEBUG + HibernateMappingCacheMojo.STARTING_EXECUTION_OF_CACHE_MAPPINGS_MOJO));
+		assertTrue(logMessages.contains(DEBUG + HibernateMappingCacheMojo.ADDED_DEFAULT_FILESET_WITH_BASE_DIRECTORY.formatted(classesDirectory.getAbsolutePath())));
+		assertTrue(logMessages.contains(INFO + HibernateMappingCacheMojo.SERIALIZED_MAPPING_FILE.formatted(fooMappingFile, fooSerFile)));
+		assertTrue(logMessages.contains(INFO + HibernateMappingCacheMojo.SERIALIZED_MAPPING_FILE.formatted(barMappingFile, barSerFile)));
+		assertTrue(logMessages.contains(DEBUG + HibernateMappingCacheMojo.ENDING_EXECUTION_OF_CACHE_MAPPINGS_MOJO));
+	}
+
+	private File createMappingFile(String folder, String entityName) throws Exception {
+		final File mappingFolder = new File(classesDirectory, folder);
+		mappingFolder.mkdirs();
+		final File mappingFile = new File(mappingFolder, "Entity.hbm.xml");
+		Files.writeString(
+				mappingFile.toPath(),
+				"""
+				<?xml version="1.0"?>
+				<!DOCTYPE hibernate-mapping PUBLIC "-//Hibernate/Hibernate Mapping DTD 3.0//EN"
+				        "http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd">
+				<hibernate-mapping>
+				    <class entity-name="%s">
+				        <id name="id" type="integer"/>
+				        <property name="name" type="string"/>
+				    </class>
+				</hibernate-mapping>
+				""".formatted(entityName));
+		return mappingFile;
+	}
+
+	private void setField(String name, Object value) throws Exception {
+		final Field field = HibernateMappingCacheMojo.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(cacheMojo, value);
+	}
+
+	private Log createLog() {
+		return (Log)Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { Log.class},
+				(proxy, method, args) -> {
+					if ("info".equals(method.getName())) {
+						logMessages.add(INFO + args[0]);
+					} else if ("warn".equals(method.getName())) {
+						logMessages.add(WARNING + args[0]);
+					} else if ("error".equals(method.getName())) {
+						logMessages.add(ERROR + args[0]);
+					} else if ("debug".equals(method.getName())) {
+						logMessages.add(DEBUG + args[0]);
+					}
+					return null;
+				});
+	}
+
+	static final String DEBUG = "[DEBUG] ";
+	static final String ERROR = "[ERROR] ";
+	static final String WARNING = "[WARNING] ";
+	static final String INFO = "[INFO] ";
+
+}